@@ -2,15 +2,20 @@ package com.minecolonies.api.compatibility;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableSet;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.util.Utils;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockLeaves;
 import net.minecraft.block.BlockOre;
 import net.minecraft.block.BlockRedstoneOre;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.creativetab.CreativeTabs;
+import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -19,6 +24,7 @@ import net.minecraft.nbt.NBTUtil;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -27,10 +33,12 @@ import net.minecraftforge.oredict.OreDictionary;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
 import static com.minecolonies.api.util.constant.Constants.ORES;
 import static com.minecolonies.api.util.constant.Constants.SAPLINGS;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -40,6 +48,32 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
  */
 public class CompatabilityManager implements ICompatabilityManager
 {
+    /**
+     * Metadata flag of the upper half of a double plant.
+     */
+    private static final int UPPER_HALF_FLAG = 0x08;
+
+    /**
+     * Registry names of the substitution blocks.
+     */
+    private static final Set<ResourceLocation> SUBSTITUTION_BLOCKS = ImmutableSet.of(
+      new ResourceLocation(MOD_ID, "blocksubstitution"),
+      new ResourceLocation(MOD_ID, "blocksolidsubstitution"));
+
+    /**
+     * Traits of block states, the hot paths of the AI look these up per block.
+     */
+    private enum Trait
+    {
+        ORE,
+        LEAF,
+        SAPLING_SOURCE,
+        FREE_TO_BUILD,
+        SUBSTITUTION;
+
+        private static final Trait[] VALUES = values();
+    }
+
     /**
      * BiMap of saplings and leaves.
      */
@@ -55,8 +89,14 @@ public class CompatabilityManager implements ICompatabilityManager
      */
     private final List<IBlockState> ores = new ArrayList<>();
 
+    /**
+     * The traits of all block states, the bit of a trait is at the global state id times the amount of traits plus the trait ordinal.
+     * Null until classified, a table is never changed once published, it is replaced as a whole.
+     */
+    private volatile BitSet traits = null;
+
     @Override
-    public void discover(final World world)
+    public synchronized void discover(final World world)
     {
         discoverSaplings();
         for(final String string: OreDictionary.getOreNames())
@@ -66,6 +106,7 @@ public class CompatabilityManager implements ICompatabilityManager
                 discoverOres(world, string);
             }
         }
+        classify();
     }
 
     @Override
@@ -81,6 +122,10 @@ public class CompatabilityManager implements ICompatabilityManager
     @Override
     public ItemStack getSaplingForLeave(final IBlockState block)
     {
+        if (!hasTrait(block, Trait.SAPLING_SOURCE))
+        {
+            return null;
+        }
         final ItemStack stack = new ItemStack(block.getBlock(), 1, block.getBlock().getMetaFromState(block));
         final IBlockState tempLeave = BlockLeaves.getBlockFromItem(stack.getItem()).getStateFromMeta(stack.getMetadata());
         if(leavesToSaplingMap.containsKey(tempLeave))
@@ -99,13 +144,25 @@ public class CompatabilityManager implements ICompatabilityManager
     @Override
     public boolean isOre(final IBlockState block)
     {
-        if(block instanceof BlockOre || block instanceof BlockRedstoneOre)
-        {
-            return true;
-        }
-        final ItemStack tempStack = new ItemStack(block.getBlock(), 1, block.getBlock().getMetaFromState(block));
-        final IBlockState temp = BlockLeaves.getBlockFromItem(tempStack.getItem()).getStateFromMeta(tempStack.getMetadata());
-        return ores.contains(temp);
+        return hasTrait(block, Trait.ORE);
+    }
+
+    @Override
+    public boolean isLeave(final IBlockState block)
+    {
+        return hasTrait(block, Trait.LEAF);
+    }
+
+    @Override
+    public boolean isFreeToBuild(final IBlockState block)
+    {
+        return hasTrait(block, Trait.FREE_TO_BUILD);
+    }
+
+    @Override
+    public boolean isSubstitution(final IBlockState block)
+    {
+        return hasTrait(block, Trait.SUBSTITUTION);
     }
 
     @Override
@@ -124,8 +181,9 @@ public class CompatabilityManager implements ICompatabilityManager
     }
 
     @Override
-    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    public synchronized void readFromNBT(@NotNull final NBTTagCompound compound)
     {
+        traits = null;
         leavesToSaplingMap.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_SAP_LEAVE, Constants.NBT.TAG_COMPOUND))
                                 .map(CompatabilityManager::readLeaveSaplingEntryFromNBT)
                                 .collect(Collectors.toMap(Tuple::getFirst, Tuple::getSecond)));
@@ -136,21 +194,73 @@ public class CompatabilityManager implements ICompatabilityManager
         ores.addAll(NBTUtils.streamCompound(compound.getTagList(TAG_ORES, Constants.NBT.TAG_COMPOUND))
                 .map(NBTUtil::readBlockState)
                 .collect(Collectors.toList()));
+        classify();
     }
 
     @Override
-    public void connectLeaveToSapling(final IBlockState leave, final ItemStack stack)
+    public synchronized void connectLeaveToSapling(final IBlockState leave, final ItemStack stack)
     {
         final ItemStack tempStack = new ItemStack(leave.getBlock(), 1, leave.getBlock().getMetaFromState(leave));
         final IBlockState tempLeave = BlockLeaves.getBlockFromItem(tempStack.getItem()).getStateFromMeta(tempStack.getMetadata());
         if(!leavesToSaplingMap.containsKey(tempLeave) && !leavesToSaplingMap.containsValue(new ItemStorage(stack)))
         {
             leavesToSaplingMap.put(tempLeave, new ItemStorage(stack));
+            if (traits != null)
+            {
+                final BitSet table = (BitSet) traits.clone();
+                table.set(Block.getStateId(tempLeave) * Trait.VALUES.length + Trait.SAPLING_SOURCE.ordinal());
+                table.set(Block.getStateId(tempLeave) * Trait.VALUES.length + Trait.LEAF.ordinal());
+                traits = table;
+            }
         }
     }
 
     //------------------------------- Private Utility Methods -------------------------------//
 
+    /**
+     * Check if a block state has a trait, classifying all block states first if needed.
+     *
+     * @param state the block state.
+     * @param trait the trait.
+     * @return true if so.
+     */
+    private boolean hasTrait(final IBlockState state, final Trait trait)
+    {
+        final BitSet table = traits == null ? classify() : traits;
+        return table.get(Block.getStateId(state) * Trait.VALUES.length + trait.ordinal());
+    }
+
+    /**
+     * Fill the trait table of all block states, the states are compared by block and metadata.
+     *
+     * @return the published table.
+     */
+    private synchronized BitSet classify()
+    {
+        final Set<Integer> oreIds = ores.stream().map(Block::getStateId).collect(Collectors.toSet());
+        final Set<Integer> saplingSourceIds = leavesToSaplingMap.keySet().stream().map(Block::getStateId).collect(Collectors.toSet());
+        final BitSet table = new BitSet();
+
+        for (final IBlockState state : Block.BLOCK_STATE_IDS)
+        {
+            final int id = Block.getStateId(state);
+            final Block block = state.getBlock();
+            final int index = id * Trait.VALUES.length;
+
+            table.set(index + Trait.ORE.ordinal(), block instanceof BlockOre || block instanceof BlockRedstoneOre || oreIds.contains(id));
+            table.set(index + Trait.LEAF.ordinal(), block instanceof BlockLeaves || saplingSourceIds.contains(id));
+            table.set(index + Trait.SAPLING_SOURCE.ordinal(), saplingSourceIds.contains(id));
+            table.set(index + Trait.FREE_TO_BUILD.ordinal(), BlockUtils.isWater(block.getDefaultState())
+                                                               || block == Blocks.LEAVES
+                                                               || block == Blocks.LEAVES2
+                                                               || (block == Blocks.DOUBLE_PLANT && Utils.testFlag(block.getMetaFromState(state), UPPER_HALF_FLAG)));
+            table.set(index + Trait.SUBSTITUTION.ordinal(), SUBSTITUTION_BLOCKS.contains(block.getRegistryName()));
+        }
+
+        traits = table;
+        return table;
+    }
+
     private void discoverOres(final World world, final String string)
     {
         for (final ItemStack ore : OreDictionary.getOres(string))
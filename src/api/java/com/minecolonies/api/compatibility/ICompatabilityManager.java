@@ -49,6 +49,27 @@ public interface ICompatabilityManager
      */
     boolean isOre(final IBlockState block);
 
+    /**
+     * Checks if a certain Block is a leave.
+     * @param block the block to check.
+     * @return boolean if so.
+     */
+    boolean isLeave(final IBlockState block);
+
+    /**
+     * Checks if a certain Block can be built without materials.
+     * @param block the block to check.
+     * @return boolean if so.
+     */
+    boolean isFreeToBuild(final IBlockState block);
+
+    /**
+     * Checks if a certain Block is a substitution block of a structure.
+     * @param block the block to check.
+     * @return boolean if so.
+     */
+    boolean isSubstitution(final IBlockState block);
+
     /**
      * Write colonies to NBT data for saving.
      *
@@ -87,6 +87,12 @@ public class Configurations
         @Config.Comment("Max amount of schematics to be cached on the server")
         public int maxCachedSchematics = 100;
 
+        @Config.Comment("Amount of schematic chunks sent per player and per tick (Increasing it, speeds up transfers but uses more bandwidth)")
+        public int schematicChunksPerTick = 2;
+
+        @Config.Comment("Memory in megabytes used to keep parsed schematics loaded (Lowering it, saves memory but schematics are parsed more often)")
+        public int templateCacheSize = 64;
+
         @Config.Comment("Should players be allowed to change names? -1 for false, 0 for specific groups, 1 for true")
         public  int allowGlobalNameChanges = 1;
 
@@ -169,6 +175,18 @@ public class Configurations
         @Config.Comment("Chat frequency of worker requests")
         public int chatFrequency = 30;
 
+        @Config.Comment("Range to a player in which citizens run all their updates every tick")
+        public int citizenFullRateRange = 64;
+
+        @Config.Comment("Ticks between the expensive updates of citizens far from players, idle or asleep (1 to update every tick)")
+        public int citizenReducedTickInterval = 10;
+
+        @Config.Comment("Ticks between logs of how many citizen updates were skipped (0 to disable)")
+        public int citizenTickStatisticsInterval = 0;
+
+        @Config.Comment("Nanoseconds per tick the worker ais of one colony may use before further ais wait for the next tick (0 for no limit)")
+        public int colonyAITickBudgetNanos = 10000000;
+
         @Config.Comment("Should in development features be enabled (might be buggy)")
         public boolean enableInDevelopmentFeatures = false;
 
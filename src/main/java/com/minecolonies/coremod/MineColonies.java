@@ -8,6 +8,7 @@ import com.minecolonies.coremod.colony.requestsystem.init.StandardFactoryControl
 import com.minecolonies.coremod.commands.CommandEntryPoint;
 import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
+import com.minecolonies.coremod.network.NetworkTelemetry;
 import com.minecolonies.coremod.network.messages.*;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
@@ -144,8 +145,7 @@ public class MineColonies
         getNetwork().registerMessage(ColonyViewRemoveBuildingMessage.class, ColonyViewRemoveBuildingMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(PermissionsMessage.View.class, PermissionsMessage.View.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyStylesMessage.class, ColonyStylesMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(ColonyViewWorkOrdersMessage.class, ColonyViewWorkOrdersMessage.class, ++id, Side.CLIENT);
 
         //  Permission Request messages
         getNetwork().registerMessage(PermissionsMessage.Permission.class, PermissionsMessage.Permission.class, ++id, Side.SERVER);
@@ -182,12 +182,16 @@ public class MineColonies
 
         // Schematic transfer messages
         getNetwork().registerMessage(SchematicRequestMessage.class, SchematicRequestMessage.class, ++id, Side.SERVER);
-        getNetwork().registerMessage(SchematicSaveMessage.class, SchematicSaveMessage.class, ++id, Side.CLIENT);
-        getNetwork().registerMessage(SchematicSaveMessage.class, SchematicSaveMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(SchematicOfferMessage.class, SchematicOfferMessage.class, ++id, Side.SERVER);
+        getNetwork().registerMessage(SchematicOfferAnswerMessage.class, SchematicOfferAnswerMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(SchematicChunkMessage.class, SchematicChunkMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(SchematicChunkMessage.class, SchematicChunkMessage.class, ++id, Side.SERVER);
 
         //Client side only
         getNetwork().registerMessage(BlockParticleEffectMessage.class, BlockParticleEffectMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(SaveScanMessage.class, SaveScanMessage.class, ++id, Side.CLIENT);
+
+        NetworkTelemetry.install(Constants.MOD_NAME);
     }
 
     public static SimpleNetworkWrapper getNetwork()
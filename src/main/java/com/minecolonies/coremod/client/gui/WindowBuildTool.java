@@ -12,10 +12,10 @@ import com.minecolonies.coremod.colony.StructureName;
 import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.items.ItemSupplyCampDeployer;
 import com.minecolonies.coremod.items.ItemSupplyChestDeployer;
+import com.minecolonies.coremod.network.SchematicTransferManager;
 import com.minecolonies.coremod.network.messages.BuildToolPasteMessage;
 import com.minecolonies.coremod.network.messages.BuildToolPlaceMessage;
 import com.minecolonies.coremod.network.messages.SchematicRequestMessage;
-import com.minecolonies.coremod.network.messages.SchematicSaveMessage;
 import com.minecolonies.structures.helpers.Settings;
 import com.minecolonies.structures.helpers.Structure;
 import net.minecraft.block.Block;
@@ -903,7 +903,7 @@ public class WindowBuildTool extends AbstractWindowSkeleton
             Log.getLogger().info("Request To Server for structure " + structureName);
             if (FMLCommonHandler.instance().getMinecraftServerInstance() == null)
             {
-                MineColonies.getNetwork().sendToServer(new SchematicRequestMessage(structureName.toString()));
+                MineColonies.getNetwork().sendToServer(new SchematicRequestMessage(structureName.toString(), md5));
                 return;
             }
             else
@@ -945,7 +945,7 @@ public class WindowBuildTool extends AbstractWindowSkeleton
                 if (stream != null)
                 {
                     Log.getLogger().info("BuilderTool: sending schematic " + structureName + "(md5:" + md5 + ") to the server");
-                    MineColonies.getNetwork().sendToServer(new SchematicSaveMessage(Structure.getStreamAsByteArray(stream)));
+                    SchematicTransferManager.offerToServer(Structure.getStreamAsByteArray(stream));
                 }
                 else
                 {
@@ -93,6 +93,21 @@ public class Colony implements IColony
      */
     private final IBarbarianManager barbarianManager = new BarbarianManager();
 
+    /**
+     * Schedule manager of the worker ais of the colony.
+     */
+    private final IAIScheduleManager aiScheduleManager = new AIScheduleManager();
+
+    /**
+     * Threat manager of the colony, tracking the hostile entities for the guards.
+     */
+    private final IThreatManager threatManager = new ThreatManager(this);
+
+    /**
+     * Pond manager of the colony, indexing the water around the fisherman huts.
+     */
+    private final IPondManager pondManager = new PondManager(this);
+
     /**
      * The Positions which players can freely interact.
      */
@@ -580,6 +595,11 @@ public class Colony implements IColony
                 Structures.clearDirty();
             }
         }
+        else
+        {
+            //  Nobody holds the workOrder views, the next subscriber receives all of them.
+            workManager.setDirty(false);
+        }
 
         isDirty = false;
         permissions.clearDirty();
@@ -605,6 +625,8 @@ public class Colony implements IColony
 
     /**
      * Sends packages to update the permissions.
+     * One message is built per rank and shared between the subscribers of that rank.
+     * Existing subscribers only receive the player changes, new subscribers receive all players.
      *
      * @param oldSubscribers    the existing subscribers.
      * @param hasNewSubscribers the new subscribers.
@@ -613,18 +635,35 @@ public class Colony implements IColony
     {
         if (permissions.isDirty() || hasNewSubscribers)
         {
-            subscribers
-              .stream()
-              .filter(player -> permissions.isDirty() || !oldSubscribers.contains(player)).forEach(player ->
+            final Map<Rank, PermissionsMessage.View> fullViews = new EnumMap<>(Rank.class);
+            final Map<Rank, PermissionsMessage.View> deltaViews = new EnumMap<>(Rank.class);
+            for (final EntityPlayerMP player : subscribers)
             {
+                final boolean isNewSubscriber = !oldSubscribers.contains(player);
+                if (!isNewSubscriber && !permissions.isDirty())
+                {
+                    continue;
+                }
+
                 final Rank rank = getPermissions().getRank(player);
-                MineColonies.getNetwork().sendTo(new PermissionsMessage.View(this, rank), player);
-            });
+                final PermissionsMessage.View view;
+                if (isNewSubscriber || permissions.isFullSyncNeeded())
+                {
+                    view = fullViews.computeIfAbsent(rank, r -> new PermissionsMessage.View(this, r, true));
+                }
+                else
+                {
+                    view = deltaViews.computeIfAbsent(rank, r -> new PermissionsMessage.View(this, r, false));
+                }
+                MineColonies.getNetwork().sendTo(view, player);
+            }
         }
     }
 
     /**
      * Sends packages to update the workOrders.
+     * Existing subscribers only receive the changed and removed workOrders, new subscribers receive all of them.
+     * Each packet is built once and shared between the subscribers.
      *
      * @param oldSubscribers    the existing subscribers.
      * @param hasNewSubscribers the new subscribers.
@@ -633,10 +672,29 @@ public class Colony implements IColony
     {
         if (getWorkManager().isDirty() || hasNewSubscribers)
         {
-            for (final AbstractWorkOrder workOrder : getWorkManager().getWorkOrders().values())
+            ColonyViewWorkOrdersMessage deltaMessage = null;
+            ColonyViewWorkOrdersMessage fullMessage = null;
+
+            final List<AbstractWorkOrder> changedWorkOrders = getWorkManager().getChangedWorkOrders();
+            final Set<Integer> removedWorkOrders = getWorkManager().getRemovedWorkOrders();
+            for (final EntityPlayerMP player : subscribers)
             {
-                subscribers.stream().filter(player -> workManager.isDirty() || !oldSubscribers.contains(player))
-                  .forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(this, workOrder), player));
+                if (!oldSubscribers.contains(player))
+                {
+                    if (fullMessage == null)
+                    {
+                        fullMessage = new ColonyViewWorkOrdersMessage(this, getWorkManager().getWorkOrders().values(), Collections.emptyList());
+                    }
+                    MineColonies.getNetwork().sendTo(fullMessage, player);
+                }
+                else if (!changedWorkOrders.isEmpty() || !removedWorkOrders.isEmpty())
+                {
+                    if (deltaMessage == null)
+                    {
+                        deltaMessage = new ColonyViewWorkOrdersMessage(this, changedWorkOrders, removedWorkOrders);
+                    }
+                    MineColonies.getNetwork().sendTo(deltaMessage, player);
+                }
             }
 
             getWorkManager().setDirty(false);
@@ -1046,20 +1104,6 @@ public class Colony implements IColony
         markDirty();
     }
 
-    /**
-     * Send the message of a removed workOrder to the client.
-     *
-     * @param orderId the workOrder to remove.
-     */
-    public void removeWorkOrder(final int orderId)
-    {
-        //  Inform Subscribers of removed workOrder
-        for (final EntityPlayerMP player : subscribers)
-        {
-            MineColonies.getNetwork().sendTo(new ColonyViewRemoveWorkOrderMessage(this, orderId), player);
-        }
-    }
-
     /**
      * Performed when a building of this colony finished his upgrade state.
      *
@@ -1203,6 +1247,33 @@ public class Colony implements IColony
         return barbarianManager;
     }
 
+    /**
+     * Get the schedule manager of the worker ais of the colony.
+     * @return the aiScheduleManager.
+     */
+    public IAIScheduleManager getAIScheduleManager()
+    {
+        return aiScheduleManager;
+    }
+
+    /**
+     * Get the threat manager of the colony.
+     * @return the threatManager.
+     */
+    public IThreatManager getThreatManager()
+    {
+        return threatManager;
+    }
+
+    /**
+     * Get the pond manager of the colony.
+     * @return the pondManager.
+     */
+    public IPondManager getPondManager()
+    {
+        return pondManager;
+    }
+
     @NotNull
     public Set<EntityPlayerMP> getSubscribers()
     {
@@ -13,7 +13,11 @@ import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
+import com.minecolonies.coremod.entity.CitizenTickScheduler;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.citizen.miner.MinerTemplates;
+import com.minecolonies.coremod.entity.ai.util.DroppedItemIndex;
+import com.minecolonies.coremod.entity.ai.util.StructureWorkQueue;
 import com.minecolonies.coremod.util.AchievementUtils;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
@@ -582,6 +586,10 @@ public final class ColonyManager
         {
             c.onServerTick(event);
         }
+        if (event.phase == TickEvent.Phase.END)
+        {
+            CitizenTickScheduler.onServerTick();
+        }
 
         if (saveNeeded)
         {
@@ -734,6 +742,7 @@ public final class ColonyManager
             }
 
             world.addEventListener(new ColonyManagerWorldAccess());
+            StructureWorkQueue.trackWorld(world);
         }
     }
 
@@ -861,6 +870,8 @@ public final class ColonyManager
      */
     public static void onWorldUnload(@NotNull final World world)
     {
+        DroppedItemIndex.onWorldUnload(world);
+
         if (!world.isRemote && !(world instanceof WorldServerMulti))
         {
             if (world.provider.getDimension() == 0)
@@ -879,6 +890,7 @@ public final class ColonyManager
             {
                 colonies.clear();
                 coloniesByWorld.clear();
+                MinerTemplates.clear();
             }
         }
     }
@@ -961,23 +973,23 @@ public final class ColonyManager
     }
 
     /**
-     * Returns result of {@link ColonyView#handleColonyViewWorkOrderMessage(ByteBuf)}
-     * (int, ByteBuf)} if {@link #getColonyView(int)} gives a not-null result.
+     * Returns result of {@link ColonyView#handleColonyViewWorkOrdersMessage(ByteBuf)}
+     * if {@link #getColonyView(int)} gives a not-null result.
      * If {@link #getColonyView(int)} is null, returns null.
      *
      * @param colonyId ID of the colony.
-     * @param buf      {@link ByteBuf} with colony data.
-     * @return result of {@link ColonyView#handleColonyViewWorkOrderMessage(ByteBuf)}
+     * @param buf      {@link ByteBuf} with the workOrders data.
+     * @return result of {@link ColonyView#handleColonyViewWorkOrdersMessage(ByteBuf)}
      * or null.
      */
-    public static IMessage handleColonyViewWorkOrderMessage(final int colonyId, final ByteBuf buf)
+    public static IMessage handleColonyViewWorkOrdersMessage(final int colonyId, final ByteBuf buf)
     {
         final ColonyView view = getColonyView(colonyId);
         if (view == null)
         {
             return null;
         }
-        return view.handleColonyViewWorkOrderMessage(buf);
+        return view.handleColonyViewWorkOrdersMessage(buf);
     }
 
     /**
@@ -1051,29 +1063,6 @@ public final class ColonyManager
         return null;
     }
 
-    /**
-     * Returns result of {@link ColonyView#handleColonyViewRemoveWorkOrderMessage(int)}
-     * if {@link #getColonyView(int)} gives a not-null result. If {@link
-     * #getColonyView(int)} is null, returns null.
-     *
-     * @param colonyId    ID of the colony.
-     * @param workOrderId ID of the workOrder.
-     * @return result of {@link ColonyView#handleColonyViewRemoveWorkOrderMessage(int)}
-     * or null.
-     */
-    public static IMessage handleColonyViewRemoveWorkOrderMessage(final int colonyId, final int workOrderId)
-    {
-        final ColonyView view = getColonyView(colonyId);
-        if (view != null)
-        {
-            //  Can legitimately be NULL, because (to keep the code simple and fast), it is
-            //  possible to receive a 'remove' notice before receiving the View.
-            return view.handleColonyViewRemoveWorkOrderMessage(workOrderId);
-        }
-
-        return null;
-    }
-
     /**
      * Whether or not a new schematic have been downloaded.
      *
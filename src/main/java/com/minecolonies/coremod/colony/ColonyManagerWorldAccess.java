@@ -1,6 +1,14 @@
 package com.minecolonies.coremod.colony;
 
+import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.coremod.blocks.AbstractBlockHut;
+import com.minecolonies.coremod.blocks.BlockHutField;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldModel;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
+import com.minecolonies.coremod.entity.ai.util.DroppedItemIndex;
+import com.minecolonies.coremod.entity.ai.util.StructureWorkQueue;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -9,9 +17,10 @@ import net.minecraft.util.SoundEvent;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IWorldEventListener;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal events and to block updates.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -19,8 +28,37 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(final World worldIn, final BlockPos pos, final IBlockState oldState, final IBlockState newState, final int flags)
     {
-        //Not needed
+        onBlockChanged(worldIn, pos, oldState, newState);
+    }
+
+    /**
+     * Report a changed block to everything following the blocks of a world.
+     * Called for block updates of the world, and by writers changing blocks without notifying the world.
+     *
+     * @param worldIn  the world.
+     * @param pos      the position.
+     * @param oldState the block before.
+     * @param newState the block now.
+     */
+    public static void onBlockChanged(
+      @NotNull final World worldIn,
+      @NotNull final BlockPos pos,
+      @NotNull final IBlockState oldState,
+      @NotNull final IBlockState newState)
+    {
+        StructureWorkQueue.onBlockUpdate(worldIn, pos);
+        TreeRegistry.onBlockUpdate(worldIn, pos, oldState, newState);
+        FieldModel.onBlockUpdate(worldIn, pos);
 
+        final Block oldBlock = oldState.getBlock();
+        if (oldBlock != newState.getBlock() && (oldBlock instanceof AbstractBlockHut || oldBlock instanceof BlockHutField))
+        {
+            final Colony colony = ColonyManager.getColony(worldIn, pos);
+            if (colony != null)
+            {
+                colony.getBuildingManager().markForValidation(pos);
+            }
+        }
     }
 
     @Override
@@ -80,6 +118,8 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void onEntityAdded(final Entity entity)
     {
+        DroppedItemIndex.onEntityAdded(CompatibilityUtils.getWorld(entity), entity);
+        StructureWorkQueue.onEntityChanged(CompatibilityUtils.getWorld(entity), entity);
         if (entity instanceof EntityCitizen)
         {
             ((EntityCitizen) entity).updateColonyServer();
@@ -89,6 +129,8 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void onEntityRemoved(final Entity entity)
     {
+        DroppedItemIndex.onEntityRemoved(CompatibilityUtils.getWorld(entity), entity);
+        StructureWorkQueue.onEntityChanged(CompatibilityUtils.getWorld(entity), entity);
         if (entity instanceof EntityCitizen)
         {
             final CitizenData citizen = ((EntityCitizen) entity).getCitizenData();
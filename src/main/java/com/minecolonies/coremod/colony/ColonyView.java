@@ -491,20 +491,29 @@ public final class ColonyView implements IColony
     }
 
     /**
-     * Update a ColonyView's workOrders given a network data ColonyView update
-     * packet. This uses a full-replacement - workOrders do not get updated and
-     * are instead overwritten.
+     * Update a ColonyView's workOrders given a batched network data update.
+     * The updated workOrders are fully replaced, the removed ones are dropped.
      *
      * @param buf Network data.
      * @return null == no response.
      */
     @Nullable
-    public IMessage handleColonyViewWorkOrderMessage(final ByteBuf buf)
+    public IMessage handleColonyViewWorkOrdersMessage(final ByteBuf buf)
     {
-        @Nullable final WorkOrderView workOrder = AbstractWorkOrder.createWorkOrderView(buf);
-        if (workOrder != null)
+        final int updated = buf.readInt();
+        for (int i = 0; i < updated; i++)
+        {
+            @Nullable final WorkOrderView workOrder = AbstractWorkOrder.createWorkOrderView(buf);
+            if (workOrder != null)
+            {
+                workOrders.put(workOrder.getId(), workOrder);
+            }
+        }
+
+        final int removed = buf.readInt();
+        for (int i = 0; i < removed; i++)
         {
-            workOrders.put(workOrder.getId(), workOrder);
+            workOrders.remove(buf.readInt());
         }
 
         return null;
@@ -561,20 +570,6 @@ public final class ColonyView implements IColony
         return null;
     }
 
-    /**
-     * Remove a workOrder from the ColonyView.
-     *
-     * @param workOrderId id of the workOrder.
-     * @return null == no response
-     */
-    @Nullable
-    public IMessage handleColonyViewRemoveWorkOrderMessage(final int workOrderId)
-    {
-        workOrders.remove(workOrderId);
-
-        return null;
-    }
-
     /**
      * Update a ColonyView's buildings given a network data ColonyView update
      * packet. This uses a full-replacement - buildings do not get updated and
@@ -0,0 +1,312 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.structures.helpers.Structure;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Remembers the md5 hash and compressed size of the schematic files between startups.
+ * <p>
+ * Every entry stores the size and last modification time of its file, a file is only read and hashed again
+ * when one of them changed. The manifest is saved next to the cache folder of the schematics.
+ */
+public final class SchematicManifest
+{
+    /**
+     * Name of the manifest file.
+     */
+    private static final String MANIFEST_FILE = "schematics.manifest";
+
+    /**
+     * Upper bound of threads used to hash the schematics.
+     */
+    private static final int MAX_THREADS = 4;
+
+    /**
+     * Maximum time to wait for the hashing of the schematics.
+     */
+    private static final long TIMEOUT_MINUTES = 5L;
+
+    /**
+     * Nbt tags.
+     */
+    private static final String TAG_ENTRIES         = "entries";
+    private static final String TAG_PATH            = "path";
+    private static final String TAG_SIZE            = "size";
+    private static final String TAG_MTIME           = "mtime";
+    private static final String TAG_MD5             = "md5";
+    private static final String TAG_COMPRESSED_SIZE = "compressedSize";
+
+    /**
+     * Known entries by path.
+     */
+    private static final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Paths looked up since the manifest was loaded, only these are saved.
+     */
+    private static final Set<String> used = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The file the manifest was loaded from.
+     */
+    @Nullable
+    private static File manifestFile;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private SchematicManifest()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Load the manifest of a cache folder, if it is not loaded already.
+     *
+     * @param folder the cache folder of the schematics, may be null when unknown.
+     */
+    public static synchronized void load(@Nullable final File folder)
+    {
+        final File file = folder == null ? null : new File(folder, MANIFEST_FILE);
+        if (Objects.equals(file, manifestFile))
+        {
+            return;
+        }
+
+        entries.clear();
+        used.clear();
+        manifestFile = file;
+        if (file == null || !file.exists())
+        {
+            return;
+        }
+
+        try
+        {
+            final NBTTagList list = CompressedStreamTools.read(file).getTagList(TAG_ENTRIES, Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < list.tagCount(); i++)
+            {
+                final NBTTagCompound compound = list.getCompoundTagAt(i);
+                entries.put(compound.getString(TAG_PATH), new Entry(compound.getLong(TAG_SIZE),
+                                                                     compound.getLong(TAG_MTIME),
+                                                                     compound.getString(TAG_MD5),
+                                                                     compound.getInteger(TAG_COMPRESSED_SIZE)));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("SchematicManifest: could not read " + file + ", all schematics will be hashed again", e);
+        }
+    }
+
+    /**
+     * Save the entries which were used since the manifest was loaded.
+     */
+    public static synchronized void save()
+    {
+        if (manifestFile == null)
+        {
+            return;
+        }
+
+        final NBTTagList list = new NBTTagList();
+        for (final String path : used)
+        {
+            final Entry entry = entries.get(path);
+            if (entry != null)
+            {
+                final NBTTagCompound compound = new NBTTagCompound();
+                compound.setString(TAG_PATH, path);
+                compound.setLong(TAG_SIZE, entry.size);
+                compound.setLong(TAG_MTIME, entry.mtime);
+                compound.setString(TAG_MD5, entry.md5);
+                compound.setInteger(TAG_COMPRESSED_SIZE, entry.compressedSize);
+                list.appendTag(compound);
+            }
+        }
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(TAG_ENTRIES, list);
+        try
+        {
+            if (!manifestFile.getParentFile().exists() && !manifestFile.getParentFile().mkdirs())
+            {
+                Log.getLogger().warn("SchematicManifest: could not create " + manifestFile.getParentFile());
+                return;
+            }
+            CompressedStreamTools.safeWrite(compound, manifestFile);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("SchematicManifest: could not write " + manifestFile, e);
+        }
+    }
+
+    /**
+     * Get the entries of schematic files, hashing the new and changed files in parallel.
+     *
+     * @param paths the schematic files.
+     * @return the entry of each file in the same order, null for files which could not be read.
+     */
+    @NotNull
+    public static List<Entry> getEntries(@NotNull final List<Path> paths)
+    {
+        final List<Entry> result = new ArrayList<>(paths.size());
+        final Map<Integer, Future<Entry>> pending = new HashMap<>();
+        ExecutorService executor = null;
+
+        for (final Path path : paths)
+        {
+            final String key = path.toUri().toString();
+            used.add(key);
+
+            long size = -1;
+            long mtime = -1;
+            try
+            {
+                size = Files.size(path);
+                mtime = Files.getLastModifiedTime(path).toMillis();
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().trace(e);
+            }
+
+            final Entry known = entries.get(key);
+            if (known != null && size >= 0 && known.size == size && known.mtime == mtime)
+            {
+                result.add(known);
+                continue;
+            }
+
+            if (executor == null)
+            {
+                executor = Executors.newFixedThreadPool(Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors())));
+            }
+            final long fileSize = size;
+            final long fileTime = mtime;
+            pending.put(result.size(), executor.submit(() -> hash(path, key, fileSize, fileTime)));
+            result.add(null);
+        }
+
+        if (executor == null)
+        {
+            return result;
+        }
+
+        executor.shutdown();
+        for (final Map.Entry<Integer, Future<Entry>> future : pending.entrySet())
+        {
+            try
+            {
+                result.set(future.getKey(), future.getValue().get(TIMEOUT_MINUTES, TimeUnit.MINUTES));
+            }
+            catch (final InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            catch (final ExecutionException | TimeoutException e)
+            {
+                Log.getLogger().warn("SchematicManifest: could not hash " + paths.get(future.getKey()), e);
+            }
+        }
+        executor.shutdownNow();
+        Log.getLogger().info("SchematicManifest: hashed " + pending.size() + " new or changed schematics out of " + paths.size());
+        return result;
+    }
+
+    /**
+     * Read a schematic file once to get its md5 hash and compressed size.
+     *
+     * @param path  the file.
+     * @param key   the key of the file in the manifest.
+     * @param size  the size of the file.
+     * @param mtime the last modification time of the file.
+     * @return the new entry, or null if it could not be read.
+     */
+    @Nullable
+    private static Entry hash(@NotNull final Path path, @NotNull final String key, final long size, final long mtime)
+    {
+        final byte[] data;
+        try (InputStream stream = Files.newInputStream(path))
+        {
+            data = Structure.getStreamAsByteArray(stream);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("SchematicManifest: could not read " + path, e);
+            return null;
+        }
+
+        final String md5 = Structure.calculateMD5(data);
+        final byte[] compressed = Structure.compress(data);
+        if (md5 == null || compressed == null)
+        {
+            return null;
+        }
+
+        final Entry entry = new Entry(size, mtime, md5, compressed.length);
+        if (size >= 0)
+        {
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * What is known about a schematic file.
+     */
+    public static final class Entry
+    {
+        private final long   size;
+        private final long   mtime;
+        private final String md5;
+        private final int    compressedSize;
+
+        private Entry(final long size, final long mtime, @NotNull final String md5, final int compressedSize)
+        {
+            this.size = size;
+            this.mtime = mtime;
+            this.md5 = md5;
+            this.compressedSize = compressedSize;
+        }
+
+        /**
+         * Get the md5 hash of the schematic.
+         *
+         * @return the md5 hash.
+         */
+        @NotNull
+        public String getMD5()
+        {
+            return md5;
+        }
+
+        /**
+         * Get the size of the schematic once compressed.
+         *
+         * @return the size in bytes.
+         */
+        public int getCompressedSize()
+        {
+            return compressedSize;
+        }
+    }
+}
@@ -5,11 +5,14 @@ import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
+import com.minecolonies.coremod.network.SchematicTransferManager;
 import com.minecolonies.structures.helpers.Structure;
+import com.minecolonies.structures.helpers.TemplateCache;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -19,6 +22,9 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.stream.Stream;
 
 import static com.minecolonies.api.util.constant.Suppression.EXCEPTION_HANDLERS_SHOULD_PRESERVE_THE_ORIGINAL_EXCEPTIONS;
@@ -53,10 +59,6 @@ public final class Structures
      * Schematic's path separator.
      */
     public static final String SCHEMATICS_SEPARATOR = "/";
-    /**
-     * Maximum size for a compressed schematic.
-     */
-    private static final int MAX_TOTAL_SIZE = 32_767;
 
     /**
      * Hut/Decoration, Styles, Levels.
@@ -67,7 +69,7 @@ public final class Structures
      * - scans/458764687564687654 => scans -> <none> -> 458764687564687654 , scan/458764687564687654
      */
     @NotNull
-    private static Map<String, Map<String, Map<String, String>>> schematicsMap = new HashMap<>();
+    private static Map<String, Map<String, Map<String, String>>> schematicsMap = new ConcurrentSkipListMap<>();
 
     /**
      * md5 hash for the schematics.
@@ -78,7 +80,19 @@ public final class Structures
      * cache/458764687564687654 => 458764687564687654
      */
     @NotNull
-    private static Map<String, String> md5Map = new HashMap<>();
+    private static Map<String, String> md5Map = new ConcurrentHashMap<>();
+
+    /**
+     * Reverse index of {@link #md5Map}, the structure names for each md5 hash.
+     */
+    @NotNull
+    private static final Map<String, Set<String>> namesByMD5 = new ConcurrentHashMap<>();
+
+    /**
+     * Structure names of the cached schematics (cache/458764687564687654).
+     */
+    @NotNull
+    private static final Set<String> cachedNames = ConcurrentHashMap.newKeySet();
 
     /**
      * Whether or not the schematics list have changed.
@@ -114,6 +128,7 @@ public final class Structures
     @SuppressWarnings(EXCEPTION_HANDLERS_SHOULD_PRESERVE_THE_ORIGINAL_EXCEPTIONS)
     private static void loadStyleMaps()
     {
+        SchematicManifest.load(Structure.getCachedSchematicsFolder());
         if (!Configurations.gameplay.ignoreSchematicsFromJar)
         {
             loadStyleMapsJar();
@@ -135,6 +150,7 @@ public final class Structures
             checkDirectory(cacheSchematicFolder.toPath().resolve(SCHEMATICS_CACHE).toFile());
             loadSchematicsForPrefix(cacheSchematicFolder.toPath(), SCHEMATICS_CACHE);
         }
+        SchematicManifest.save();
 
         if (md5Map.size() == 0)
         {
@@ -203,7 +219,9 @@ public final class Structures
         schematicsMap.remove(SCHEMATICS_SCAN);
         final File schematicsFolder = Structure.getClientSchematicsFolder();
         checkDirectory(schematicsFolder.toPath().resolve(SCHEMATICS_SCAN).toFile());
+        SchematicManifest.load(Structure.getCachedSchematicsFolder());
         loadSchematicsForPrefix(schematicsFolder.toPath(), SCHEMATICS_SCAN);
+        SchematicManifest.save();
     }
 
     /**
@@ -229,6 +247,7 @@ public final class Structures
      */
     private static void loadSchematicsForPrefix(@NotNull final Path basePath, @NotNull final String prefix)
     {
+        final List<Path> paths = new ArrayList<>();
         try (Stream<Path> walk = Files.walk(basePath.resolve(prefix)))
         {
             final Iterator<Path> it = walk.iterator();
@@ -237,30 +256,7 @@ public final class Structures
                 final Path path = it.next();
                 if (path.toString().endsWith(SCHEMATIC_EXTENSION))
                 {
-                    String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
-                    if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
-                    {
-                        relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
-                    }
-                    if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
-                    {
-                        relativePath = relativePath.substring(1);
-                    }
-
-                    final StructureName structureName = new StructureName(relativePath);
-                    final String md5 = Structure.calculateMD5(Structure.getStream(relativePath));
-                    if (md5 == null)
-                    {
-                        Log.getLogger().error("Structures: " + structureName + " with md5 null.");
-                    }
-                    else if (isSchematicSizeValid(structureName.toString()))
-                    {
-                        md5Map.put(structureName.toString(), md5);
-                        if (MineColonies.isClient())
-                        {
-                            addSchematic(structureName);
-                        }
-                    }
+                    paths.add(path);
                 }
             }
         }
@@ -268,23 +264,51 @@ public final class Structures
         {
             Log.getLogger().warn("loadSchematicsForPrefix: Could not load schematics from " + basePath.resolve(prefix), e);
         }
+
+        final List<SchematicManifest.Entry> entries = SchematicManifest.getEntries(paths);
+        for (int i = 0; i < paths.size(); i++)
+        {
+            final Path path = paths.get(i);
+            String relativePath = path.toString().substring(basePath.toString().length()).split("\\" + SCHEMATIC_EXTENSION)[0];
+            if (!SCHEMATICS_SEPARATOR.equals(path.getFileSystem().getSeparator()))
+            {
+                relativePath = relativePath.replace(path.getFileSystem().getSeparator(), SCHEMATICS_SEPARATOR);
+            }
+            if (relativePath.startsWith(SCHEMATICS_SEPARATOR))
+            {
+                relativePath = relativePath.substring(1);
+            }
+
+            final StructureName structureName = new StructureName(relativePath);
+            final SchematicManifest.Entry entry = entries.get(i);
+            if (entry == null)
+            {
+                Log.getLogger().error("Structures: " + structureName + " with md5 null.");
+            }
+            else if (isSchematicSizeValid(structureName.toString(), entry.getCompressedSize()))
+            {
+                putMD5(structureName.toString(), entry.getMD5());
+                if (MineColonies.isClient())
+                {
+                    addSchematic(structureName);
+                }
+            }
+        }
     }
 
     /**
-     * check that a schematic is not too big to be sent.
+     * check that a schematic is not too big to be streamed.
      *
-     * @param structureName name of the structure to check for.
+     * @param structureName  name of the structure to check for.
+     * @param compressedSize size of the schematic once compressed.
      * @return True when the schematic is not too big.
      */
-    private static boolean isSchematicSizeValid(@NotNull final String structureName)
+    private static boolean isSchematicSizeValid(@NotNull final String structureName, final int compressedSize)
     {
-        final int maxSize = MAX_TOTAL_SIZE - Integer.SIZE / Byte.SIZE;
-        final byte[] data = Structure.getStreamAsByteArray(Structure.getStream(structureName));
-        final byte[] compressed = Structure.compress(data);
-
-        if (compressed != null && compressed.length > maxSize)
+        final int maxSize = SchematicTransferManager.MAX_TRANSFER_SIZE;
+        if (compressedSize > maxSize)
         {
-            Log.getLogger().warn("Structure " + structureName + " is " + compressed.length + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
+            Log.getLogger().warn("Structure " + structureName + " is " + compressedSize + " bytes when compress, maximum allowed is " + maxSize + " bytes.");
             return false;
         }
         return true;
@@ -303,19 +327,94 @@ public final class Structures
             return;
         }
 
-        if (!schematicsMap.containsKey(structureName.getSection()))
-        {
-            schematicsMap.put(structureName.getSection(), new HashMap<>());
-        }
+        schematicsMap.computeIfAbsent(structureName.getSection(), section -> new ConcurrentSkipListMap<>())
+          .computeIfAbsent(structureName.getStyle(), style -> new ConcurrentSkipListMap<>())
+          .put(structureName.getSchematic(), structureName.toString());
+    }
 
+    /**
+     * remove a schematic from the schematicsMap.
+     *
+     * @param structureName the structure to remove
+     */
+    private static void removeSchematic(@NotNull final StructureName structureName)
+    {
         final Map<String, Map<String, String>> sectionMap = schematicsMap.get(structureName.getSection());
-        if (!sectionMap.containsKey(structureName.getStyle()))
+        if (sectionMap == null)
         {
-            sectionMap.put(structureName.getStyle(), new TreeMap<>());
+            return;
         }
 
         final Map<String, String> styleMap = sectionMap.get(structureName.getStyle());
-        styleMap.put(structureName.getSchematic(), structureName.toString());
+        if (styleMap != null)
+        {
+            styleMap.remove(structureName.getSchematic());
+            if (styleMap.isEmpty())
+            {
+                sectionMap.remove(structureName.getStyle());
+            }
+        }
+        if (sectionMap.isEmpty())
+        {
+            schematicsMap.remove(structureName.getSection());
+        }
+    }
+
+    /**
+     * Add or replace the md5 hash of a structure, keeping the indexes up to date.
+     *
+     * @param structureName name of the structure as 'schematics/wooden/Builder1'.
+     * @param md5           the md5 hash.
+     */
+    private static void putMD5(@NotNull final String structureName, @NotNull final String md5)
+    {
+        final String previous = md5Map.put(structureName, md5);
+        if (previous != null && !previous.equals(md5))
+        {
+            removeName(previous, structureName);
+        }
+        namesByMD5.computeIfAbsent(md5, hash -> new ConcurrentSkipListSet<>()).add(structureName);
+        if (SCHEMATICS_CACHE.equals(new StructureName(structureName).getPrefix()))
+        {
+            cachedNames.add(structureName);
+        }
+    }
+
+    /**
+     * Remove the md5 hash of a structure, keeping the indexes up to date.
+     *
+     * @param structureName name of the structure as 'schematics/wooden/Builder1'.
+     * @return the removed md5 hash or null.
+     */
+    @Nullable
+    private static String removeMD5(@NotNull final String structureName)
+    {
+        final String md5 = md5Map.remove(structureName);
+        if (md5 != null)
+        {
+            removeName(md5, structureName);
+        }
+        cachedNames.remove(structureName);
+        if (MineColonies.isClient())
+        {
+            removeSchematic(new StructureName(structureName));
+        }
+        return md5;
+    }
+
+    /**
+     * Remove a structure name from the reverse index.
+     *
+     * @param md5           the md5 hash the name was indexed under.
+     * @param structureName the structure name.
+     */
+    private static void removeName(@NotNull final String md5, @NotNull final String structureName)
+    {
+        namesByMD5.computeIfPresent(md5, (hash, names) ->
+        {
+            names.remove(structureName);
+            return names.isEmpty() ? null : names;
+        });
     }
 
     /**
@@ -395,8 +494,13 @@ public final class Structures
         if (structureFile.renameTo(newStructureFile))
         {
             final String md5 = getMD5(structureName.toString());
-            md5Map.put(newStructureName.toString(), md5);
-            md5Map.remove(structureName.toString());
+            removeMD5(structureName.toString());
+            putMD5(newStructureName.toString(), md5);
+            if (MineColonies.isClient())
+            {
+                addSchematic(newStructureName);
+            }
+            TemplateCache.invalidate(md5);
             Log.getLogger().info("Structure " + structureName + " have been renamed " + newStructureName);
             return newStructureName;
         }
@@ -427,11 +531,6 @@ public final class Structures
      */
     public static String getMD5(@NotNull final String structureName)
     {
-        if (!md5Map.containsKey(structureName))
-        {
-            return null;
-        }
-
         return md5Map.get(structureName);
     }
 
@@ -465,7 +564,7 @@ public final class Structures
         final File structureFile = Structure.getClientSchematicsFolder().toPath().resolve(structureName.toString() + SCHEMATIC_EXTENSION).toFile();
         if (structureFile.delete())
         {
-            md5Map.remove(structureName.toString());
+            TemplateCache.invalidate(removeMD5(structureName.toString()));
             Log.getLogger().info("Structures: " + structureName + " deleted successfully");
             return true;
         }
@@ -486,9 +585,7 @@ public final class Structures
     @SideOnly(Side.CLIENT)
     public static List<String> getSections()
     {
-        final ArrayList<String> list = new ArrayList<>(schematicsMap.keySet());
-        Collections.sort(list);
-        return list;
+        return new ArrayList<>(schematicsMap.keySet());
     }
 
     /**
@@ -501,12 +598,10 @@ public final class Structures
     @SideOnly(Side.CLIENT)
     public static List<String> getStylesFor(final String section)
     {
-        if (schematicsMap.containsKey(section))
+        final Map<String, Map<String, String>> sectionMap = schematicsMap.get(section);
+        if (sectionMap != null)
         {
-            final Map<String, Map<String, String>> sectionMap = schematicsMap.get(section);
-            final ArrayList<String> list = new ArrayList<>(sectionMap.keySet());
-            Collections.sort(list);
-            return list;
+            return new ArrayList<>(sectionMap.keySet());
         }
         return new ArrayList<>();
     }
@@ -522,15 +617,13 @@ public final class Structures
     @SideOnly(Side.CLIENT)
     public static List<String> getSchematicsFor(final String section, final String style)
     {
-        if (schematicsMap.containsKey(section))
+        final Map<String, Map<String, String>> sectionMap = schematicsMap.get(section);
+        final Map<String, String> styleMap = sectionMap == null ? null : sectionMap.get(style);
+        if (styleMap != null)
         {
-            final Map<String, Map<String, String>> sectionMap = schematicsMap.get(section);
-            if (sectionMap.containsKey(style))
-            {
-                final ArrayList<String> list = new ArrayList<>(sectionMap.get(style).values());
-                Collections.sort(list);
-                return list;
-            }
+            final List<String> list = new ArrayList<>(styleMap.values());
+            Collections.sort(list);
+            return list;
         }
         return new ArrayList<>();
     }
@@ -543,18 +636,23 @@ public final class Structures
      */
     public static StructureName getStructureNameByMD5(final String md5)
     {
-        if (md5 != null)
+        final Set<String> names = md5 == null ? null : namesByMD5.get(md5);
+        if (names == null)
         {
-            for (final Map.Entry<String, String> md5Entry : md5Map.entrySet())
+            return null;
+        }
+
+        //Prefer the real name of the schematic over its copy in the cache
+        String cachedName = null;
+        for (final String name : names)
+        {
+            if (!cachedNames.contains(name))
             {
-                if (md5Entry.getValue().equals(md5))
-                {
-                    return new StructureName(md5Entry.getKey());
-                }
+                return new StructureName(name);
             }
+            cachedName = name;
         }
-
-        return null;
+        return cachedName == null ? null : new StructureName(cachedName);
     }
 
     /**
@@ -564,7 +662,7 @@ public final class Structures
      */
     public static Map<String, String> getMD5s()
     {
-        return Structures.md5Map;
+        return Collections.unmodifiableMap(Structures.md5Map);
     }
 
     /**
@@ -584,7 +682,7 @@ public final class Structures
             final StructureName sn = new StructureName(md5.getKey());
             if (!sn.getSection().equals(SCHEMATICS_SCAN))
             {
-                md5Map.put(md5.getKey(), md5.getValue());
+                putMD5(md5.getKey(), md5.getValue());
                 addSchematic(sn);
             }
         }
@@ -616,6 +714,7 @@ public final class Structures
             try (OutputStream outputstream = new FileOutputStream(schematicFile))
             {
                 outputstream.write(bytes);
+                TemplateCache.invalidate(md5);
                 Structures.addMD5ToCache(md5);
             }
             catch (@NotNull final IOException e)
@@ -698,7 +797,7 @@ public final class Structures
     public static void addMD5ToCache(@NotNull final String md5)
     {
         markDirty();
-        md5Map.put(Structures.SCHEMATICS_CACHE + SCHEMATICS_SEPARATOR + md5, md5);
+        putMD5(Structures.SCHEMATICS_CACHE + SCHEMATICS_SEPARATOR + md5, md5);
     }
 
     /**
@@ -706,16 +805,7 @@ public final class Structures
      */
     private static Set<String> getCachedMD5s()
     {
-        final Set<String> md5Set = new HashSet<>();
-        for (final Map.Entry<String, String> md5 : md5Map.entrySet())
-        {
-            final StructureName sn = new StructureName(md5.getKey());
-            if (sn.getSection().equals(SCHEMATICS_CACHE))
-            {
-                md5Set.add(md5.getKey());
-            }
-        }
-        return md5Set;
+        return new HashSet<>(cachedNames);
     }
 
     /**
@@ -742,7 +832,7 @@ public final class Structures
         final File structureFile = MineColonies.proxy.getSchematicsFolder().toPath().resolve(structureName.toString() + SCHEMATIC_EXTENSION).toFile();
         if (structureFile.delete())
         {
-            md5Map.remove(structureName.toString());
+            TemplateCache.invalidate(removeMD5(structureName.toString()));
             return true;
         }
         else
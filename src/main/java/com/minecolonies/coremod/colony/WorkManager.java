@@ -30,6 +30,14 @@ public class WorkManager
      * Checks if there has been changes.
      */
     private       boolean                         dirty          = false;
+    /**
+     * Ids of the work orders which changed since the last sync.
+     */
+    private final Set<Integer>                    changedWorkOrders = new LinkedHashSet<>();
+    /**
+     * Ids of the work orders which have been removed since the last sync.
+     */
+    private final Set<Integer>                    removedWorkOrders = new LinkedHashSet<>();
 
     /**
      * Constructor, saves reference to the colony.
@@ -58,9 +66,8 @@ public class WorkManager
      */
     public void removeWorkOrder(final int orderId)
     {
-        final AbstractWorkOrder workOrder = workOrders.get(orderId);
-        workOrders.remove(orderId);
-        colony.removeWorkOrder(orderId);
+        final AbstractWorkOrder workOrder = workOrders.remove(orderId);
+        markRemoved(orderId);
         workOrder.onRemoved(colony);
     }
 
@@ -217,6 +224,7 @@ public class WorkManager
         }
 
         workOrders.put(order.getID(), order);
+        markChanged(order.getID());
         order.onAdded(colony);
     }
 
@@ -237,11 +245,11 @@ public class WorkManager
                 if (!o.isValid(colony))
                 {
                     iter.remove();
-                    dirty = true;
+                    markRemoved(o.getID());
                 }
                 else if (o.hasChanged())
                 {
-                    dirty = true;
+                    markChanged(o.getID());
                     o.resetChange();
                 }
             }
@@ -267,11 +275,63 @@ public class WorkManager
 
     /**
      * Sets if changes has been made.
+     * Resetting it also forgets the changed and removed work orders.
      *
      * @param dirty true if so. False to reset.
      */
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (!dirty)
+        {
+            changedWorkOrders.clear();
+            removedWorkOrders.clear();
+        }
+    }
+
+    /**
+     * Get the work orders which changed since the last sync.
+     *
+     * @return a list of the changed work orders.
+     */
+    @NotNull
+    public List<AbstractWorkOrder> getChangedWorkOrders()
+    {
+        return changedWorkOrders.stream().map(workOrders::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Get the ids of the work orders removed since the last sync.
+     *
+     * @return the set of ids.
+     */
+    @NotNull
+    public Set<Integer> getRemovedWorkOrders()
+    {
+        return Collections.unmodifiableSet(removedWorkOrders);
+    }
+
+    /**
+     * Mark a work order as changed.
+     *
+     * @param orderId the id of the work order.
+     */
+    private void markChanged(final int orderId)
+    {
+        dirty = true;
+        removedWorkOrders.remove(orderId);
+        changedWorkOrders.add(orderId);
+    }
+
+    /**
+     * Mark a work order as removed.
+     *
+     * @param orderId the id of the work order.
+     */
+    private void markRemoved(final int orderId)
+    {
+        dirty = true;
+        changedWorkOrders.remove(orderId);
+        removedWorkOrders.add(orderId);
     }
 }
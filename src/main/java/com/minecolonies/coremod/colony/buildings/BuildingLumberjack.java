@@ -12,6 +12,7 @@ import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.JobLumberjack;
 import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
 import com.minecolonies.api.crafting.ItemStorage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.init.Blocks;
@@ -19,9 +20,11 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
@@ -63,6 +66,12 @@ public class BuildingLumberjack extends AbstractBuildingWorker
      */
     private final Map<ItemStorage, Boolean> treesToFell = new LinkedHashMap<>();
 
+    /**
+     * The trees in the range of the hut, created when the lumberjack first searches a tree.
+     */
+    @Nullable
+    private TreeRegistry treeRegistry;
+
     /**
      * Public constructor of the building, creates an object of the building.
      *
@@ -144,6 +153,22 @@ public class BuildingLumberjack extends AbstractBuildingWorker
         return Collections.unmodifiableMap(treesToFell);
     }
 
+    /**
+     * Get the trees in the range of the hut.
+     *
+     * @param world the world of the hut.
+     * @return the registry.
+     */
+    @NotNull
+    public TreeRegistry getTreeRegistry(@NotNull final World world)
+    {
+        if (treeRegistry == null)
+        {
+            treeRegistry = new TreeRegistry(world, getLocation());
+        }
+        return treeRegistry;
+    }
+
     /**
      * Getter of the schematic name.
      *
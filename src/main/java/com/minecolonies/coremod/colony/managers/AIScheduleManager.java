@@ -0,0 +1,179 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.configuration.Configurations;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Shares the configured time budget per tick between the worker ais of a colony.
+ * <p>
+ * The ais are updated in the order the world ticks the entities. Once the budget of a tick is used up,
+ * further ais are refused and wait. Waiting ais run first on the next tick: the estimated cost of all
+ * waiting ais is reserved at the start of the tick, and only the rest of the budget is open to ais which ran last tick.
+ * Critical ais are never refused.
+ */
+public class AIScheduleManager implements IAIScheduleManager
+{
+    /**
+     * Weight of the latest update in the average cost of an update.
+     */
+    private static final double AVERAGE_WEIGHT = 0.1D;
+
+    /**
+     * The citizens waiting, by id.
+     */
+    private final Map<Integer, Waiting> waiting = new HashMap<>();
+
+    /**
+     * The tick the budget was last reset at.
+     */
+    private long currentTick = -1;
+
+    /**
+     * Nanoseconds spent in the current tick.
+     */
+    private long spent = 0;
+
+    /**
+     * Nanoseconds reserved for the waiting citizens in the current tick.
+     */
+    private double reserved = 0;
+
+    /**
+     * Average cost of an update in nanoseconds.
+     */
+    private double averageCost = 0;
+
+    /**
+     * Updates delayed since the colony was loaded.
+     */
+    private long skippedUpdates = 0;
+
+    @Override
+    public boolean tryStart(final int citizenId, final long worldTick, final boolean critical)
+    {
+        if (worldTick != currentTick)
+        {
+            startTick(worldTick);
+        }
+
+        final int budget = Configurations.gameplay.colonyAITickBudgetNanos;
+        final Waiting wait = waiting.get(citizenId);
+        final boolean allowed;
+        if (budget <= 0 || critical)
+        {
+            allowed = true;
+        }
+        else if (wait != null)
+        {
+            allowed = spent < budget;
+        }
+        else
+        {
+            allowed = spent + reserved < budget;
+        }
+
+        if (allowed)
+        {
+            if (wait != null)
+            {
+                waiting.remove(citizenId);
+                reserved = Math.max(0, reserved - averageCost);
+            }
+            return true;
+        }
+
+        if (wait == null)
+        {
+            waiting.put(citizenId, new Waiting(worldTick));
+        }
+        else
+        {
+            wait.lastRequest = worldTick;
+        }
+        skippedUpdates++;
+        return false;
+    }
+
+    /**
+     * Reset the budget for a new tick and forget the citizens which stopped asking to run.
+     *
+     * @param worldTick the new tick.
+     */
+    private void startTick(final long worldTick)
+    {
+        final Iterator<Waiting> iterator = waiting.values().iterator();
+        while (iterator.hasNext())
+        {
+            if (iterator.next().lastRequest < worldTick - 1)
+            {
+                iterator.remove();
+            }
+        }
+
+        currentTick = worldTick;
+        spent = 0;
+        reserved = waiting.size() * averageCost;
+    }
+
+    @Override
+    public void finish(final long nanos)
+    {
+        spent += nanos;
+        if (averageCost <= 0)
+        {
+            averageCost = nanos;
+        }
+        else
+        {
+            averageCost += (nanos - averageCost) * AVERAGE_WEIGHT;
+        }
+    }
+
+    @Override
+    public int getWaitingCount()
+    {
+        return waiting.size();
+    }
+
+    @Override
+    public long getTicksBehind()
+    {
+        long oldest = currentTick;
+        for (final Waiting wait : waiting.values())
+        {
+            oldest = Math.min(oldest, wait.since);
+        }
+        return currentTick - oldest;
+    }
+
+    @Override
+    public long getSkippedUpdates()
+    {
+        return skippedUpdates;
+    }
+
+    /**
+     * A citizen waiting for its ai to run.
+     */
+    private static final class Waiting
+    {
+        /**
+         * The tick it was first refused.
+         */
+        private final long since;
+
+        /**
+         * The last tick it asked to run.
+         */
+        private long lastRequest;
+
+        private Waiting(final long since)
+        {
+            this.since = since;
+            this.lastRequest = since;
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.minecolonies.coremod.colony.managers;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +21,11 @@ import static com.minecolonies.api.util.constant.Constants.WHOLE_CIRCLE;
 
 public class BarbarianManager implements IBarbarianManager
 {
+    /**
+     * Ticks a raid uses its flow field, half a day.
+     */
+    private static final int RAID_FLOW_FIELD_LIFETIME = 12000;
+
     /**
      * Whether there will be a raid in this colony tonight.
      */
@@ -34,6 +41,12 @@ public class BarbarianManager implements IBarbarianManager
      */
     private boolean haveBarbEvents = true;
 
+    /**
+     * Flow field of the current raid.
+     */
+    @Nullable
+    private RaidFlowField flowField = null;
+
     @Override
     public boolean canHaveBarbEvents()
     {
@@ -70,6 +83,30 @@ public class BarbarianManager implements IBarbarianManager
         this.raidTonight = willRaid;
     }
 
+    @Override
+    public void setFlowField(@Nullable final RaidFlowField flowField)
+    {
+        this.flowField = flowField;
+    }
+
+    @Nullable
+    @Override
+    public RaidFlowField getFlowField(final long worldTime)
+    {
+        if (flowField != null && (flowField.isFailed() || worldTime - flowField.getCreationTime() > RAID_FLOW_FIELD_LIFETIME))
+        {
+            flowField = null;
+        }
+        return flowField == null || !flowField.isReady() ? null : flowField;
+    }
+
+    @Override
+    public boolean isFlowFieldPending(final long worldTime)
+    {
+        getFlowField(worldTime);
+        return flowField != null && !flowField.isReady();
+    }
+
     @Override
     public BlockPos getRandomOutsiderInDirection(final EnumFacing directionX, final EnumFacing directionZ, @NotNull final Colony colony)
     {
@@ -34,6 +34,11 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_POS;
 
 public class BuildingManager implements IBuildingManager
 {
+    /**
+     * Ticks between two checks of the consistency sweep, which checks one building or field at a time.
+     */
+    private static final int SWEEP_INTERVAL = 10;
+
     /**
      * List of building in the colony.
      */
@@ -66,6 +71,16 @@ public class BuildingManager implements IBuildingManager
      */
     private boolean isFieldsDirty    = false;
 
+    /**
+     * Locations of buildings and fields whose block changed, checked on the next tick.
+     */
+    private final Set<BlockPos> toValidate = new HashSet<>();
+
+    /**
+     * Locations of buildings and fields the consistency sweep still has to check.
+     */
+    private final Deque<BlockPos> sweep = new ArrayDeque<>();
+
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound, final Colony colony)
     {
@@ -159,38 +174,68 @@ public class BuildingManager implements IBuildingManager
     }
 
     @Override
-    public void cleanUpBuildings(@NotNull final TickEvent.WorldTickEvent event)
+    public void markForValidation(@NotNull final BlockPos pos)
     {
-        @Nullable final List<AbstractBuilding> removedBuildings = new ArrayList<>();
-
-        //Need this list, we may enter he while we add a building in the real world.
-        final List<AbstractBuilding> tempBuildings = new ArrayList<>(buildings.values());
+        if (buildings.containsKey(pos) || fields.contains(pos))
+        {
+            toValidate.add(pos.toImmutable());
+        }
+    }
 
-        for (@NotNull final AbstractBuilding building : tempBuildings)
+    @Override
+    public void cleanUpBuildings(@NotNull final TickEvent.WorldTickEvent event)
+    {
+        if (event.world.getTotalWorldTime() % SWEEP_INTERVAL == 0)
         {
-            final BlockPos loc = building.getLocation();
-            if (event.world.isBlockLoaded(loc) && !building.isMatchingBlock(event.world.getBlockState(loc).getBlock()))
+            if (sweep.isEmpty())
+            {
+                sweep.addAll(buildings.keySet());
+                sweep.addAll(fields);
+            }
+            if (!sweep.isEmpty())
             {
-                //  Sanity cleanup
-                removedBuildings.add(building);
+                toValidate.add(sweep.poll());
             }
         }
 
-        @NotNull final ArrayList<BlockPos> tempFields = new ArrayList<>(fields);
+        if (toValidate.isEmpty())
+        {
+            return;
+        }
 
-        for (@NotNull final BlockPos pos : tempFields)
+        //Need this list, we may enter here while we add a building in the real world.
+        final List<BlockPos> positions = new ArrayList<>(toValidate);
+        toValidate.clear();
+        for (final BlockPos pos : positions)
         {
-            if (event.world.isBlockLoaded(pos))
-            {
-                final ScarecrowTileEntity scarecrow = (ScarecrowTileEntity) event.world.getTileEntity(pos);
-                if (scarecrow == null)
-                {
-                    fields.remove(pos);
-                }
-            }
+            validate(event.world, pos);
         }
+    }
 
-        removedBuildings.forEach(AbstractBuilding::destroy);
+    /**
+     * Remove the building or field at a location if its block is gone.
+     *
+     * @param world the world.
+     * @param pos   the location.
+     */
+    private void validate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        if (!world.isBlockLoaded(pos))
+        {
+            return;
+        }
+
+        final AbstractBuilding building = buildings.get(pos);
+        if (building != null && !building.isMatchingBlock(world.getBlockState(pos).getBlock()))
+        {
+            //  Sanity cleanup
+            building.destroy();
+        }
+
+        if (fields.contains(pos) && !(world.getTileEntity(pos) instanceof ScarecrowTileEntity))
+        {
+            fields.remove(pos);
+        }
     }
 
     /**
@@ -0,0 +1,48 @@
+package com.minecolonies.coremod.colony.managers;
+
+/**
+ * Interface implementing all methods required for all ai schedule managers.
+ * <p>
+ * The schedule manager shares a time budget per tick between the worker ais of a colony.
+ */
+public interface IAIScheduleManager
+{
+    /**
+     * Check if the ai of a citizen may run in this tick.
+     * Citizens which are refused wait and get priority on the next tick.
+     *
+     * @param citizenId the id of the citizen.
+     * @param worldTick the total time of the world.
+     * @param critical  true if the citizen is in a state which must not be delayed.
+     * @return true if it may run.
+     */
+    boolean tryStart(final int citizenId, final long worldTick, final boolean critical);
+
+    /**
+     * Record the time an ai update took, after it was allowed by {@link #tryStart(int, long, boolean)}.
+     *
+     * @param nanos the time in nanoseconds.
+     */
+    void finish(final long nanos);
+
+    /**
+     * Get the amount of citizens waiting for their ai to run.
+     *
+     * @return the amount.
+     */
+    int getWaitingCount();
+
+    /**
+     * Get how many ticks the citizen waiting the longest is behind.
+     *
+     * @return the ticks, 0 if none waits.
+     */
+    long getTicksBehind();
+
+    /**
+     * Get the amount of ai updates delayed since the colony was loaded.
+     *
+     * @return the amount.
+     */
+    long getSkippedUpdates();
+}
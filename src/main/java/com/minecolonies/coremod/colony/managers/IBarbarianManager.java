@@ -1,9 +1,11 @@
 package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface implementing all methods required for all barbarianmanagers.
@@ -54,4 +56,25 @@ public interface IBarbarianManager
      * @return the position.
      */
     BlockPos getRandomOutsiderInDirection(final EnumFacing directionX, final EnumFacing directionZ, @NotNull final Colony colony);
+
+    /**
+     * Set the flow field of the current raid.
+     * @param flowField the field.
+     */
+    void setFlowField(@Nullable final RaidFlowField flowField);
+
+    /**
+     * Get the flow field of the current raid, once it is ready.
+     * @param worldTime the current time of the world.
+     * @return the field, or null if there is no raid or it was not computed yet.
+     */
+    @Nullable
+    RaidFlowField getFlowField(final long worldTime);
+
+    /**
+     * Check if the flow field of the current raid is still being computed.
+     * @param worldTime the current time of the world.
+     * @return true if it will be ready soon.
+     */
+    boolean isFlowFieldPending(final long worldTime);
 }
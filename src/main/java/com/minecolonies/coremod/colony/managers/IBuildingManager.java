@@ -61,7 +61,13 @@ public interface IBuildingManager
     void onWorldTick(TickEvent.WorldTickEvent event);
 
     /**
-     * Clean up the buildings.
+     * Mark the location of a building or field whose block changed, it is checked on the next tick.
+     * @param pos the location.
+     */
+    void markForValidation(BlockPos pos);
+
+    /**
+     * Clean up the buildings whose block changed, and check one more building once in a while.
      * @param event at the worldTick event.
      */
     void cleanUpBuildings(TickEvent.WorldTickEvent event);
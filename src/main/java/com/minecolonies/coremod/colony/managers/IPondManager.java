@@ -0,0 +1,59 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Random;
+
+/**
+ * Interface implementing all methods required for all pond managers.
+ * <p>
+ * The pond manager keeps the bodies of water around the fisherman huts of a colony and which fisherman fishes where.
+ */
+public interface IPondManager
+{
+    /**
+     * Check if the water around a hut was indexed, starting the scan if it wasn't.
+     *
+     * @param hut the location of the hut.
+     * @return true if the index is ready.
+     */
+    boolean isIndexed(@NotNull final BlockPos hut);
+
+    /**
+     * Check if the water around a hut has any spot to fish from, claimed or not.
+     *
+     * @param hut the location of the hut.
+     * @return true if the index is ready and has a spot.
+     */
+    boolean hasSpots(@NotNull final BlockPos hut);
+
+    /**
+     * Claim a spot for a fisherman, releasing the previous claim of the fisherman.
+     * Bodies with the fewest fishermen are preferred, then the ones with the best score.
+     *
+     * @param citizenId the id of the fisherman.
+     * @param hut       the location of the hut of the fisherman.
+     * @param random    the random to select the spot on the shore with.
+     * @return the spot, or null if the index is not ready or there is no free spot.
+     */
+    @Nullable
+    PondIndex.FishingSpot claimSpot(final int citizenId, @NotNull final BlockPos hut, @NotNull final Random random);
+
+    /**
+     * Forget a spot a fisherman couldn't fish at, and release the claim of the fisherman.
+     *
+     * @param citizenId the id of the fisherman.
+     * @param spot      the spot.
+     */
+    void rejectSpot(final int citizenId, @NotNull final PondIndex.FishingSpot spot);
+
+    /**
+     * Release the claim of a fisherman.
+     *
+     * @param citizenId the id of the fisherman.
+     */
+    void release(final int citizenId);
+}
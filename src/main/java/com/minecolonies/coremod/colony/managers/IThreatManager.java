@@ -0,0 +1,43 @@
+package com.minecolonies.coremod.colony.managers;
+
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.math.Vec3d;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Interface implementing all methods required for all threat managers.
+ * <p>
+ * The threat manager keeps the hostile entities in a colony, so the guards don't have to search the world themselves.
+ */
+public interface IThreatManager
+{
+    /**
+     * Get the hostile entities around a position which guards may attack.
+     * Entities not claimed by another guard come first, each group sorted by distance.
+     *
+     * @param citizenId the id of the guard asking.
+     * @param position  the position of the guard.
+     * @param range     the horizontal range.
+     * @param yRange    the vertical range.
+     * @return the candidates, visibility not checked.
+     */
+    @NotNull
+    List<EntityLivingBase> getCandidates(final int citizenId, @NotNull final Vec3d position, final double range, final double yRange);
+
+    /**
+     * Claim a target for a guard, releasing the previous claim of the guard.
+     *
+     * @param citizenId the id of the guard.
+     * @param target    the target.
+     */
+    void claim(final int citizenId, @NotNull final EntityLivingBase target);
+
+    /**
+     * Release the claim of a guard.
+     *
+     * @param citizenId the id of the guard.
+     */
+    void release(final int citizenId);
+}
@@ -0,0 +1,166 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import com.minecolonies.coremod.entity.ai.citizen.fisherman.PondIndex;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Keeps an index of the bodies of water per fisherman hut, and the spots the fishermen of the colony claimed.
+ * <p>
+ * The index of a hut is scanned off the main thread when it is first needed and again once a day,
+ * the previous index stays in use until the new one is ready.
+ */
+public class PondManager implements IPondManager
+{
+    /**
+     * Ticks after which the index of a hut is scanned again.
+     */
+    private static final int REFRESH_INTERVAL = 24000;
+
+    /**
+     * The colony.
+     */
+    private final Colony colony;
+
+    /**
+     * The index in use, by hut.
+     */
+    private final Map<BlockPos, PondIndex> indices = new HashMap<>();
+
+    /**
+     * The index being scanned, by hut.
+     */
+    private final Map<BlockPos, PondIndex> pending = new HashMap<>();
+
+    /**
+     * The spot each fisherman claimed, by citizen id.
+     */
+    private final Map<Integer, PondIndex.FishingSpot> claims = new HashMap<>();
+
+    /**
+     * Create the pond manager of a colony.
+     *
+     * @param colony the colony.
+     */
+    public PondManager(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public boolean isIndexed(@NotNull final BlockPos hut)
+    {
+        return getIndex(hut) != null;
+    }
+
+    @Override
+    public boolean hasSpots(@NotNull final BlockPos hut)
+    {
+        final PondIndex index = getIndex(hut);
+        return index != null && !index.getBodies().isEmpty();
+    }
+
+    @Nullable
+    @Override
+    public PondIndex.FishingSpot claimSpot(final int citizenId, @NotNull final BlockPos hut, @NotNull final Random random)
+    {
+        final PondIndex index = getIndex(hut);
+        if (index == null)
+        {
+            return null;
+        }
+        release(citizenId);
+        pruneClaims();
+
+        final Map<BlockPos, Integer> occupants = new HashMap<>();
+        final Set<BlockPos> claimedStands = new HashSet<>();
+        for (final PondIndex.FishingSpot spot : claims.values())
+        {
+            occupants.merge(spot.getBody().getAnchor(), 1, Integer::sum);
+            claimedStands.add(spot.getStand());
+        }
+
+        final List<PondIndex.WaterBody> bodies = index.getBodies();
+        bodies.sort(Comparator.<PondIndex.WaterBody>comparingInt(body -> occupants.getOrDefault(body.getAnchor(), 0))
+                      .thenComparing(Comparator.comparingDouble(PondIndex.WaterBody::getScore).reversed()));
+        for (final PondIndex.WaterBody body : bodies)
+        {
+            final List<PondIndex.FishingSpot> spots = body.getSpots();
+            spots.removeIf(spot -> claimedStands.contains(spot.getStand()));
+            if (!spots.isEmpty())
+            {
+                final PondIndex.FishingSpot spot = spots.get(random.nextInt(spots.size()));
+                claims.put(citizenId, spot);
+                return spot;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void rejectSpot(final int citizenId, @NotNull final PondIndex.FishingSpot spot)
+    {
+        spot.getBody().removeSpot(spot);
+        release(citizenId);
+    }
+
+    @Override
+    public void release(final int citizenId)
+    {
+        claims.remove(citizenId);
+    }
+
+    /**
+     * Get the index of a hut, requesting a new one if there is none or it is old.
+     * A request which failed is dropped so it is requested again.
+     *
+     * @param hut the location of the hut.
+     * @return the index, or null if none is ready yet.
+     */
+    @Nullable
+    private PondIndex getIndex(@NotNull final BlockPos hut)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return null;
+        }
+
+        final PondIndex next = pending.get(hut);
+        if (next != null && next.isReady())
+        {
+            indices.put(hut, next);
+            pending.remove(hut);
+        }
+        else if (next != null && next.isFailed())
+        {
+            pending.remove(hut);
+        }
+
+        final PondIndex index = indices.get(hut);
+        if ((index == null || world.getTotalWorldTime() - index.getCreationTime() >= REFRESH_INTERVAL) && !pending.containsKey(hut))
+        {
+            pending.put(hut, PondIndex.compute(world, hut));
+        }
+        return index;
+    }
+
+    /**
+     * Drop the claims of citizens which aren't fishermen anymore.
+     */
+    private void pruneClaims()
+    {
+        claims.keySet().removeIf(citizenId ->
+        {
+            final CitizenData citizen = colony.getCitizenManager().getCitizen(citizenId);
+            return citizen == null || !(citizen.getJob() instanceof JobFisherman);
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.monster.EntityMob;
+import net.minecraft.entity.monster.EntitySlime;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Scans the colony for hostile entities once every few ticks and keeps them in a grid of 16 by 16 columns.
+ * <p>
+ * Monsters, slimes and players the colony permits the guards to attack are kept. Guards claim the target they hunt,
+ * other guards prefer unclaimed targets so they spread over the threats.
+ */
+public class ThreatManager implements IThreatManager
+{
+    /**
+     * Ticks between two scans of the colony.
+     */
+    private static final int SCAN_INTERVAL = 10;
+
+    /**
+     * Shift from a block to its cell.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * Range to scan around the colony, beyond its border.
+     */
+    private static final int SCAN_PADDING = 32;
+
+    /**
+     * The colony.
+     */
+    private final Colony colony;
+
+    /**
+     * The candidates, by cell.
+     */
+    private final Map<Long, List<EntityLivingBase>> grid = new HashMap<>();
+
+    /**
+     * The guard claiming each target, by entity id.
+     */
+    private final Map<Integer, Integer> claimedBy = new HashMap<>();
+
+    /**
+     * The target each guard claimed, by citizen id.
+     */
+    private final Map<Integer, Integer> claims = new HashMap<>();
+
+    /**
+     * The tick of the last scan.
+     */
+    private long lastScan = Long.MIN_VALUE;
+
+    /**
+     * Create the threat manager of a colony.
+     *
+     * @param colony the colony.
+     */
+    public ThreatManager(@NotNull final Colony colony)
+    {
+        this.colony = colony;
+    }
+
+    @NotNull
+    @Override
+    public List<EntityLivingBase> getCandidates(final int citizenId, @NotNull final Vec3d position, final double range, final double yRange)
+    {
+        final World world = colony.getWorld();
+        if (world == null)
+        {
+            return Collections.emptyList();
+        }
+        if (world.getTotalWorldTime() - lastScan >= SCAN_INTERVAL)
+        {
+            scan(world);
+        }
+
+        final List<EntityLivingBase> candidates = new ArrayList<>();
+        //Entities may have moved a cell since the last scan.
+        final int minX = ((int) Math.floor(position.x - range) >> CELL_SHIFT) - 1;
+        final int maxX = ((int) Math.floor(position.x + range) >> CELL_SHIFT) + 1;
+        final int minZ = ((int) Math.floor(position.z - range) >> CELL_SHIFT) - 1;
+        final int maxZ = ((int) Math.floor(position.z + range) >> CELL_SHIFT) + 1;
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                final List<EntityLivingBase> cell = grid.get(ChunkPos.asLong(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+                for (final EntityLivingBase entity : cell)
+                {
+                    if (entity.isEntityAlive()
+                          && Math.abs(entity.posX - position.x) <= range
+                          && Math.abs(entity.posZ - position.z) <= range
+                          && Math.abs(entity.posY - position.y) <= yRange)
+                    {
+                        candidates.add(entity);
+                    }
+                }
+            }
+        }
+
+        candidates.sort(Comparator.<EntityLivingBase>comparingInt(entity -> isClaimedByOther(entity, citizenId) ? 1 : 0)
+                          .thenComparingDouble(entity -> entity.getDistanceSq(position.x, position.y, position.z)));
+        return candidates;
+    }
+
+    /**
+     * Check if an entity is claimed by another guard.
+     *
+     * @param entity    the entity.
+     * @param citizenId the guard asking.
+     * @return true if another guard claimed it.
+     */
+    private boolean isClaimedByOther(@NotNull final Entity entity, final int citizenId)
+    {
+        final Integer guard = claimedBy.get(entity.getEntityId());
+        return guard != null && guard != citizenId;
+    }
+
+    @Override
+    public void claim(final int citizenId, @NotNull final EntityLivingBase target)
+    {
+        release(citizenId);
+        claims.put(citizenId, target.getEntityId());
+        claimedBy.put(target.getEntityId(), citizenId);
+    }
+
+    @Override
+    public void release(final int citizenId)
+    {
+        final Integer target = claims.remove(citizenId);
+        if (target != null)
+        {
+            claimedBy.remove(target, citizenId);
+        }
+    }
+
+    /**
+     * Rebuild the grid from the entities in the colony, and drop the claims on entities which left it.
+     *
+     * @param world the world of the colony.
+     */
+    private void scan(@NotNull final World world)
+    {
+        lastScan = world.getTotalWorldTime();
+        grid.clear();
+
+        final BlockPos center = colony.getCenter();
+        final int radius = Configurations.gameplay.workingRangeTownHall + Configurations.gameplay.townHallPadding + SCAN_PADDING;
+        final AxisAlignedBB bounds = new AxisAlignedBB(center.getX() - radius, 0, center.getZ() - radius,
+                                                        center.getX() + radius, world.getHeight(), center.getZ() + radius);
+
+        final Set<Integer> seen = new HashSet<>();
+        for (final EntityLivingBase entity : world.getEntitiesWithinAABB(EntityLivingBase.class, bounds, this::isThreat))
+        {
+            grid.computeIfAbsent(ChunkPos.asLong(((int) Math.floor(entity.posX)) >> CELL_SHIFT, ((int) Math.floor(entity.posZ)) >> CELL_SHIFT),
+              key -> new ArrayList<>()).add(entity);
+            seen.add(entity.getEntityId());
+        }
+
+        claimedBy.keySet().retainAll(seen);
+        claims.values().retainAll(seen);
+    }
+
+    /**
+     * Check if guards may attack an entity.
+     *
+     * @param entity the entity.
+     * @return true if it is hostile.
+     */
+    private boolean isThreat(final EntityLivingBase entity)
+    {
+        if (entity == null || !entity.isEntityAlive())
+        {
+            return false;
+        }
+        if (entity instanceof EntityPlayer)
+        {
+            return !((EntityPlayer) entity).isSpectator() && colony.getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK);
+        }
+        return entity instanceof EntityMob || entity instanceof EntitySlime;
+    }
+}
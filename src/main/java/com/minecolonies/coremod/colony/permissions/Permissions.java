@@ -79,6 +79,23 @@ public class Permissions implements IPermissions
      */
     private boolean dirty = false;
 
+    /**
+     * Players added or whose rank changed since the last synchronization.
+     */
+    @NotNull
+    private final Set<UUID> changedPlayers = new HashSet<>();
+
+    /**
+     * Players removed since the last synchronization.
+     */
+    @NotNull
+    private final Set<UUID> removedPlayers = new HashSet<>();
+
+    /**
+     * Whether the players changed in a way which is not tracked, and all of them have to be synchronized.
+     */
+    private boolean fullSyncNeeded = false;
+
     /**
      * The name of the owner.
      */
@@ -210,6 +227,30 @@ public class Permissions implements IPermissions
         dirty = true;
     }
 
+    /**
+     * Marks a player as added or changed since the last synchronization.
+     *
+     * @param id the UUID of the player.
+     */
+    private void markPlayerChanged(final UUID id)
+    {
+        removedPlayers.remove(id);
+        changedPlayers.add(id);
+        markDirty();
+    }
+
+    /**
+     * Marks a player as removed since the last synchronization.
+     *
+     * @param id the UUID of the player.
+     */
+    private void markPlayerRemoved(final UUID id)
+    {
+        changedPlayers.remove(id);
+        removedPlayers.add(id);
+        markDirty();
+    }
+
     /**
      * Stores the list of promotion/demotion ranks.
      *
@@ -309,6 +350,7 @@ public class Permissions implements IPermissions
             }
             permissionMap.put(rank, flags);
         }
+        fullSyncNeeded = true;
 
         if (compound.hasKey(TAG_OWNER))
         {
@@ -410,6 +452,7 @@ public class Permissions implements IPermissions
             if (player != null)
             {
                 players.put(ownerUUID, new Player(ownerUUID, player.getName(), Rank.OWNER));
+                markPlayerChanged(ownerUUID);
             }
         }
         markDirty();
@@ -443,14 +486,18 @@ public class Permissions implements IPermissions
      */
     public boolean setOwner(final EntityPlayer player)
     {
-        players.remove(getOwner());
+        final UUID oldOwner = getOwner();
+        if (oldOwner != null && players.remove(oldOwner) != null)
+        {
+            markPlayerRemoved(oldOwner);
+        }
 
         ownerName = player.getName();
         ownerUUID = player.getUniqueID();
 
         players.put(ownerUUID, new Player(ownerUUID, player.getName(), Rank.OWNER));
 
-        markDirty();
+        markPlayerChanged(ownerUUID);
         return true;
     }
 
@@ -648,7 +695,7 @@ public class Permissions implements IPermissions
         if (player != null)
         {
             player.setRank(rank);
-            markDirty();
+            markPlayerChanged(id);
             AchievementUtils.syncAchievements(colony);
         }
         else
@@ -679,7 +726,7 @@ public class Permissions implements IPermissions
         }
         players.put(p.getID(), p);
 
-        markDirty();
+        markPlayerChanged(p.getID());
         AchievementUtils.syncAchievements(colony);
         return true;
     }    /**
@@ -727,7 +774,7 @@ public class Permissions implements IPermissions
         AchievementUtils.syncAchievements(colony);
         if (player != null && player.getRank() != Rank.OWNER && players.remove(id) != null)
         {
-            markDirty();
+            markPlayerRemoved(id);
             return true;
         }
 
@@ -787,29 +834,62 @@ public class Permissions implements IPermissions
 
     /**
      * Marks instance not dirty.
+     * Also forgets the player changes since the last synchronization.
      */
     public void clearDirty()
     {
         dirty = false;
+        fullSyncNeeded = false;
+        changedPlayers.clear();
+        removedPlayers.clear();
+    }
+
+    /**
+     * Whether the subscribers need all players instead of the changes.
+     *
+     * @return true if a delta can not be used.
+     */
+    public boolean isFullSyncNeeded()
+    {
+        return fullSyncNeeded;
     }
 
     /**
      * Serializes network data.
+     * Depends only on the rank of the viewer, so the same data can be shared between all viewers of a rank.
      *
      * @param buf        {@link ByteBuf} to write to.
      * @param viewerRank Rank of the viewer.
+     * @param full       true to write all players, false to only write the players changed since the last synchronization.
      */
-    public void serializeViewNetworkData(@NotNull final ByteBuf buf, @NotNull final Rank viewerRank)
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, @NotNull final Rank viewerRank, final boolean full)
     {
         ByteBufUtils.writeUTF8String(buf, viewerRank.name());
+        buf.writeBoolean(full);
 
         //  Owners
-        buf.writeInt(players.size());
-        for (@NotNull final Map.Entry<UUID, Player> player : players.entrySet())
+        if (full)
         {
-            PacketUtils.writeUUID(buf, player.getKey());
-            ByteBufUtils.writeUTF8String(buf, player.getValue().getName());
-            ByteBufUtils.writeUTF8String(buf, player.getValue().getRank().name());
+            buf.writeInt(players.size());
+            for (@NotNull final Player player : players.values())
+            {
+                writePlayer(buf, player);
+            }
+        }
+        else
+        {
+            final List<Player> changed = changedPlayers.stream().map(players::get).filter(Objects::nonNull).collect(Collectors.toList());
+            buf.writeInt(changed.size());
+            for (@NotNull final Player player : changed)
+            {
+                writePlayer(buf, player);
+            }
+
+            buf.writeInt(removedPlayers.size());
+            for (@NotNull final UUID id : removedPlayers)
+            {
+                PacketUtils.writeUUID(buf, id);
+            }
         }
 
         // Permissions
@@ -821,6 +901,19 @@ public class Permissions implements IPermissions
         }
     }
 
+    /**
+     * Writes a player to a buffer.
+     *
+     * @param buf    {@link ByteBuf} to write to.
+     * @param player the player to write.
+     */
+    private static void writePlayer(@NotNull final ByteBuf buf, @NotNull final Player player)
+    {
+        PacketUtils.writeUUID(buf, player.getID());
+        ByteBufUtils.writeUTF8String(buf, player.getName());
+        ByteBufUtils.writeUTF8String(buf, player.getRank().name());
+    }
+
     private static class RankPair
     {
         /**
@@ -984,15 +1077,20 @@ public class Permissions implements IPermissions
 
         /**
          * Deserialize content of class to a buffer.
+         * Either replaces all players or applies the changes, depending on what the server sent.
          *
          * @param buf the buffer.
          */
         public void deserialize(@NotNull final ByteBuf buf)
         {
             userRank = Rank.valueOf(ByteBufUtils.readUTF8String(buf));
+            final boolean full = buf.readBoolean();
 
             //  Owners
-            players.clear();
+            if (full)
+            {
+                players.clear();
+            }
             final int numOwners = buf.readInt();
             for (int i = 0; i < numOwners; ++i)
             {
@@ -1003,6 +1101,15 @@ public class Permissions implements IPermissions
                 players.put(id, new Player(id, name, rank));
             }
 
+            if (!full)
+            {
+                final int numRemoved = buf.readInt();
+                for (int i = 0; i < numRemoved; ++i)
+                {
+                    players.remove(PacketUtils.readUUID(buf));
+                }
+            }
+
             //Permissions
             permissions.clear();
             final int numPermissions = buf.readInt();
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.commands.colonycommands;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.managers.IAIScheduleManager;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.command.CommandException;
@@ -38,6 +39,7 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE               = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED           = "This colony is unable to be raided";
+    private static final String AI_SCHEDULE_TEXT           = "§2Worker AI: §f%d waiting, %d ticks behind, %d updates delayed";
 
     /**
      * Initialize this SubCommand with it's parents.
@@ -130,6 +132,9 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand
         sender.sendMessage(new TextComponentString(COORDINATES_TEXT + String.format(COORDINATES_XYZ, position.getX(), position.getY(), position.getZ())));
         sender.sendMessage(new TextComponentString(String.format(LAST_CONTACT_TEXT, colony.getLastContactInHours())));
         sender.sendMessage(new TextComponentString(IS_DELETABLE + !colony.canBeAutoDeleted()));
+        final IAIScheduleManager scheduler = colony.getAIScheduleManager();
+        sender.sendMessage(new TextComponentString(String.format(AI_SCHEDULE_TEXT,
+          scheduler.getWaitingCount(), scheduler.getTicksBehind(), scheduler.getSkippedUpdates())));
 
         if (!colony.isCanHaveBarbEvents())
         {
@@ -0,0 +1,116 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.network.NetworkTelemetry;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shows the network traffic of MineColonies over the last minute.
+ * Usage: /mc network [dump]
+ */
+public class NetworkStatsCommand extends AbstractSingleCommand
+{
+    public static final  String DESC                  = "network";
+    public static final  String NO_PERMISSION_MESSAGE = "You do not have permission to see the network statistics!";
+    private static final String DUMP_ARGUMENT         = "dump";
+    private static final String HEADER                = "Last minute, %s: messages / bytes";
+    private static final String LINE                  = "%s %s: %d / %d";
+    private static final String DUMP_SUCCESS_MESSAGE  = "Network statistics written to %s";
+    private static final String DUMP_FAILURE_MESSAGE  = "Failed to write the network statistics!";
+
+    /**
+     * Amount of entries shown per category.
+     */
+    private static final int MAX_LINES = 10;
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public NetworkStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        if (!isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(NO_PERMISSION_MESSAGE));
+            return;
+        }
+
+        if (args.length > 0 && DUMP_ARGUMENT.equalsIgnoreCase(args[0]))
+        {
+            final File file = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(),
+                                        Constants.MOD_ID + "/network-" + System.currentTimeMillis() + ".csv");
+            if (NetworkTelemetry.dumpToCSV(file))
+            {
+                sender.sendMessage(new TextComponentString(String.format(DUMP_SUCCESS_MESSAGE, file)));
+            }
+            else
+            {
+                sender.sendMessage(new TextComponentString(DUMP_FAILURE_MESSAGE));
+            }
+            return;
+        }
+
+        sendStats(sender, "per message", NetworkTelemetry.getMessageStats());
+        sendStats(sender, "per colony", NetworkTelemetry.getColonyStats());
+    }
+
+    /**
+     * Send the biggest entries of a category to the sender.
+     *
+     * @param sender   the command sender.
+     * @param category the name of the category.
+     * @param stats    the stats, sorted by bytes.
+     */
+    private static void sendStats(@NotNull final ICommandSender sender, @NotNull final String category, @NotNull final Map<String, long[]> stats)
+    {
+        sender.sendMessage(new TextComponentString(String.format(HEADER, category)));
+        int lines = 0;
+        for (final Map.Entry<String, long[]> entry : stats.entrySet())
+        {
+            if (lines++ >= MAX_LINES)
+            {
+                break;
+            }
+            final String[] key = entry.getKey().split(",", 2);
+            final String name = key[1].substring(key[1].lastIndexOf('.') + 1);
+            sender.sendMessage(new TextComponentString(String.format(LINE, key[0], name, entry.getValue()[0], entry.getValue()[1])));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.singletonList(DUMP_ARGUMENT);
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,128 @@
+package com.minecolonies.coremod.entity;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.CompatibilityUtils;
+import com.minecolonies.api.util.Log;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Level of detail of the update of a citizen.
+ * <p>
+ * Citizens near a player or in combat run all their sub-steps every tick. Citizens far from every player,
+ * idle or asleep run their expensive sub-steps (experience gathering, potion effects, eating, sounds) only every few ticks,
+ * each at its own phase so not all of them run in the same tick.
+ */
+public class CitizenTickScheduler
+{
+    /**
+     * Ticks between two evaluations of the level of a citizen.
+     */
+    private static final int EVALUATION_INTERVAL = 20;
+
+    /**
+     * Sub-steps run at full rate, on all citizens.
+     */
+    private static long fullSteps = 0;
+
+    /**
+     * Sub-steps run at reduced rate, on all citizens.
+     */
+    private static long reducedSteps = 0;
+
+    /**
+     * Sub-steps skipped, on all citizens.
+     */
+    private static long skippedSteps = 0;
+
+    /**
+     * Server ticks since the statistics were logged.
+     */
+    private static int ticksSinceStatistics = 0;
+
+    /**
+     * If the citizen currently runs at reduced rate.
+     */
+    private boolean reduced = false;
+
+    /**
+     * Check if the expensive sub-steps of the citizen should run this tick, evaluating its level once in a while.
+     *
+     * @param citizen     the citizen.
+     * @param offsetTicks the ticks of the citizen, offset by its id.
+     * @param inCombat    if the citizen is fighting or was hit recently.
+     * @return true if they should run.
+     */
+    public boolean shouldRun(@NotNull final EntityCitizen citizen, final int offsetTicks, final boolean inCombat)
+    {
+        if (inCombat)
+        {
+            reduced = false;
+        }
+        else if (offsetTicks % EVALUATION_INTERVAL == 0)
+        {
+            final boolean nearPlayer = CompatibilityUtils.getWorld(citizen)
+                                         .isAnyPlayerWithinRangeAt(citizen.posX, citizen.posY, citizen.posZ, Configurations.gameplay.citizenFullRateRange);
+            reduced = isReducedRate(nearPlayer, citizen.getStatus());
+        }
+
+        if (!reduced)
+        {
+            fullSteps++;
+            return true;
+        }
+        if (shouldRunReduced(offsetTicks, Configurations.gameplay.citizenReducedTickInterval))
+        {
+            reducedSteps++;
+            return true;
+        }
+        skippedSteps++;
+        return false;
+    }
+
+    /**
+     * Decide the level of a citizen which is not in combat.
+     *
+     * @param nearPlayer if a player is in range.
+     * @param status     the status of the citizen.
+     * @return true if it should run at reduced rate.
+     */
+    static boolean isReducedRate(final boolean nearPlayer, @NotNull final EntityCitizen.Status status)
+    {
+        return !nearPlayer || status == EntityCitizen.Status.SLEEPING || status == EntityCitizen.Status.IDLE;
+    }
+
+    /**
+     * Check if a citizen at reduced rate runs its sub-steps in this tick.
+     *
+     * @param offsetTicks the ticks of the citizen, offset by its id.
+     * @param interval    the configured interval.
+     * @return true if it runs.
+     */
+    static boolean shouldRunReduced(final int offsetTicks, final int interval)
+    {
+        return interval <= 1 || offsetTicks % interval == 0;
+    }
+
+    /**
+     * Count the server ticks and log the statistics when the configured interval passed.
+     */
+    public static void onServerTick()
+    {
+        final int interval = Configurations.gameplay.citizenTickStatisticsInterval;
+        if (interval <= 0 || ++ticksSinceStatistics < interval)
+        {
+            return;
+        }
+
+        final long total = fullSteps + reducedSteps + skippedSteps;
+        if (total > 0)
+        {
+            Log.getLogger().info(String.format("Citizen updates in the last %d ticks: %d full, %d reduced, %d skipped (%.1f%% skipped)",
+              ticksSinceStatistics, fullSteps, reducedSteps, skippedSteps, skippedSteps * 100.0 / total));
+        }
+        ticksSinceStatistics = 0;
+        fullSteps = 0;
+        reducedSteps = 0;
+        skippedSteps = 0;
+    }
+}
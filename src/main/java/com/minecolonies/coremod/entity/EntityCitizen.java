@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.minimal.*;
 import com.minecolonies.coremod.entity.ai.mobs.util.BarbarianUtils;
+import com.minecolonies.coremod.entity.ai.util.DroppedItemIndex;
 import com.minecolonies.coremod.entity.pathfinding.EntityCitizenWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathNavigate;
 import com.minecolonies.coremod.inventory.InventoryCitizen;
@@ -38,6 +39,7 @@ import net.minecraft.entity.monster.EntityMob;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Enchantments;
+import net.minecraft.init.MobEffects;
 import net.minecraft.init.SoundEvents;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.*;
@@ -85,6 +87,11 @@ public class EntityCitizen extends EntityAgeable implements INpc
     private static final DataParameter<String>  DATA_MODEL           = EntityDataManager.<String>createKey(EntityCitizen.class, DataSerializers.STRING);
     private static final DataParameter<String>  DATA_RENDER_METADATA = EntityDataManager.<String>createKey(EntityCitizen.class, DataSerializers.STRING);
 
+    /**
+     * Slowness effect of citizens without saturation.
+     */
+    private static final Potion SLOWNESS = MobEffects.SLOWNESS;
+
     private static Field navigatorField;
     @NotNull
     private final Map<String, Integer> statusMessages = new HashMap<>();
@@ -140,6 +147,11 @@ public class EntityCitizen extends EntityAgeable implements INpc
 
     private NBTTagCompound dataBackup = null;
 
+    /**
+     * Decides how often the expensive sub-steps of the update run.
+     */
+    private final CitizenTickScheduler tickScheduler = new CitizenTickScheduler();
+
     /**
      * Citizen constructor.
      *
@@ -815,7 +827,10 @@ public class EntityCitizen extends EntityAgeable implements INpc
         {
             citizenData.markDirty();
         }
-        if (CompatibilityUtils.getWorld(this).isRemote)
+        final boolean isRemote = CompatibilityUtils.getWorld(this).isRemote;
+        final boolean fullStep = isRemote
+                                   || tickScheduler.shouldRun(this, getOffsetTicks(), recentlyHit > 0 || getRevengeTarget() != null || getAttackTarget() != null);
+        if (isRemote)
         {
             updateColonyClient();
         }
@@ -846,36 +861,42 @@ public class EntityCitizen extends EntityAgeable implements INpc
                 setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.waitingForWork"));
             }
 
-            if (CompatibilityUtils.getWorld(this).isDaytime() && !CompatibilityUtils.getWorld(this).isRaining() && citizenData != null)
+            if (fullStep)
             {
-                SoundUtils.playRandomSound(CompatibilityUtils.getWorld(this), this, citizenData.getSaturation());
-            }
-            else if (CompatibilityUtils.getWorld(this).isRaining() && 1 >= rand.nextInt(RANT_ABOUT_WEATHER_CHANCE) && this.getColonyJob() != null)
-            {
-                SoundUtils.playSoundAtCitizenWithChance(CompatibilityUtils.getWorld(this), this.getPosition(), this.getColonyJob().getBadWeatherSound(), 1);
+                if (CompatibilityUtils.getWorld(this).isDaytime() && !CompatibilityUtils.getWorld(this).isRaining() && citizenData != null)
+                {
+                    SoundUtils.playRandomSound(CompatibilityUtils.getWorld(this), this, citizenData.getSaturation());
+                }
+                else if (CompatibilityUtils.getWorld(this).isRaining() && 1 >= rand.nextInt(RANT_ABOUT_WEATHER_CHANCE) && this.getColonyJob() != null)
+                {
+                    SoundUtils.playSoundAtCitizenWithChance(CompatibilityUtils.getWorld(this), this.getPosition(), this.getColonyJob().getBadWeatherSound(), 1);
+                }
             }
         }
 
-        if (isEntityInsideOpaqueBlock() || isInsideOfMaterial(Material.LEAVES))
-        {
-            getNavigator().moveAwayFromXYZ(this.getPosition(), MOVE_AWAY_RANGE, MOVE_AWAY_SPEED);
-        }
-
-        gatherXp();
-        if (citizenData != null)
+        if (fullStep)
         {
-            if (citizenData.getSaturation() <= 0)
-            {
-                this.addPotionEffect(new PotionEffect(Potion.getPotionFromResourceLocation("slowness")));
-            }
-            else
+            if (isEntityInsideOpaqueBlock() || isInsideOfMaterial(Material.LEAVES))
             {
-                this.removeActivePotionEffect(Potion.getPotionFromResourceLocation("slowness"));
+                getNavigator().moveAwayFromXYZ(this.getPosition(), MOVE_AWAY_RANGE, MOVE_AWAY_SPEED);
             }
 
-            if (citizenData.getSaturation() < HIGH_SATURATION)
+            gatherXp();
+            if (citizenData != null)
             {
-                tryToEat();
+                if (citizenData.getSaturation() <= 0)
+                {
+                    this.addPotionEffect(new PotionEffect(SLOWNESS));
+                }
+                else
+                {
+                    this.removeActivePotionEffect(SLOWNESS);
+                }
+
+                if (citizenData.getSaturation() < HIGH_SATURATION)
+                {
+                    tryToEat();
+                }
             }
         }
 
@@ -916,6 +937,16 @@ public class EntityCitizen extends EntityAgeable implements INpc
         updateArmSwingProgress();
     }
 
+    /**
+     * Check if the citizen did not move for a while although it should.
+     *
+     * @return true if it is stuck.
+     */
+    public boolean isStuck()
+    {
+        return stuckTime >= MIN_STUCK_TIME;
+    }
+
     public int getOffsetTicks()
     {
         return this.ticksExisted + OFFSET_TICK_MULTIPLIER * this.getEntityId();
@@ -926,24 +957,18 @@ public class EntityCitizen extends EntityAgeable implements INpc
      */
     private void pickupItems()
     {
-        @NotNull final List<EntityItem> retList = new ArrayList<>();
-        //I know streams look better but they are flawed in type erasure
-        for (final Object o :
-                CompatibilityUtils.getWorld(this).
-                        getEntitiesWithinAABB(EntityItem.class,
-                                new AxisAlignedBB(getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F)))
+        if (!canPickUpLoot())
         {
-            if (o instanceof EntityItem)
-            {
-                retList.add((EntityItem) o);
-            }
+            return;
         }
 
-        retList.stream()
-          .filter(Objects::nonNull)
-          .filter(item -> !item.isDead)
-          .filter(item -> canPickUpLoot())
-          .forEach(this::tryPickupEntityItem);
+        final World world = CompatibilityUtils.getWorld(this);
+        for (final EntityItem item : DroppedItemIndex.get(world)
+                                       .getItems(new AxisAlignedBB(getPosition()).expand(2.0F, 1.0F, 2.0F).expand(-2.0F, -1.0F, -2.0F),
+                                         getEntityId(), world.getTotalWorldTime()))
+        {
+            tryPickupEntityItem(item);
+        }
     }
 
     private void cleanupChatMessages()
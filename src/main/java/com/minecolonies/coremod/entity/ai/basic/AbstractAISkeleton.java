@@ -2,7 +2,9 @@ package com.minecolonies.coremod.entity.ai.basic;
 
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.colony.managers.IAIScheduleManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
@@ -11,8 +13,7 @@ import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.*;
 
 import static com.minecolonies.coremod.entity.EntityCitizen.Status.IDLE;
 
@@ -36,7 +37,18 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     @NotNull
     protected final ChatSpamFilter      chatSpamFilter;
     @NotNull
-    private final   ArrayList<AITarget> targetList;
+    private final   List<AITarget>      targetList;
+    /**
+     * The targets which match on all states, in registration order.
+     */
+    @NotNull
+    private         AITarget[]          alwaysTargets;
+    /**
+     * The targets to check in each state, the targets matching on all states
+     * and the ones matching on that state, in registration order.
+     */
+    @NotNull
+    private final   Map<AIState, AITarget[]> stateTargets;
     /**
      * The current state the ai is in.
      * Used to compare to state matching targets.
@@ -52,6 +64,8 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     {
         super();
         this.targetList = new ArrayList<>();
+        this.alwaysTargets = new AITarget[0];
+        this.stateTargets = new EnumMap<>(AIState.class);
         setMutexBits(MUTEX_MASK);
         this.job = job;
         this.worker = this.job.getCitizen().getCitizenEntity();
@@ -80,6 +94,32 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     protected final void registerTargets(final AITarget... targets)
     {
         Arrays.asList(targets).forEach(this::registerTarget);
+        compileTargets();
+    }
+
+    /**
+     * Sort the registered targets by the state they match on, keeping the registration order.
+     */
+    private void compileTargets()
+    {
+        final List<AITarget> always = new ArrayList<>();
+        final Map<AIState, List<AITarget>> byState = new EnumMap<>(AIState.class);
+        for (final AITarget target : targetList)
+        {
+            if (target.getState() == null)
+            {
+                always.add(target);
+                byState.values().forEach(list -> list.add(target));
+            }
+            else
+            {
+                byState.computeIfAbsent(target.getState(), key -> new ArrayList<>(always)).add(target);
+            }
+        }
+
+        alwaysTargets = always.toArray(new AITarget[always.size()]);
+        stateTargets.clear();
+        byState.forEach((key, list) -> stateTargets.put(key, list.toArray(new AITarget[list.size()])));
     }
 
     /**
@@ -126,7 +166,46 @@ public abstract class AbstractAISkeleton<J extends AbstractJob> extends EntityAI
     @Override
     public final void updateTask()
     {
-        targetList.stream().anyMatch(this::checkOnTarget);
+        final Colony colony = worker.getColony();
+        if (colony == null)
+        {
+            checkOnTargets();
+            return;
+        }
+
+        final IAIScheduleManager scheduler = colony.getAIScheduleManager();
+        if (!scheduler.tryStart(job.getCitizen().getId(), world.getTotalWorldTime(), isCritical()))
+        {
+            return;
+        }
+        final long start = System.nanoTime();
+        checkOnTargets();
+        scheduler.finish(System.nanoTime() - start);
+    }
+
+    /**
+     * Check on the targets of the current state until one of them worked.
+     */
+    private void checkOnTargets()
+    {
+        final AITarget[] targets = stateTargets.getOrDefault(state, alwaysTargets);
+        for (final AITarget target : targets)
+        {
+            if (checkOnTarget(target))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Check if the ai is in a state which must not be delayed when the colony is over its time budget.
+     *
+     * @return true if the worker was attacked or is stuck.
+     */
+    protected boolean isCritical()
+    {
+        return worker.getRevengeTarget() != null || worker.isStuck();
     }
 
     /**
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.ai.basic;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.entity.ai.util.DroppedItemIndex;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItem;
@@ -15,7 +16,6 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -84,10 +84,10 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     private int previousIndex = 0;
 
     /**
-     * Positions of all items that have to be collected.
+     * All items that have to be collected.
      */
     @Nullable
-    private List<BlockPos> items;
+    private List<EntityItem> items;
 
     /**
      * Creates the abstract part of the AI.
@@ -280,18 +280,14 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     }
 
     /**
-     * Search for all items around the worker.
+     * Search for all items around the worker which no other citizen is collecting.
      * and store them in the items list.
      *
      * @param boundingBox the area to search.
      */
     public void searchForItems(final AxisAlignedBB boundingBox)
     {
-        items = world.getEntitiesWithinAABB(EntityItem.class, boundingBox)
-                  .stream()
-                  .filter(item -> item != null && !item.isDead)
-                  .map(BlockPosUtil::fromEntity)
-                  .collect(Collectors.toList());
+        items = DroppedItemIndex.get(world).getItems(boundingBox, worker.getEntityId(), world.getTotalWorldTime());
     }
 
     /**
@@ -302,8 +298,12 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
         worker.setCanPickUpLoot(true);
         if (worker.getNavigator().noPath())
         {
-            final BlockPos pos = getAndRemoveClosestItemPosition();
-            worker.isWorkerAtSiteWithMove(pos, ITEM_PICKUP_RANGE);
+            final EntityItem item = getAndRemoveClosestItem();
+            if (item != null)
+            {
+                DroppedItemIndex.get(world).claim(worker.getEntityId(), item);
+                worker.isWorkerAtSiteWithMove(BlockPosUtil.fromEntity(item), ITEM_PICKUP_RANGE);
+            }
             return;
         }
         if (worker.getNavigator().getPath() == null)
@@ -335,26 +335,34 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     }
 
     /**
-     * Find the closest item and remove it from the list.
+     * Find the closest item another citizen isn't collecting yet and remove it from the list.
      *
-     * @return the closest item
+     * @return the closest item, or null if none is left.
      */
-    private BlockPos getAndRemoveClosestItemPosition()
+    @Nullable
+    private EntityItem getAndRemoveClosestItem()
     {
-        int index = 0;
+        final DroppedItemIndex index = DroppedItemIndex.get(world);
+        items.removeIf(item -> item.isDead || index.isClaimedByOther(item, worker.getEntityId()));
+        if (items.isEmpty())
+        {
+            return null;
+        }
+
+        int closest = 0;
         double distance = Double.MAX_VALUE;
 
         for (int i = 0; i < items.size(); i++)
         {
-            final double tempDistance = items.get(i).distanceSq(worker.getPosition());
+            final double tempDistance = items.get(i).getDistanceSq(worker.getPosition());
             if (tempDistance < distance)
             {
-                index = i;
+                closest = i;
                 distance = tempDistance;
             }
         }
 
-        return items.remove(index);
+        return items.remove(closest);
     }
 
     /**
@@ -363,6 +371,7 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     public void resetGatheringItems()
     {
         items = null;
+        DroppedItemIndex.get(world).release(worker.getEntityId());
     }
 
     /**
@@ -373,6 +382,6 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob> extends Ab
     @Nullable
     public List<BlockPos> getItemsForPickUp()
     {
-        return items == null ? null : new ArrayList<>(items);
+        return items == null ? null : items.stream().map(BlockPosUtil::fromEntity).collect(Collectors.toList());
     }
 }
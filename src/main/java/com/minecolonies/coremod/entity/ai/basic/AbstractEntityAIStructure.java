@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.jobs.AbstractJob;
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.entity.EntityCitizen;
@@ -194,8 +195,10 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJob> extends A
                 if (result == Structure.Result.AT_END)
                 {
                     switchStage(nextState);
+                    onStructureAdvanced();
                     return nextState;
                 }
+                onStructureAdvanced();
                 if (result == Structure.Result.CONFIG_LIMIT)
                 {
                     return getState();
@@ -477,11 +480,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJob> extends A
      */
     public static boolean isBlockFree(@Nullable final Block block, final int metadata)
     {
-        return block == null
-                 || BlockUtils.isWater(block.getDefaultState())
-                 || block.equals(Blocks.LEAVES)
-                 || block.equals(Blocks.LEAVES2)
-                 || (block.equals(Blocks.DOUBLE_PLANT) && Utils.testFlag(metadata, 0x08));
+        return block == null || ColonyManager.getCompatabilityManager().isFreeToBuild(block.getStateFromMeta(metadata));
     }
 
     /*
@@ -615,6 +614,44 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJob> extends A
         }
     }
 
+    /**
+     * Loads a structure which is already rotated and positioned.
+     *
+     * @param wrapper     the structure.
+     * @param rotateTimes the amount of times it was rotated.
+     */
+    protected void loadStructure(@NotNull final StructureWrapper wrapper, final int rotateTimes)
+    {
+        if (job instanceof AbstractJobStructure)
+        {
+            rotation = rotateTimes;
+            ((AbstractJobStructure) job).setStructure(wrapper);
+            currentStructure = new Structure(world, wrapper, Structure.Stage.CLEAR);
+        }
+    }
+
+    /**
+     * Called each time the structure moved on to its next block or stage.
+     * Workers overwrite this to keep track of their progress.
+     */
+    protected void onStructureAdvanced()
+    {
+        /*
+         * Nothing to be done here.
+         */
+    }
+
+    /**
+     * Get the structure being worked on.
+     *
+     * @return the structure or null.
+     */
+    @Nullable
+    protected Structure getCurrentStructure()
+    {
+        return currentStructure;
+    }
+
     /**
      * Check if the structure tusk has been canceled.
      *
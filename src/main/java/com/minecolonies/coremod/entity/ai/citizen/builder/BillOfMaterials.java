@@ -0,0 +1,266 @@
+package com.minecolonies.coremod.entity.ai.citizen.builder;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.blocks.BlockSolidSubstitution;
+import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockBed;
+import net.minecraft.block.BlockDoor;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The blocks of a structure which can require materials, and the item each of them requires.
+ * <p>
+ * This only depends on the schematic, its rotation and its mirror, so it is computed once off the server thread
+ * and shared by all the builders building the same structure. Checking which of these blocks are already
+ * placed in the world, and which are free to build, is left to the builder on the server thread.
+ */
+public final class BillOfMaterials
+{
+    /**
+     * Amount of bills kept in the cache.
+     */
+    private static final int MAX_CACHED = 16;
+
+    /**
+     * Cached bills by md5 hash, rotation and mirror, the eldest is the least recently used.
+     */
+    private static final Map<String, CompletableFuture<BillOfMaterials>> cache = new LinkedHashMap<String, CompletableFuture<BillOfMaterials>>(MAX_CACHED, 0.75F, true)
+    {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, CompletableFuture<BillOfMaterials>> eldest)
+        {
+            return size() > MAX_CACHED;
+        }
+    };
+
+    /**
+     * Thread computing the bills.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies bill of materials");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Bill of a structure without blocks.
+     */
+    private static final BillOfMaterials EMPTY = new BillOfMaterials(Collections.emptyList());
+
+    /**
+     * The entries in the order the structure is built.
+     */
+    private final List<Entry> entries;
+
+    /**
+     * Create a bill.
+     *
+     * @param entries the entries.
+     */
+    private BillOfMaterials(@NotNull final List<Entry> entries)
+    {
+        this.entries = entries;
+    }
+
+    /**
+     * Get the bill of a rotated and mirrored structure, computing it if it is not cached.
+     * The structure must not be rotated again before the bill is complete.
+     *
+     * @param structure the structure.
+     * @param md5       the md5 hash of the schematic, null if unknown, the bill is not cached then.
+     * @param rotation  the rotation of the structure.
+     * @param mirror    the mirror of the structure.
+     * @return the bill, once computed.
+     */
+    @NotNull
+    public static synchronized CompletableFuture<BillOfMaterials> get(
+      @NotNull final StructureProxy structure,
+      @Nullable final String md5,
+      final int rotation,
+      @NotNull final Mirror mirror)
+    {
+        if (md5 == null)
+        {
+            return CompletableFuture.supplyAsync(() -> compute(structure), executor);
+        }
+
+        final String key = md5 + ":" + rotation + ":" + mirror;
+        final CompletableFuture<BillOfMaterials> cached = cache.get(key);
+        if (cached != null && !cached.isCompletedExceptionally())
+        {
+            return cached;
+        }
+
+        final CompletableFuture<BillOfMaterials> future = CompletableFuture.supplyAsync(() -> compute(structure), executor);
+        cache.put(key, future);
+        return future;
+    }
+
+    /**
+     * Compute the bill of a structure.
+     *
+     * @param structure the rotated structure.
+     * @return the bill.
+     */
+    @NotNull
+    private static BillOfMaterials compute(@NotNull final StructureProxy structure)
+    {
+        final List<Entry> entries = new ArrayList<>();
+        try
+        {
+            for (int y = 0; y < structure.getHeight(); y++)
+            {
+                for (int z = 0; z < structure.getLength(); z++)
+                {
+                    for (int x = 0; x < structure.getWidth(); x++)
+                    {
+                        final BlockPos pos = new BlockPos(x, y, z);
+                        final boolean hasEntity = structure.getEntityinfo(pos) != null;
+                        final IBlockState state = structure.getBlockState(pos);
+                        if (requiresMaterial(state))
+                        {
+                            final boolean substitution = state.getBlock() instanceof BlockSolidSubstitution;
+                            entries.add(new Entry(pos, state, substitution ? null : BlockUtils.getItemStackFromBlockState(state), hasEntity));
+                        }
+                        else if (hasEntity)
+                        {
+                            entries.add(new Entry(pos, null, null, true));
+                        }
+                    }
+                }
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().warn("BillOfMaterials: could not compute the materials of a structure", e);
+            return EMPTY;
+        }
+        return new BillOfMaterials(Collections.unmodifiableList(entries));
+    }
+
+    /**
+     * Check if a structure block can require materials, whatever is in the world.
+     *
+     * @param state the structure block.
+     * @return true if so.
+     */
+    private static boolean requiresMaterial(@Nullable final IBlockState state)
+    {
+        if (state == null)
+        {
+            return false;
+        }
+
+        final Block block = state.getBlock();
+        if (block == Blocks.AIR || block == ModBlocks.blockSubstitution || block == ModBlocks.blockWayPoint)
+        {
+            return false;
+        }
+
+        return !(block instanceof BlockBed && state.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+                 && !(block instanceof BlockDoor && state.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER));
+    }
+
+    /**
+     * Get the amount of entries.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Get an entry.
+     *
+     * @param index the index.
+     * @return the entry.
+     */
+    @NotNull
+    public Entry get(final int index)
+    {
+        return entries.get(index);
+    }
+
+    /**
+     * A block of the structure which can require materials.
+     */
+    public static final class Entry
+    {
+        private final BlockPos    localPos;
+        @Nullable
+        private final IBlockState state;
+        @Nullable
+        private final ItemStack   stack;
+        private final boolean     hasEntity;
+
+        private Entry(@NotNull final BlockPos localPos, @Nullable final IBlockState state, @Nullable final ItemStack stack, final boolean hasEntity)
+        {
+            this.localPos = localPos;
+            this.state = state;
+            this.stack = stack;
+            this.hasEntity = hasEntity;
+        }
+
+        /**
+         * Get the position in the structure.
+         *
+         * @return the local position.
+         */
+        @NotNull
+        public BlockPos getLocalPos()
+        {
+            return localPos;
+        }
+
+        /**
+         * Get the structure block.
+         *
+         * @return the block state, null if only the entity requires materials.
+         */
+        @Nullable
+        public IBlockState getState()
+        {
+            return state;
+        }
+
+        /**
+         * Get the item the block requires.
+         *
+         * @return a copy of the stack, null for solid substitution blocks which depend on the world.
+         */
+        @Nullable
+        public ItemStack getStack()
+        {
+            return stack == null ? null : stack.copy();
+        }
+
+        /**
+         * Check if the structure has an entity at this position.
+         *
+         * @return true if so.
+         */
+        public boolean hasEntity()
+        {
+            return hasEntity;
+        }
+    }
+}
@@ -17,8 +17,6 @@ import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockBed;
-import net.minecraft.block.BlockDoor;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityArmorStand;
@@ -31,6 +29,7 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityFlowerPot;
 import net.minecraft.tileentity.TileEntityLockable;
+import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.gen.structure.template.Template;
@@ -40,8 +39,8 @@ import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-import static com.minecolonies.api.util.constant.Suppression.LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDSTART;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -83,6 +82,17 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
     @Nullable
     private BlockPos workFrom = null;
 
+    /**
+     * The bill of materials of the current structure, while its materials are being requested.
+     */
+    @Nullable
+    private CompletableFuture<BillOfMaterials> pendingBill = null;
+
+    /**
+     * The amount of entries of the pending bill which have been compared with the world.
+     */
+    private int billProgress = 0;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -123,6 +133,13 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
             initiate();
         }
 
+        if (pendingBill != null)
+        {
+            //Wait until all the materials are requested.
+            requestMaterialsIfRequired();
+            return true;
+        }
+
         return false;
     }
 
@@ -194,6 +211,7 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
         loadStructure(workOrder.getStructureName(), tempRotation, pos, workOrder.isMirrored());
         workOrder.setCleared(false);
         workOrder.setRequested(false);
+        pendingBill = null;
 
         //We need to deal with materials
         requestMaterialsIfRequired();
@@ -201,67 +219,89 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
 
     /**
      * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * <p>
+     * The blocks which can require materials come from the bill of materials of the structure, computed off thread.
+     * They are compared with the world a slice at a time, at most maxBlocksCheckedByBuilder per call.
      */
-    @SuppressWarnings(LOOPS_SHOULD_NOT_CONTAIN_MORE_THAN_A_SINGLE_BREAK_OR_CONTINUE_STATEMENT)
     private void requestMaterials()
     {
-        if (job.getWorkOrder().isRequested())
+        if (job.getWorkOrder().isRequested() || !job.hasStructure())
         {
             return;
         }
 
-        final AbstractBuildingWorker buildingWorker = getOwnBuilding();
-        if (buildingWorker instanceof BuildingBuilder)
+        if (pendingBill == null)
         {
-            ((BuildingBuilder) buildingWorker).resetNeededResources();
+            final AbstractBuildingWorker buildingWorker = getOwnBuilding();
+            if (buildingWorker instanceof BuildingBuilder)
+            {
+                ((BuildingBuilder) buildingWorker).resetNeededResources();
+            }
+
+            final StructureWrapper structure = job.getStructure();
+            pendingBill = BillOfMaterials.get(structure.structure(),
+              structure.structure().getStructure().getMD5(),
+              job.getWorkOrder().getRotation(world),
+              job.getWorkOrder().isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+            billProgress = 0;
         }
 
-        while (job.getStructure().findNextBlock())
+        if (!pendingBill.isDone())
         {
-            @Nullable final Template.BlockInfo blockInfo = job.getStructure().getBlockInfo();
-            @Nullable final Template.EntityInfo entityInfo = job.getStructure().getEntityinfo();
-
-            if (entityInfo != null)
-            {
-                requestEntityToBuildingIfRequired(entityInfo);
-            }
+            return;
+        }
 
-            if (blockInfo == null)
-            {
-                continue;
-            }
+        final BillOfMaterials bill = pendingBill.join();
+        final int end = Math.min(bill.size(), billProgress + Configurations.gameplay.maxBlocksCheckedByBuilder);
+        for (; billProgress < end; billProgress++)
+        {
+            requestMaterialsFor(bill.get(billProgress));
+        }
 
-            @Nullable IBlockState blockState = blockInfo.blockState;
-            @Nullable Block block = blockState.getBlock();
+        if (billProgress >= bill.size())
+        {
+            pendingBill = null;
+            job.getWorkOrder().setRequested(true);
+        }
+    }
 
-            if (job.getStructure().isStructureBlockEqualWorldBlock()
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
-                  || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER)))
-            {
-                continue;
-            }
+    /**
+     * Request the materials of one block of the structure, unless it is already in place in the world.
+     *
+     * @param entry the entry of the bill of materials.
+     */
+    private void requestMaterialsFor(@NotNull final BillOfMaterials.Entry entry)
+    {
+        final StructureWrapper structure = job.getStructure();
+        final BlockPos localPos = entry.getLocalPos();
+        if (entry.hasEntity())
+        {
+            requestEntityToBuildingIfRequired(structure.structure().getEntityinfo(localPos));
+        }
 
-            if (block instanceof BlockSolidSubstitution)
-            {
-                blockState = getSolidSubstitution(job.getStructure().getBlockPosition());
-                block = blockState.getBlock();
-            }
+        if (entry.getState() == null || structure.isStructureBlockEqualWorldBlock(localPos))
+        {
+            return;
+        }
 
-            final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
+        final BlockPos worldPos = localPos.add(structure.getOffsetPosition());
+        IBlockState blockState = entry.getState();
+        ItemStack stack = entry.getStack();
+        if (blockState.getBlock() instanceof BlockSolidSubstitution)
+        {
+            blockState = getSolidSubstitution(worldPos);
+            stack = BlockUtils.getItemStackFromBlockState(blockState);
+        }
 
-            if (block != null
-                  && block != Blocks.AIR
-                  && worldBlock != Blocks.BEDROCK
-                  && !(worldBlock instanceof AbstractBlockHut)
-                  && !isBlockFree(block, 0))
-            {
-                requestBlockToBuildingIfRequired((BuildingBuilder) getOwnBuilding(), blockState);
-            }
+        final Block block = blockState.getBlock();
+        final Block worldBlock = BlockPosUtil.getBlock(world, worldPos);
+        if (block != Blocks.AIR
+              && !isBlockFree(block, 0)
+              && worldBlock != Blocks.BEDROCK
+              && !(worldBlock instanceof AbstractBlockHut))
+        {
+            requestBlockToBuildingIfRequired((BuildingBuilder) getOwnBuilding(), stack, structure.structure().getTileEntityData(localPos));
         }
-        job.getWorkOrder().setRequested(true);
     }
 
     /**
@@ -316,23 +356,21 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
     /**
      * Add blocks to the builder building if he needs it.
      *
-     * @param building   the building.
-     * @param blockState the block to add.
+     * @param building       the building.
+     * @param stack          the item of the block to add.
+     * @param tileEntityData the tile entity data of the block, if any.
      */
-    private void requestBlockToBuildingIfRequired(final BuildingBuilder building, final IBlockState blockState)
+    private void requestBlockToBuildingIfRequired(final BuildingBuilder building, @Nullable final ItemStack stack, @Nullable final NBTTagCompound tileEntityData)
     {
-        if (job.getStructure().getBlockInfo().tileentityData != null)
+        if (tileEntityData != null)
         {
-            final List<ItemStack> itemList = new ArrayList<>();
-            itemList.addAll(getItemsFromTileEntity());
-
-            for (final ItemStack stack : itemList)
+            for (final ItemStack item : getItemStacksOfTileEntity(tileEntityData))
             {
-                building.addNeededResource(stack, 1);
+                building.addNeededResource(item, 1);
             }
         }
 
-        building.addNeededResource(BlockUtils.getItemStackFromBlockState(blockState), 1);
+        building.addNeededResource(stack, 1);
     }
 
     /**
@@ -523,6 +561,7 @@ public class EntityAIStructureBuilder extends AbstractEntityAIStructure<JobBuild
         {
             super.resetTask();
             workFrom = null;
+            pendingBill = null;
             job.setStructure(null);
             job.setWorkOrder(null);
             resetCurrentStructure();
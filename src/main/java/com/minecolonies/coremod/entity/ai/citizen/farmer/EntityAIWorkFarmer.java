@@ -1,11 +1,9 @@
 package com.minecolonies.coremod.entity.ai.citizen.farmer;
 
 import com.minecolonies.api.compatibility.Compatibility;
-import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.constant.ToolType;
-import com.minecolonies.coremod.blocks.BlockHutField;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.buildings.BuildingFarmer;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
@@ -14,10 +12,7 @@ import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
-import net.minecraft.block.Block;
 import net.minecraft.block.BlockCrops;
-import net.minecraft.block.BlockStem;
-import net.minecraft.block.IGrowable;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.Items;
@@ -31,7 +26,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.entity.ai.util.AIState.*;
@@ -68,10 +62,10 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     private boolean shouldDumpInventory = false;
 
     /**
-     * The offset to work at relative to the scarecrow.
+     * The position of the ground to work at, taken from the model of the field.
      */
     @Nullable
-    private BlockPos workingOffset;
+    private BlockPos workingPosition;
 
     /**
      * The previous position which has been worked at.
@@ -79,13 +73,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
     @Nullable
     private BlockPos prevPos;
 
-    /**
-     * Variables used in handleOffset.
-     */
-    private int     totalDis;
-    private int     dist;
-    private boolean horizontal;
-
     /**
      * Constructor for the Farmer.
      * Defines the tasks the Farmer executes.
@@ -159,15 +146,17 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHarvest))
+            final ScarecrowTileEntity.FieldStage stage = ((ScarecrowTileEntity) entity).getFieldStage();
+            final boolean hasWork = ((ScarecrowTileEntity) entity).getFieldModel().hasWork(stage);
+            if (stage == ScarecrowTileEntity.FieldStage.PLANTED && hasWork)
             {
                 return FARMER_HARVEST;
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.HOED)
+            else if (stage == ScarecrowTileEntity.FieldStage.HOED && hasWork)
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowTileEntity.FieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, this::shouldHoe))
+            else if (stage == ScarecrowTileEntity.FieldStage.EMPTY && hasWork)
             {
                 return FARMER_HOE;
             }
@@ -211,34 +200,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         }
     }
 
-    /**
-     * Handles the offset of the field for the farmer.
-     * Checks if the field needs a certain operation checked with a given predicate.
-     *
-     * @param field     the field object.
-     * @param predicate the predicate to test.
-     * @return true if a harvestable crop was found.
-     */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
-    {
-        if (workingOffset == null)
-        {
-            handleOffset(field);
-        }
-
-        BlockPos position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
-
-        while (!predicate.test(position))
-        {
-            if (!handleOffset(field))
-            {
-                return false;
-            }
-            position = field.getPos().down().south(workingOffset.getZ()).east(workingOffset.getX());
-        }
-        return true;
-    }
-
     /**
      * Checks if the farmer is ready to plant.
      *
@@ -274,53 +235,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return PREPARING;
     }
 
-    /**
-     * Handles the offset of the field for the farmer.
-     *
-     * @param field the field object.
-     * @return true if successful.
-     */
-    private boolean handleOffset(@NotNull final ScarecrowTileEntity field)
-    {
-        if (workingOffset == null)
-        {
-            workingOffset = new BlockPos(0, 0, 0);
-            totalDis = 1;
-            dist = 0;
-            horizontal = true;
-        }
-        else
-        {
-            if (workingOffset.getZ() >= field.getWidthPlusZ() && workingOffset.getX() <= -field.getLengthMinusX())
-            {
-                workingOffset = null;
-                return false;
-            }
-            else
-            {
-                if (totalDis == dist)
-                {
-                    horizontal = !horizontal;
-                    dist = 0;
-                    if (horizontal)
-                    {
-                        totalDis++;
-                    }
-                }
-                if (horizontal)
-                {
-                    workingOffset = new BlockPos(workingOffset.getX(), 0, workingOffset.getZ() - Math.pow(-1, totalDis));
-                }
-                else
-                {
-                    workingOffset = new BlockPos(workingOffset.getX() - Math.pow(-1, totalDis), 0, workingOffset.getZ());
-                }
-                dist++;
-            }
-        }
-        return true;
-    }
-
     /**
      * Called to check when the InventoryShouldBeDumped.
      *
@@ -353,9 +267,14 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         final TileEntity entity = world.getTileEntity(field);
         if(entity instanceof ScarecrowTileEntity)
         {
-            if (workingOffset != null)
+            final FieldModel model = ((ScarecrowTileEntity) entity).getFieldModel();
+            if (workingPosition != null && !model.contains(workingPosition))
             {
-                final BlockPos position = field.down().south(workingOffset.getZ()).east(workingOffset.getX());
+                workingPosition = null;
+            }
+            if (workingPosition != null)
+            {
+                final BlockPos position = workingPosition;
                 // Still moving to the block
                 if (walkToBlock(position.up()))
                 {
@@ -393,7 +312,8 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
             }
             setDelay(getLevelDelay());
 
-            if (!handleOffset((ScarecrowTileEntity) entity))
+            workingPosition = model.next(((ScarecrowTileEntity) entity).getFieldStage());
+            if (workingPosition == null)
             {
                 shouldDumpInventory = true;
                 ((ScarecrowTileEntity) entity).nextState();
@@ -412,7 +332,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean hoeIfAble(final BlockPos position)
     {
-        if (shouldHoe(position) && !checkForToolOrWeapon(ToolType.HOE))
+        if (FieldModel.isHoeable(world, position) && !checkForToolOrWeapon(ToolType.HOE))
         {
             if (mineBlock(position.up()))
             {
@@ -436,7 +356,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean tryToPlant(final ScarecrowTileEntity field, final BlockPos position)
     {
-        return !shouldPlant(position, field) || plantCrop(field.getSeed(), position);
+        return !FieldModel.isPlantable(world, position, field) || plantCrop(field.getSeed(), position);
     }
 
     /**
@@ -446,7 +366,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
      */
     private boolean harvestIfAble(final BlockPos position)
     {
-        if (shouldHarvest(position))
+        if (FieldModel.isHarvestable(world, position))
         {
             worker.addExperience(XP_PER_HARVEST);
             if (Compatibility.isPamsInstalled())
@@ -466,19 +386,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return (int) Math.max(SMALLEST_DELAY, STANDARD_DELAY - (this.worker.getLevel() * DELAY_DIVIDER));
     }
 
-    /**
-     * Checks if the ground should be hoed and the block above removed.
-     *
-     * @param position the position to check.
-     * @return true if should be hoed.
-     */
-    private boolean shouldHoe(@NotNull final BlockPos position)
-    {
-        return !BlockUtils.isBlockSeed(world, position.up())
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
-                 && (world.getBlockState(position).getBlock() == Blocks.DIRT || world.getBlockState(position).getBlock() == Blocks.GRASS);
-    }
-
     /**
      * Sets the hoe as held item.
      */
@@ -487,20 +394,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         worker.setHeldItem(getHoeSlot());
     }
 
-    /**
-     * Checks if the ground should be planted.
-     *
-     * @param position the position to check.
-     * @param field    the field close to this position.
-     * @return true if the farmer should plant.
-     */
-    private boolean shouldPlant(@NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
-    {
-        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
-                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
-                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
-    }
-
     /**
      * Plants the crop at a given location.
      *
@@ -527,31 +420,6 @@ public class EntityAIWorkFarmer extends AbstractEntityAIInteract<JobFarmer>
         return true;
     }
 
-    /**
-     * Checks if the crop should be harvested.
-     *
-     * @param position the position to check.
-     * @return true if should be harvested.
-     */
-    private boolean shouldHarvest(@NotNull final BlockPos position)
-    {
-        final IBlockState state = world.getBlockState(position.up());
-        final Block block = state.getBlock();
-
-        if (block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
-        {
-            return true;
-        }
-
-        if (block instanceof IGrowable && block instanceof BlockCrops && !(block instanceof BlockStem))
-        {
-            @NotNull final BlockCrops crop = (BlockCrops) block;
-            return crop.isMaxAge(state);
-        }
-
-        return false;
-    }
-
     /**
      * Harvest the crop (only if pams is installed).
      *
@@ -0,0 +1,362 @@
+package com.minecolonies.coremod.entity.ai.citizen.farmer;
+
+import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.coremod.blocks.BlockHutField;
+import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockCrops;
+import net.minecraft.block.BlockStem;
+import net.minecraft.block.IGrowable;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The state of each block of a field, and the blocks waiting for the farmer in each stage of the field.
+ * <p>
+ * The field is read from the world once, afterwards only the blocks changed within the field are read again.
+ * Crops growing change their block as well, so the model follows them without the farmer looking at the field.
+ */
+public class FieldModel
+{
+    /**
+     * Models of the worlds which report their block updates.
+     */
+    private static final Map<World, Set<FieldModel>> activeModels = new WeakHashMap<>();
+
+    /**
+     * Levels above the ground of the field which change the state of a block of the field.
+     */
+    private static final int HEIGHT = 2;
+
+    /**
+     * The world.
+     */
+    private final World world;
+
+    /**
+     * The field.
+     */
+    private final ScarecrowTileEntity field;
+
+    /**
+     * Lowest x of the field.
+     */
+    private final int minX;
+
+    /**
+     * Lowest z of the field.
+     */
+    private final int minZ;
+
+    /**
+     * Level of the ground of the field.
+     */
+    private final int groundY;
+
+    /**
+     * Size of the field along x.
+     */
+    private final int sizeX;
+
+    /**
+     * Size of the field along z.
+     */
+    private final int sizeZ;
+
+    /**
+     * The state of each block, as ordinal of {@link CellState}.
+     */
+    private final byte[] states;
+
+    /**
+     * Blocks changed since they were read.
+     */
+    private final BitSet dirty;
+
+    /**
+     * Blocks waiting in the queue of their state.
+     */
+    private final BitSet queued;
+
+    /**
+     * Blocks to work on, per state. Entries whose state changed since are skipped.
+     */
+    private final Map<CellState, Deque<Integer>> queues = new EnumMap<>(CellState.class);
+
+    /**
+     * Create the model of a field, it is read when it is first used.
+     *
+     * @param world the world.
+     * @param field the field.
+     */
+    public FieldModel(@NotNull final World world, @NotNull final ScarecrowTileEntity field)
+    {
+        this.world = world;
+        this.field = field;
+        this.minX = field.getPos().getX() - field.getLengthMinusX();
+        this.minZ = field.getPos().getZ() - field.getWidthMinusZ();
+        this.groundY = field.getPos().getY() - 1;
+        this.sizeX = field.getLengthMinusX() + field.getLengthPlusX() + 1;
+        this.sizeZ = field.getWidthMinusZ() + field.getWidthPlusZ() + 1;
+        this.states = new byte[sizeX * sizeZ];
+        this.dirty = new BitSet(sizeX * sizeZ);
+        this.dirty.set(0, sizeX * sizeZ);
+        this.queued = new BitSet(sizeX * sizeZ);
+        for (final CellState state : CellState.values())
+        {
+            queues.put(state, new ArrayDeque<>());
+        }
+        activeModels.computeIfAbsent(world, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(this);
+    }
+
+    /**
+     * Mark the block of a field at a position as changed, called when a block changes in the world.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Set<FieldModel> models = activeModels.get(world);
+        if (models == null || models.isEmpty())
+        {
+            return;
+        }
+
+        for (final FieldModel model : models)
+        {
+            final int cell = model.getCell(pos.getX(), pos.getZ());
+            if (cell != -1 && pos.getY() >= model.groundY && pos.getY() <= model.groundY + HEIGHT)
+            {
+                model.dirty.set(cell);
+            }
+        }
+    }
+
+    /**
+     * Stop following the block updates, when the field is removed or changes its size.
+     */
+    public void release()
+    {
+        final Set<FieldModel> models = activeModels.get(world);
+        if (models != null)
+        {
+            models.remove(this);
+        }
+    }
+
+    /**
+     * Check if there is a block to work on in a stage of the field.
+     *
+     * @param stage the stage.
+     * @return true if so.
+     */
+    public boolean hasWork(@NotNull final ScarecrowTileEntity.FieldStage stage)
+    {
+        refresh();
+        final CellState state = CellState.getWork(stage);
+        final Deque<Integer> queue = queues.get(state);
+        while (!queue.isEmpty() && states[queue.peekFirst()] != state.ordinal())
+        {
+            queue.pollFirst();
+        }
+        return !queue.isEmpty();
+    }
+
+    /**
+     * Take the next block to work on in a stage of the field.
+     *
+     * @param stage the stage.
+     * @return the position of the ground, or null if the stage is done.
+     */
+    @Nullable
+    public BlockPos next(@NotNull final ScarecrowTileEntity.FieldStage stage)
+    {
+        if (!hasWork(stage))
+        {
+            return null;
+        }
+        final int cell = queues.get(CellState.getWork(stage)).pollFirst();
+        queued.clear(cell);
+        return new BlockPos(minX + cell % sizeX, groundY, minZ + cell / sizeX);
+    }
+
+    /**
+     * Check if a position is a block of the ground of the field.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final BlockPos pos)
+    {
+        return pos.getY() == groundY && getCell(pos.getX(), pos.getZ()) != -1;
+    }
+
+    /**
+     * Read the changed blocks again, and queue the ones which need work.
+     */
+    private void refresh()
+    {
+        for (int cell = dirty.nextSetBit(0); cell >= 0; cell = dirty.nextSetBit(cell + 1))
+        {
+            final CellState state = classify(new BlockPos(minX + cell % sizeX, groundY, minZ + cell / sizeX));
+            if (states[cell] != state.ordinal())
+            {
+                states[cell] = (byte) state.ordinal();
+                queued.clear(cell);
+            }
+            if (state.isWork() && !queued.get(cell))
+            {
+                queues.get(state).addLast(cell);
+                queued.set(cell);
+            }
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Read the state of a block of the field.
+     *
+     * @param position the position of the ground.
+     * @return the state.
+     */
+    @NotNull
+    private CellState classify(@NotNull final BlockPos position)
+    {
+        if (isHarvestable(world, position))
+        {
+            return CellState.MATURE;
+        }
+        if (isPlantable(world, position, field))
+        {
+            return CellState.TILLED;
+        }
+        if (isHoeable(world, position))
+        {
+            return CellState.UNTILLED;
+        }
+        final Block above = world.getBlockState(position.up()).getBlock();
+        return above instanceof BlockCrops || above instanceof BlockStem ? CellState.PLANTED : CellState.NONE;
+    }
+
+    /**
+     * Get the index of a block of the field.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return the index, or -1 if outside of the field.
+     */
+    private int getCell(final int x, final int z)
+    {
+        final int localX = x - minX;
+        final int localZ = z - minZ;
+        if (localX < 0 || localZ < 0 || localX >= sizeX || localZ >= sizeZ)
+        {
+            return -1;
+        }
+        return localZ * sizeX + localX;
+    }
+
+    /**
+     * Checks if the ground should be hoed and the block above removed.
+     *
+     * @param world    the world.
+     * @param position the position to check.
+     * @return true if should be hoed.
+     */
+    public static boolean isHoeable(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        return !BlockUtils.isBlockSeed(world, position.up())
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockHutField)
+                 && (world.getBlockState(position).getBlock() == Blocks.DIRT || world.getBlockState(position).getBlock() == Blocks.GRASS);
+    }
+
+    /**
+     * Checks if the ground should be planted.
+     *
+     * @param world    the world.
+     * @param position the position to check.
+     * @param field    the field close to this position.
+     * @return true if the farmer should plant.
+     */
+    public static boolean isPlantable(@NotNull final World world, @NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
+    {
+        return !field.isNoPartOfField(world, position) && !(world.getBlockState(position.up()).getBlock() instanceof BlockCrops)
+                 && !(world.getBlockState(position.up()).getBlock() instanceof BlockStem)
+                 && !(world.getBlockState(position).getBlock() instanceof BlockHutField) && world.getBlockState(position).getBlock() == Blocks.FARMLAND;
+    }
+
+    /**
+     * Checks if the crop should be harvested.
+     *
+     * @param world    the world.
+     * @param position the position to check.
+     * @return true if should be harvested.
+     */
+    public static boolean isHarvestable(@NotNull final World world, @NotNull final BlockPos position)
+    {
+        final IBlockState state = world.getBlockState(position.up());
+        final Block block = state.getBlock();
+
+        if (block == Blocks.PUMPKIN || block == Blocks.MELON_BLOCK)
+        {
+            return true;
+        }
+
+        if (block instanceof IGrowable && block instanceof BlockCrops && !(block instanceof BlockStem))
+        {
+            @NotNull final BlockCrops crop = (BlockCrops) block;
+            return crop.isMaxAge(state);
+        }
+
+        return false;
+    }
+
+    /**
+     * The state of a block of a field.
+     */
+    private enum CellState
+    {
+        NONE,
+        UNTILLED,
+        TILLED,
+        PLANTED,
+        MATURE;
+
+        /**
+         * Get the state of the blocks the farmer works on in a stage of the field.
+         *
+         * @param stage the stage.
+         * @return the state.
+         */
+        @NotNull
+        private static CellState getWork(@NotNull final ScarecrowTileEntity.FieldStage stage)
+        {
+            switch (stage)
+            {
+                case HOED:
+                    return TILLED;
+                case PLANTED:
+                    return MATURE;
+                default:
+                    return UNTILLED;
+            }
+        }
+
+        /**
+         * Check if the farmer works on blocks in this state.
+         *
+         * @return true if so.
+         */
+        private boolean isWork()
+        {
+            return this == UNTILLED || this == TILLED || this == MATURE;
+        }
+    }
+}
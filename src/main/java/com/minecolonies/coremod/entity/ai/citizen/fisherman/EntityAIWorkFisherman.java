@@ -5,12 +5,12 @@ import com.minecolonies.api.util.Utils;
 import com.minecolonies.api.util.constant.ToolType;
 import com.minecolonies.coremod.colony.buildings.BuildingFisherman;
 import com.minecolonies.coremod.colony.jobs.JobFisherman;
+import com.minecolonies.coremod.colony.managers.IPondManager;
 import com.minecolonies.coremod.entity.EntityCitizen;
 import com.minecolonies.coremod.entity.EntityFishHook;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
-import com.minecolonies.coremod.entity.pathfinding.PathJobFindWater;
 import com.minecolonies.coremod.sounds.FishermanSounds;
 import com.minecolonies.coremod.util.SoundUtils;
 import net.minecraft.entity.player.EntityPlayer;
@@ -56,11 +56,6 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private static final String RENDER_META_ROD = "Rod";
 
-    /**
-     * The maximum number of ponds to remember at one time.
-     */
-    private static final int MAX_PONDS = 20;
-
     /**
      * Variable to calculate the delay the fisherman needs to throw his rod.
      * The delay will be calculated randomly. The FISHING_DELAY defines the upper limit.
@@ -90,9 +85,24 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     private static final int MAX_ROTATIONS = 6;
 
     /**
-     * The range in which the fisherman searches water.
+     * How close the fisherman has to get to the place he fishes from.
+     */
+    private static final int STAND_RANGE = 1;
+
+    /**
+     * Ticks to wait before asking for a pond again, while the water is scanned or when there is none.
+     */
+    private static final int WAIT_BEFORE_SEARCH = 40;
+
+    /**
+     * Calls without getting closer to the spot after which the way to it counts as failed.
      */
-    private static final int SEARCH_RANGE = 50;
+    private static final int STUCK_WAIT_TIME = 40;
+
+    /**
+     * Failed ways to a spot after which the fisherman gives up on it.
+     */
+    private static final int MAX_PATH_ATTEMPTS = 3;
 
     /**
      * The percentage of times where the fisherman will check out a new pond.
@@ -125,15 +135,25 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private              int    executedRotations    = 0;
     /**
-     * The PathResult when the fisherman searches water.
+     * The place the fisherman fishes from, claimed from the pond index of the colony.
      */
     @Nullable
-    private PathJobFindWater.WaterPathResult pathResult;
+    private PondIndex.FishingSpot spot;
+
     /**
-     * The Previous PathResult when the fisherman already found water.
+     * The closest distance to the spot reached on the way.
      */
-    @Nullable
-    private PathJobFindWater.WaterPathResult lastPathResult;
+    private double closestDistance = Double.MAX_VALUE;
+
+    /**
+     * Calls the fisherman didn't get closer to the spot.
+     */
+    private int stillTicks = 0;
+
+    /**
+     * Failed ways to the current spot.
+     */
+    private int pathAttempts = 0;
     /**
      * The fishingSkill which directly influences the fisherman's chance to throw his rod.
      * May in the future also influence his luck/charisma.
@@ -196,7 +216,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
             playNeedRodSound();
             return getState();
         }
-        if (job.getWater() == null)
+        if (spot == null)
         {
             return FISHERMAN_SEARCHING_WATER;
         }
@@ -288,7 +308,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
      */
     private AIState getToWater()
     {
-        if (job.getWater() == null)
+        if (spot == null)
         {
             return FISHERMAN_SEARCHING_WATER;
         }
@@ -296,19 +316,52 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (walkToWater())
         {
+            if (isStuckOnTheWay())
+            {
+                rejectSpot();
+                return FISHERMAN_SEARCHING_WATER;
+            }
             return getState();
         }
+        closestDistance = Double.MAX_VALUE;
+        stillTicks = 0;
+        pathAttempts = 0;
         return FISHERMAN_CHECK_WATER;
     }
 
     /**
-     * Let's the fisherman walk to the water if the water object in his job class already has been filled.
+     * Check if the fisherman stopped getting closer to his spot, and search a new way to it if so.
      *
-     * @return true if the fisherman has arrived at the water.
+     * @return true if he failed to get there too often.
+     */
+    private boolean isStuckOnTheWay()
+    {
+        final double distance = worker.getPosition().distanceSq(spot.getStand());
+        if (distance < closestDistance)
+        {
+            closestDistance = distance;
+            stillTicks = 0;
+            return false;
+        }
+
+        if (++stillTicks < STUCK_WAIT_TIME)
+        {
+            return false;
+        }
+        stillTicks = 0;
+        closestDistance = Double.MAX_VALUE;
+        worker.getNavigator().clearPath();
+        return ++pathAttempts >= MAX_PATH_ATTEMPTS;
+    }
+
+    /**
+     * Let's the fisherman walk to the place he fishes from.
+     *
+     * @return true while the fisherman is still walking.
      */
     private boolean walkToWater()
     {
-        return job.getWater() != null && walkToBlock(job.getWater());
+        return spot != null && walkToBlock(spot.getStand(), STAND_RANGE);
     }
 
     /**
@@ -319,14 +372,13 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     @NotNull
     private AIState tryDifferentAngles()
     {
-        if (job.getWater() == null)
+        if (spot == null)
         {
             return FISHERMAN_SEARCHING_WATER;
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            rejectSpot();
             executedRotations = 0;
             return FISHERMAN_SEARCHING_WATER;
         }
@@ -337,8 +389,8 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
     }
 
     /**
-     * Checks if the fisherman already has found 20 pools, if yes search a water pool out of these 20, else
-     * search a new one.
+     * Asks the pond index of the colony for a place to fish from, a free one at the best pond if there is one.
+     * The index is scanned off the main thread, pathfinding is only used to walk to the place.
      *
      * @return the next AIState the fisherman should switch to, after executing this method.
      */
@@ -348,71 +400,53 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
-        //If he can't find any pond, tell that to the player
-        //If 20 ponds are already stored, take a random stored location
-        if (job.getPonds().size() >= MAX_PONDS)
+        final BuildingFisherman building = getOwnBuilding();
+        if (building == null)
         {
-            return setRandomWater();
+            return PREPARING;
         }
-        return findNewWater();
-    }
 
-    /**
-     * If the fisherman can't find 20 ponds or already has found 20, the fisherman should randomly choose a fishing spot
-     * from the previously found ones.
-     *
-     * @return the next AIState.
-     */
-    private AIState setRandomWater()
-    {
-        if (job.getPonds().isEmpty())
+        final IPondManager pondManager = building.getColony().getPondManager();
+        if (!pondManager.isIndexed(building.getLocation()))
         {
-            if (lastPathResult != null && lastPathResult.isEmpty && !lastPathResult.isCancelled())
+            setDelay(WAIT_BEFORE_SEARCH);
+            return getState();
+        }
+
+        spot = pondManager.claimSpot(worker.getCitizenData().getId(), building.getLocation(), random);
+        if (spot == null)
+        {
+            //Tell the player if there is no pond, or if the other fishermen took all the spots
+            if (pondManager.hasSpots(building.getLocation()))
+            {
+                chatSpamFilter.talkWithoutSpam("entity.fisherman.messageSpotsTaken");
+            }
+            else
             {
                 chatSpamFilter.talkWithoutSpam("entity.fisherman.messageWaterTooFar");
             }
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
+            job.setWater(null);
+            setDelay(WAIT_BEFORE_SEARCH);
             return getState();
         }
-        job.setWater(job.getPonds().get(random.nextInt(job.getPonds().size())));
-
-        return FISHERMAN_CHECK_WATER;
+        job.setWater(spot.getWater());
+        closestDistance = Double.MAX_VALUE;
+        stillTicks = 0;
+        pathAttempts = 0;
+        return FISHERMAN_WALKING_TO_WATER;
     }
 
     /**
-     * Uses the pathFinding system to search close water spots which possibilitate fishing.
-     * Sets a number of possible water pools and sets the water pool the fisherman should fish now.
-     *
-     * @return the next AIState the fisherman should switch to, after executing this method
+     * Forgets the place the fisherman couldn't fish from, so no fisherman of the colony tries it again.
      */
-    private AIState findNewWater()
+    private void rejectSpot()
     {
-        if (pathResult == null)
-        {
-            pathResult = worker.getNavigator().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
-            return getState();
-        }
-        if (pathResult.failedToReachDestination())
-        {
-            return setRandomWater();
-        }
-        if (pathResult.getPathReachesDestination())
-        {
-            if (pathResult.pond != null)
-            {
-                job.setWater(pathResult.pond);
-                job.addToPonds(pathResult.pond);
-            }
-            lastPathResult = pathResult;
-            pathResult = null;
-            return FISHERMAN_CHECK_WATER;
-        }
-        if (pathResult.isCancelled())
+        if (spot != null && worker.getColony() != null)
         {
-            pathResult = null;
-            return PREPARING;
+            worker.getColony().getPondManager().rejectSpot(worker.getCitizenData().getId(), spot);
         }
-        return getState();
+        spot = null;
+        job.setWater(null);
     }
 
     /**
@@ -439,6 +473,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
             playCaughtFishSound();
             if (random.nextDouble() < CHANCE_NEW_POND)
             {
+                spot = null;
                 job.setWater(null);
                 return FISHERMAN_SEARCHING_WATER;
             }
@@ -552,8 +587,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman>
 
         if (world.getBlockState(worker.getPosition()).getBlock() == Blocks.WATER)
         {
-            job.removeFromPonds(job.getWater());
-            job.setWater(null);
+            rejectSpot();
             return FISHERMAN_SEARCHING_WATER;
         }
         //If there is no close water, try to move closer
@@ -0,0 +1,643 @@
+package com.minecolonies.coremod.entity.ai.citizen.fisherman;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import net.minecraft.block.material.Material;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ChunkCache;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The bodies of water in the range of a fisherman hut.
+ * <p>
+ * The blocks are captured on the main thread and the water surfaces are labelled on the pathfinding thread:
+ * neighbouring water columns with the same surface level form one body. Each body is scored by its size and depth
+ * and keeps the places on its shore a fisherman can stand at and cast into open water from.
+ */
+public final class PondIndex
+{
+    /**
+     * Horizontal range around the hut.
+     */
+    private static final int RANGE = 48;
+
+    /**
+     * Vertical range around the hut.
+     */
+    private static final int HEIGHT = 16;
+
+    /**
+     * Minimum amount of surface blocks of a body.
+     */
+    private static final int MIN_SIZE = 20;
+
+    /**
+     * Maximum depth counted below the surface.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    /**
+     * Surface blocks beyond which the size doesn't add to the score anymore.
+     */
+    private static final int MAX_SIZE_SCORE = 200;
+
+    /**
+     * Weight of the average depth in the score.
+     */
+    private static final int DEPTH_WEIGHT = 10;
+
+    /**
+     * Blocks of water required in front of a fisherman standing on the shore.
+     */
+    private static final int CAST_DISTANCE = 3;
+
+    /**
+     * Maximum amount of spots kept per body.
+     */
+    private static final int MAX_SPOTS = 64;
+
+    /**
+     * Level of a column without a water surface.
+     */
+    private static final int NO_SURFACE = -1;
+
+    /**
+     * Offsets to the neighbouring columns.
+     */
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * Lowest x of the index.
+     */
+    private final int minX;
+
+    /**
+     * Lowest z of the index.
+     */
+    private final int minZ;
+
+    /**
+     * Size of a side of the index.
+     */
+    private final int size;
+
+    /**
+     * Lowest level scanned.
+     */
+    private final int minY;
+
+    /**
+     * Highest level scanned.
+     */
+    private final int maxY;
+
+    /**
+     * The tick the index was requested at.
+     */
+    private final long creationTime;
+
+    /**
+     * The bodies found, largest score first.
+     */
+    private final List<WaterBody> bodies = new ArrayList<>();
+
+    /**
+     * If the index was filled.
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * If filling the index failed.
+     */
+    private volatile boolean failed = false;
+
+    /**
+     * Create an empty index.
+     *
+     * @param center       the location of the hut.
+     * @param range        the horizontal range.
+     * @param minY         the lowest level scanned.
+     * @param maxY         the highest level scanned.
+     * @param creationTime the tick the index was requested at.
+     */
+    PondIndex(@NotNull final BlockPos center, final int range, final int minY, final int maxY, final long creationTime)
+    {
+        this.minX = center.getX() - range;
+        this.minZ = center.getZ() - range;
+        this.size = range * 2 + 1;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.creationTime = creationTime;
+    }
+
+    /**
+     * Request the index of a hut. The blocks are captured now, the index is filled on the pathfinding thread.
+     *
+     * @param world  the world.
+     * @param center the location of the hut.
+     * @return the index, not ready yet.
+     */
+    @NotNull
+    public static PondIndex compute(@NotNull final World world, @NotNull final BlockPos center)
+    {
+        final int minY = Math.max(1, center.getY() - HEIGHT);
+        final int maxY = Math.min(world.getHeight() - 1, center.getY() + HEIGHT);
+        final PondIndex index = new PondIndex(center, RANGE, minY, maxY, world.getTotalWorldTime());
+        final ChunkCache cache = new ChunkCache(world,
+                                                 new BlockPos(index.minX - 1, minY - MAX_DEPTH, index.minZ - 1),
+                                                 new BlockPos(index.minX + index.size, maxY + 2, index.minZ + index.size), 0);
+        Pathfinding.submit(() ->
+        {
+            try
+            {
+                index.fill(cache);
+            }
+            catch (final RuntimeException e)
+            {
+                index.failed = true;
+                Log.getLogger().warn("PondIndex: could not index the water around " + center, e);
+            }
+        });
+        return index;
+    }
+
+    /**
+     * Fill the index, labelling the water surfaces of the area.
+     *
+     * @param world the blocks of the area.
+     */
+    void fill(@NotNull final IBlockAccess world)
+    {
+        final int[] surface = new int[size * size];
+        for (int column = 0; column < surface.length; column++)
+        {
+            surface[column] = findSurface(world, minX + column % size, minZ + column / size);
+        }
+
+        final boolean[] labelled = new boolean[size * size];
+        final int[] queue = new int[size * size];
+        for (int start = 0; start < surface.length; start++)
+        {
+            if (surface[start] == NO_SURFACE || labelled[start])
+            {
+                continue;
+            }
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            labelled[start] = true;
+            while (head < tail)
+            {
+                final int column = queue[head++];
+                for (final int[] direction : DIRECTIONS)
+                {
+                    final int next = getColumn(minX + column % size + direction[0], minZ + column / size + direction[1]);
+                    if (next != NO_SURFACE && !labelled[next] && surface[next] == surface[start])
+                    {
+                        labelled[next] = true;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            if (tail >= MIN_SIZE)
+            {
+                bodies.add(createBody(world, surface, Arrays.copyOf(queue, tail)));
+            }
+        }
+
+        bodies.removeIf(body -> body.spots.isEmpty());
+        bodies.sort(Comparator.comparingDouble(WaterBody::getScore).reversed());
+        ready = true;
+    }
+
+    /**
+     * Create a body from the columns of a water surface.
+     *
+     * @param world   the blocks.
+     * @param surface the surface level of each column.
+     * @param columns the columns of the body.
+     * @return the body.
+     */
+    @NotNull
+    private WaterBody createBody(@NotNull final IBlockAccess world, @NotNull final int[] surface, @NotNull final int[] columns)
+    {
+        final int y = surface[columns[0]];
+        int totalDepth = 0;
+        for (final int column : columns)
+        {
+            final int x = minX + column % size;
+            final int z = minZ + column / size;
+            int depth = 1;
+            while (depth < MAX_DEPTH && isWater(world, x, y - depth, z))
+            {
+                depth++;
+            }
+            totalDepth += depth;
+        }
+
+        final double averageDepth = totalDepth / (double) columns.length;
+        final WaterBody body = new WaterBody(new BlockPos(minX + columns[0] % size, y, minZ + columns[0] / size), columns.length, averageDepth,
+                                              Math.min(columns.length, MAX_SIZE_SCORE) + DEPTH_WEIGHT * averageDepth);
+
+        final Set<BlockPos> stands = new HashSet<>();
+        for (final int column : columns)
+        {
+            final int x = minX + column % size;
+            final int z = minZ + column / size;
+            for (final int[] direction : DIRECTIONS)
+            {
+                final BlockPos stand = findStand(world, surface, x - direction[0], y, z - direction[1]);
+                if (stand != null && isOpenWater(surface, x, y, z, direction) && stands.add(stand))
+                {
+                    body.spots.add(new FishingSpot(body, stand, new BlockPos(x, y, z)));
+                }
+            }
+        }
+
+        //Keep spots all around the shore when there are too many.
+        if (body.spots.size() > MAX_SPOTS)
+        {
+            final List<FishingSpot> spread = new ArrayList<>();
+            for (int i = 0; i < MAX_SPOTS; i++)
+            {
+                spread.add(body.spots.get(i * body.spots.size() / MAX_SPOTS));
+            }
+            body.spots.clear();
+            body.spots.addAll(spread);
+        }
+        return body;
+    }
+
+    /**
+     * Find the level of the water surface of a column, water below open blocks.
+     *
+     * @param world the blocks.
+     * @param x     the x.
+     * @param z     the z.
+     * @return the level, or -1 if the column has none.
+     */
+    private int findSurface(@NotNull final IBlockAccess world, final int x, final int z)
+    {
+        boolean open = false;
+        for (int y = maxY; y >= minY; y--)
+        {
+            final Material material = world.getBlockState(new BlockPos(x, y, z)).getMaterial();
+            if (material == Material.WATER)
+            {
+                return open ? y : NO_SURFACE;
+            }
+            if (!isOpen(material))
+            {
+                return NO_SURFACE;
+            }
+            open = true;
+        }
+        return NO_SURFACE;
+    }
+
+    /**
+     * Find the place to stand at in a column on the shore of a surface.
+     *
+     * @param world   the blocks.
+     * @param surface the surface level of each column.
+     * @param x       the x of the column.
+     * @param y       the level of the surface.
+     * @param z       the z of the column.
+     * @return the position of the feet, or null if there is none.
+     */
+    private BlockPos findStand(@NotNull final IBlockAccess world, @NotNull final int[] surface, final int x, final int y, final int z)
+    {
+        final int column = getColumn(x, z);
+        if (column == NO_SURFACE || surface[column] != NO_SURFACE)
+        {
+            return null;
+        }
+        for (final int feet : new int[] {y + 1, y + 2, y})
+        {
+            if (canStand(world, x, feet, z))
+            {
+                return new BlockPos(x, feet, z);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if there is water of the surface in front of a fisherman casting from a column.
+     *
+     * @param surface   the surface level of each column.
+     * @param x         the x of the water next to the shore.
+     * @param y         the level of the surface.
+     * @param z         the z of the water next to the shore.
+     * @param direction the direction of the cast.
+     * @return true if so.
+     */
+    private boolean isOpenWater(@NotNull final int[] surface, final int x, final int y, final int z, @NotNull final int[] direction)
+    {
+        for (int distance = 1; distance <= CAST_DISTANCE; distance++)
+        {
+            final int column = getColumn(x + direction[0] * distance, z + direction[1] * distance);
+            if (column == NO_SURFACE || surface[column] != y)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check if a fisherman can stand at a position.
+     *
+     * @param world the blocks.
+     * @param x     the x.
+     * @param y     the y of the feet.
+     * @param z     the z.
+     * @return true if so.
+     */
+    private static boolean canStand(@NotNull final IBlockAccess world, final int x, final int y, final int z)
+    {
+        final Material ground = world.getBlockState(new BlockPos(x, y - 1, z)).getMaterial();
+        return ground.isSolid() && !ground.isLiquid()
+                 && isOpen(world.getBlockState(new BlockPos(x, y, z)).getMaterial())
+                 && isOpen(world.getBlockState(new BlockPos(x, y + 1, z)).getMaterial());
+    }
+
+    /**
+     * Check if a block is water.
+     *
+     * @param world the blocks.
+     * @param x     the x.
+     * @param y     the y.
+     * @param z     the z.
+     * @return true if so.
+     */
+    private static boolean isWater(@NotNull final IBlockAccess world, final int x, final int y, final int z)
+    {
+        return world.getBlockState(new BlockPos(x, y, z)).getMaterial() == Material.WATER;
+    }
+
+    /**
+     * Check if a block can be moved and seen through.
+     *
+     * @param material the material of the block.
+     * @return true if so.
+     */
+    private static boolean isOpen(@NotNull final Material material)
+    {
+        return !material.blocksMovement() && !material.isLiquid();
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return the index, or -1 if outside of the area.
+     */
+    private int getColumn(final int x, final int z)
+    {
+        final int localX = x - minX;
+        final int localZ = z - minZ;
+        if (localX < 0 || localZ < 0 || localX >= size || localZ >= size)
+        {
+            return NO_SURFACE;
+        }
+        return localZ * size + localX;
+    }
+
+    /**
+     * Check if the index was filled.
+     *
+     * @return true if so.
+     */
+    public boolean isReady()
+    {
+        return ready;
+    }
+
+    /**
+     * Check if filling the index failed, it will never be ready then.
+     *
+     * @return true if so.
+     */
+    public boolean isFailed()
+    {
+        return failed;
+    }
+
+    /**
+     * Get the tick the index was requested at.
+     *
+     * @return the tick.
+     */
+    public long getCreationTime()
+    {
+        return creationTime;
+    }
+
+    /**
+     * Get the bodies of water with spots left, largest score first.
+     *
+     * @return the bodies, empty if the index is not ready.
+     */
+    @NotNull
+    public List<WaterBody> getBodies()
+    {
+        if (!ready)
+        {
+            return Collections.emptyList();
+        }
+        final List<WaterBody> result = new ArrayList<>();
+        for (final WaterBody body : bodies)
+        {
+            if (!body.spots.isEmpty())
+            {
+                result.add(body);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A connected water surface.
+     */
+    public static final class WaterBody
+    {
+        /**
+         * The first surface block of the body, identifying it.
+         */
+        private final BlockPos anchor;
+
+        /**
+         * Amount of surface blocks.
+         */
+        private final int size;
+
+        /**
+         * Average depth below the surface.
+         */
+        private final double averageDepth;
+
+        /**
+         * Score of the body, from size and depth.
+         */
+        private final double score;
+
+        /**
+         * The places on the shore to fish from.
+         */
+        private final List<FishingSpot> spots = new ArrayList<>();
+
+        /**
+         * Create a body.
+         *
+         * @param anchor       the first surface block.
+         * @param size         the amount of surface blocks.
+         * @param averageDepth the average depth.
+         * @param score        the score.
+         */
+        WaterBody(@NotNull final BlockPos anchor, final int size, final double averageDepth, final double score)
+        {
+            this.anchor = anchor;
+            this.size = size;
+            this.averageDepth = averageDepth;
+            this.score = score;
+        }
+
+        /**
+         * Get the first surface block of the body, which identifies it.
+         *
+         * @return the position.
+         */
+        @NotNull
+        public BlockPos getAnchor()
+        {
+            return anchor;
+        }
+
+        /**
+         * Get the amount of surface blocks.
+         *
+         * @return the size.
+         */
+        public int getSize()
+        {
+            return size;
+        }
+
+        /**
+         * Get the average depth below the surface, counted up to 8 blocks.
+         *
+         * @return the depth.
+         */
+        public double getAverageDepth()
+        {
+            return averageDepth;
+        }
+
+        /**
+         * Get the score of the body, higher is better.
+         *
+         * @return the score.
+         */
+        public double getScore()
+        {
+            return score;
+        }
+
+        /**
+         * Get the places on the shore to fish from.
+         *
+         * @return a copy of the spots.
+         */
+        @NotNull
+        public List<FishingSpot> getSpots()
+        {
+            return new ArrayList<>(spots);
+        }
+
+        /**
+         * Forget a spot which turned out to be unusable.
+         *
+         * @param spot the spot.
+         */
+        public void removeSpot(@NotNull final FishingSpot spot)
+        {
+            spots.remove(spot);
+        }
+    }
+
+    /**
+     * A place on the shore of a body and the water to cast into from there.
+     */
+    public static final class FishingSpot
+    {
+        /**
+         * The body of the spot.
+         */
+        private final WaterBody body;
+
+        /**
+         * The position of the feet of the fisherman.
+         */
+        private final BlockPos stand;
+
+        /**
+         * The water next to the stand.
+         */
+        private final BlockPos water;
+
+        /**
+         * Create a spot.
+         *
+         * @param body  the body.
+         * @param stand the position to stand at.
+         * @param water the water to cast into.
+         */
+        FishingSpot(@NotNull final WaterBody body, @NotNull final BlockPos stand, @NotNull final BlockPos water)
+        {
+            this.body = body;
+            this.stand = stand;
+            this.water = water;
+        }
+
+        /**
+         * Get the body of the spot.
+         *
+         * @return the body.
+         */
+        @NotNull
+        public WaterBody getBody()
+        {
+            return body;
+        }
+
+        /**
+         * Get the position the fisherman stands at.
+         *
+         * @return the position of the feet.
+         */
+        @NotNull
+        public BlockPos getStand()
+        {
+            return stand;
+        }
+
+        /**
+         * Get the water next to the stand.
+         *
+         * @return the position of the water.
+         */
+        @NotNull
+        public BlockPos getWater()
+        {
+            return water;
+        }
+    }
+}
@@ -9,26 +9,23 @@ import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.jobs.JobGuard;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
-import com.minecolonies.coremod.entity.ai.mobs.util.BarbarianUtils;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
 import com.minecolonies.coremod.tileentities.TileEntityColonyBuilding;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.monster.EntityMob;
-import net.minecraft.entity.monster.EntitySlime;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.EntityEquipmentSlot;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.Tuple;
-import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -261,6 +258,15 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         return dumpAfterActions;
     }
 
+    /**
+     * A guard with a target is fighting and never waits for the colony time budget.
+     */
+    @Override
+    protected boolean isCritical()
+    {
+        return targetEntity != null || super.isCritical();
+    }
+
     /**
      * Can be overridden in implementations.
      * <p>
@@ -325,6 +331,7 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
                     if (worker.getColony() != null && worker.getColony().getPermissions().hasPermission((EntityPlayer) entity, Action.GUARDS_ATTACK))
                     {
                         targetEntity = (EntityLivingBase) entity;
+                        claimTarget();
                         worker.getNavigator().clearPath();
                         return AIState.GUARD_HUNT_DOWN_TARGET;
                     }
@@ -338,6 +345,7 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
 
                     worker.getNavigator().clearPath();
                     targetEntity = (EntityLivingBase) entity;
+                    claimTarget();
                     return AIState.GUARD_HUNT_DOWN_TARGET;
                 }
             }
@@ -353,6 +361,17 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         return AIState.GUARD_GET_TARGET;
     }
 
+    /**
+     * Claim the current target, so other guards prefer other targets.
+     */
+    private void claimTarget()
+    {
+        if (worker.getColony() != null && worker.getCitizenData() != null)
+        {
+            worker.getColony().getThreatManager().claim(worker.getCitizenData().getId(), targetEntity);
+        }
+    }
+
     /**
      * Searches for the next target.
      *
@@ -366,19 +385,19 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
             return AIState.GUARD_HUNT_DOWN_TARGET;
         }
 
-        if (targetEntity == null)
+        if (targetEntity != null && targetEntity.isEntityAlive() && worker.getEntitySenses().canSee(targetEntity))
         {
-            targetEntity = BarbarianUtils.getClosestBarbarianToEntity(this.worker, currentSearchDistance);
+            return AIState.GUARD_HUNT_DOWN_TARGET;
         }
 
-        entityList = CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityMob.class, this.getTargetableArea(currentSearchDistance));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntitySlime.class, this.getTargetableArea(currentSearchDistance)));
-        entityList.addAll(CompatibilityUtils.getWorld(worker).getEntitiesWithinAABB(EntityPlayer.class, this.getTargetableArea(currentSearchDistance)));
-
-        if (targetEntity != null && targetEntity.isEntityAlive() && worker.getEntitySenses().canSee(targetEntity))
+        final Colony colony = worker.getColony();
+        if (colony == null || worker.getCitizenData() == null)
         {
-            return AIState.GUARD_HUNT_DOWN_TARGET;
+            return AIState.GUARD_PATROL;
         }
+        colony.getThreatManager().release(worker.getCitizenData().getId());
+        entityList = new ArrayList<>(colony.getThreatManager()
+                                       .getCandidates(worker.getCitizenData().getId(), worker.getPositionVector(), currentSearchDistance, HEIGHT_DETECTION_RANGE));
 
         setDelay(BASE_DELAY);
         if (entityList.isEmpty())
@@ -409,11 +428,6 @@ public abstract class AbstractEntityAIGuard extends AbstractEntityAIInteract<Job
         return false;
     }
 
-    private AxisAlignedBB getTargetableArea(final double range)
-    {
-        return this.worker.getEntityBoundingBox().expand(range, HEIGHT_DETECTION_RANGE, range);
-    }
-
     /**
      * Getter for the vision or attack distance.
      *
@@ -3,13 +3,11 @@ package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.ToolType;
-import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.BuildingLumberjack;
 import com.minecolonies.coremod.colony.jobs.JobLumberjack;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
-import com.minecolonies.coremod.entity.pathfinding.PathJobFindTree;
 import com.minecolonies.coremod.util.WorkerUtil;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockSapling;
@@ -39,19 +37,6 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     private static final String RENDER_META_LOGS = "Logs";
 
-    /**
-     * The range in which the lumberjack searches for trees.
-     */
-    private static final int SEARCH_RANGE = 50;
-
-    /**
-     * If no trees are found, increment the range.
-     */
-    private static final int SEARCH_INCREMENT = 5;
-    /**
-     * If this limit is reached, no trees are found.
-     */
-    private static final int SEARCH_LIMIT = 150;
     /**
      * Number of ticks to wait before coming to the conclusion of being stuck.
      */
@@ -101,9 +86,9 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     private static final int   WAIT_BEFORE_SEARCH      = 100;
 
     /**
-     * Time in ticks before incrementing the search radius.
+     * Time in ticks to wait when no tree was found.
      */
-    private static final int   WAIT_BEFORE_INCREMENT   = 20;
+    private static final int   WAIT_BEFORE_NO_TREES    = 20;
 
 
     /**
@@ -121,6 +106,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
      */
     private static final int   MAX_BLOCKS_MINED        = 32;
 
+    /**
+     * Times the lumberjack gets stuck on the way to a tree before he gives up on it.
+     */
+    private static final int   MAX_PATH_ATTEMPTS       = 3;
+
     /**
      * Position where the Builders constructs from.
      */
@@ -148,15 +138,9 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     private boolean checkedInHut = false;
 
     /**
-     * The active pathfinding job used to walk to trees.
-     */
-    @Nullable
-    private PathJobFindTree.TreePathResult pathResult;
-    /**
-     * A counter by how much the tree search radius
-     * has been increased by now.
+     * Times the lumberjack got stuck on the way to the current tree.
      */
-    private int searchIncrement = 0;
+    private int pathAttempts = 0;
 
     /**
      * Create a new LumberjackAI.
@@ -253,49 +237,30 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
     }
 
     /**
-     * Search for a tree.
+     * Search for a tree, the closest one the registry of the hut knows.
      *
-     * @return LUMBERJACK_GATHERING if job was canceled.
+     * @return LUMBERJACK_NO_TREES_FOUND if there is none.
      */
     private AIState findTree()
     {
-        final AbstractBuilding building = getOwnBuilding();
-
-        if (pathResult == null || pathResult.treeLocation == null)
-        {
-            pathResult = worker.getNavigator().moveToTree(SEARCH_RANGE + searchIncrement, 1.0D, ((BuildingLumberjack) building).getTreesToCut());
-            return getState();
-        }
-        if (pathResult.getPathReachesDestination())
-        {
-            return setNewTree();
-        }
-        if (pathResult.isCancelled())
-        {
-            pathResult = null;
-            return LUMBERJACK_GATHERING;
-        }
-        return getState();
-    }
+        final BuildingLumberjack building = (BuildingLumberjack) getOwnBuilding();
+        final TreeRegistry registry = building.getTreeRegistry(world);
+        registry.update();
 
-    private AIState setNewTree()
-    {
-        if (pathResult.treeLocation == null)
+        final BlockPos treeLocation = registry.findNearest(worker.getPosition(), building.getTreesToCut());
+        if (treeLocation == null)
         {
-            setDelay(WAIT_BEFORE_INCREMENT);
-            if (searchIncrement + SEARCH_RANGE > SEARCH_LIMIT)
+            if (!registry.isComplete())
             {
-                return LUMBERJACK_NO_TREES_FOUND;
+                return getState();
             }
-            searchIncrement += SEARCH_INCREMENT;
-        }
-        else
-        {
-            job.tree = new Tree(world, pathResult.treeLocation);
-            job.tree.findLogs(world);
+            setDelay(WAIT_BEFORE_NO_TREES);
+            return LUMBERJACK_NO_TREES_FOUND;
         }
-        pathResult = null;
 
+        job.tree = new Tree(world, treeLocation);
+        job.tree.findLogs(world);
+        pathAttempts = 0;
         return getState();
     }
 
@@ -337,8 +302,14 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
             if (!walkToTree(job.tree.getStumpLocations().get(0)))
             {
                 checkIfStuckOnLeaves(location);
+                if (pathAttempts >= MAX_PATH_ATTEMPTS)
+                {
+                    giveUpTree();
+                    return LUMBERJACK_SEARCHING_TREE;
+                }
                 return getState();
             }
+            pathAttempts = 0;
         }
 
         if (!job.tree.hasLogs() && (!job.tree.isSlimeTree() || !job.tree.hasLeaves()))
@@ -436,6 +407,19 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         tryGettingUnstuckFromLeaves();
     }
 
+    /**
+     * Leave the current tree to search another one, it could not be reached.
+     */
+    private void giveUpTree()
+    {
+        ((BuildingLumberjack) getOwnBuilding()).getTreeRegistry(world).markUnreachable(job.tree.getLocation());
+        job.tree = null;
+        checkedInHut = false;
+        workFrom = null;
+        stillTicks = 0;
+        pathAttempts = 0;
+    }
+
     /**
      * Place a sappling for the current tree.
      */
@@ -473,6 +457,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAIInteract<JobLumberja
         {
             worker.getNavigator().moveAwayFromXYZ(worker.getPosition(), WALK_BACK_RANGE, WALK_BACK_SPEED);
             stillTicks = 0;
+            pathAttempts++;
             return;
         }
         if (!mineBlock(nextLeaves, workFrom))
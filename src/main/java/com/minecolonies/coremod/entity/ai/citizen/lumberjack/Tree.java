@@ -6,7 +6,6 @@ import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.coremod.colony.ColonyManager;
 import net.minecraft.block.Block;
-import net.minecraft.block.BlockLeaves;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
@@ -178,10 +177,17 @@ public class Tree
     {
         for(final BlockPos pos : leaves)
         {
-            final Block block = world.getBlockState(pos).getBlock();
+            final IBlockState state = world.getBlockState(pos);
+            final Block block = state.getBlock();
 
-            if(block instanceof BlockLeaves)
+            if(ColonyManager.getCompatabilityManager().isLeave(state))
             {
+                final ItemStack known = ColonyManager.getCompatabilityManager().getSaplingForLeave(state);
+                if (known != null)
+                {
+                    return known.copy();
+                }
+
                 final NonNullList<ItemStack> list = NonNullList.create();
                 block.getDrops(list, world, pos, world.getBlockState(pos), A_LOT_OF_LUCK);
                 for(final ItemStack stack: list)
@@ -202,7 +208,7 @@ public class Tree
     }
 
     /**
-     * For use in PathJobFindTree.
+     * Check if a position is the lowest log of a tree the lumberjack may cut, used by the {@link TreeRegistry}.
      *
      * @param world      the world.
      * @param pos        The coordinates.
@@ -332,10 +338,15 @@ public class Tree
      */
     private static boolean supposedToCut(final IBlockAccess world, final Map<ItemStorage, Boolean> treesToCut, final BlockPos leafPos)
     {
+        final ItemStack sap = ColonyManager.getCompatabilityManager().getSaplingForLeave(world.getBlockState(leafPos));
+        if (sap == null)
+        {
+            return true;
+        }
+
         for (final ItemStorage stack : treesToCut.entrySet().stream().filter(entry -> !entry.getValue()).map(Map.Entry::getKey).collect(Collectors.toList()))
         {
-            final ItemStack sap = ColonyManager.getCompatabilityManager().getSaplingForLeave(world.getBlockState(leafPos));
-            if(sap != null && sap.isItemEqual(stack.getItemStack()))
+            if(sap.isItemEqual(stack.getItemStack()))
             {
                 return false;
             }
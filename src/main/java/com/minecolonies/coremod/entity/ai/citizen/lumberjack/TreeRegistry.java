@@ -0,0 +1,303 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The trees in the range of a lumberjack hut.
+ * <p>
+ * The range is scanned column by column, a few hundred columns per call, looking for the lowest logs of trees.
+ * Columns where logs, leaves or saplings change are scanned again the next time the registry is used.
+ * Selecting a tree checks the candidates closest first, with the trees the lumberjack is supposed to cut.
+ */
+public class TreeRegistry
+{
+    /**
+     * Registries of the worlds which report their block updates.
+     */
+    private static final Map<World, Set<TreeRegistry>> activeRegistries = new WeakHashMap<>();
+
+    /**
+     * Radius around the hut the registry covers.
+     */
+    private static final int RANGE = 100;
+
+    /**
+     * Columns scanned per call.
+     */
+    private static final int COLUMNS_PER_UPDATE = 512;
+
+    /**
+     * Maximum height scanned down from the top of a column.
+     */
+    private static final int MAX_SCAN_DEPTH = 48;
+
+    /**
+     * Horizontal distance of a changed block to the lowest log of a tree which has to be checked again.
+     */
+    private static final int TREE_RADIUS = 2;
+
+    /**
+     * Side length of the covered area.
+     */
+    private static final int SIZE = RANGE * 2 + 1;
+
+    /**
+     * Ticks a tree the lumberjack could not reach is left out of the search.
+     */
+    private static final int UNREACHABLE_TIME = 6000;
+
+    /**
+     * The world.
+     */
+    private final World world;
+
+    /**
+     * The location of the hut.
+     */
+    private final BlockPos center;
+
+    /**
+     * The lowest logs of the trees found.
+     */
+    private final Set<BlockPos> trees = new HashSet<>();
+
+    /**
+     * Trees the lumberjack could not reach, with the tick they are searched again from.
+     */
+    private final Map<BlockPos, Long> unreachable = new HashMap<>();
+
+    /**
+     * Columns changed since they were scanned, as packed x and z.
+     */
+    private final Set<Long> dirtyColumns = new HashSet<>();
+
+    /**
+     * Columns in unloaded chunks, scanned again when no tree is found.
+     */
+    private final Set<Long> unloadedColumns = new HashSet<>();
+
+    /**
+     * The next column of the first scan.
+     */
+    private int scanIndex = 0;
+
+    /**
+     * Create the registry of a hut, it is filled when it is first used.
+     *
+     * @param world  the world.
+     * @param center the location of the hut.
+     */
+    public TreeRegistry(@NotNull final World world, @NotNull final BlockPos center)
+    {
+        this.world = world;
+        this.center = center.toImmutable();
+        activeRegistries.computeIfAbsent(world, key -> Collections.newSetFromMap(new WeakHashMap<>())).add(this);
+    }
+
+    /**
+     * Check if a block change can change a tree, called when a block changes in the world.
+     *
+     * @param world    the world.
+     * @param pos      the position.
+     * @param oldState the block before.
+     * @param newState the block after.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState)
+    {
+        if (!isTreePart(oldState) && !isTreePart(newState))
+        {
+            return;
+        }
+
+        final Set<TreeRegistry> registries = activeRegistries.get(world);
+        if (registries == null || registries.isEmpty())
+        {
+            return;
+        }
+
+        for (final TreeRegistry registry : registries)
+        {
+            if (registry.contains(pos.getX(), pos.getZ()))
+            {
+                registry.dirtyColumns.add(ChunkPos.asLong(pos.getX(), pos.getZ()));
+            }
+        }
+    }
+
+    /**
+     * Check if a block can be part of a tree or grow into one.
+     *
+     * @param state the block.
+     * @return true if it is wood, leaves or a plant.
+     */
+    private static boolean isTreePart(@NotNull final IBlockState state)
+    {
+        final Material material = state.getMaterial();
+        return material == Material.WOOD || material == Material.LEAVES || material == Material.PLANTS;
+    }
+
+    /**
+     * Scan the next columns and the changed columns.
+     */
+    public void update()
+    {
+        if (!dirtyColumns.isEmpty())
+        {
+            for (final long column : dirtyColumns)
+            {
+                rescanAround((int) column, (int) (column >> 32));
+            }
+            dirtyColumns.clear();
+        }
+
+        final int end = Math.min(scanIndex + COLUMNS_PER_UPDATE, SIZE * SIZE);
+        for (; scanIndex < end; scanIndex++)
+        {
+            scanColumn(center.getX() - RANGE + scanIndex % SIZE, center.getZ() - RANGE + scanIndex / SIZE);
+        }
+    }
+
+    /**
+     * Check if the whole range was scanned once.
+     *
+     * @return true if so.
+     */
+    public boolean isComplete()
+    {
+        return scanIndex >= SIZE * SIZE;
+    }
+
+    /**
+     * Find the closest tree the lumberjack is supposed to cut.
+     * Candidates which are no trees anymore are forgotten on the way, trees which could not be reached are left out for a while.
+     *
+     * @param position   the position of the lumberjack.
+     * @param treesToCut the trees the lumberjack is supposed to cut.
+     * @return the lowest log of the tree, or null if none is known.
+     */
+    @Nullable
+    public BlockPos findNearest(@NotNull final BlockPos position, @NotNull final Map<ItemStorage, Boolean> treesToCut)
+    {
+        final long time = world.getTotalWorldTime();
+        unreachable.values().removeIf(until -> until <= time);
+
+        final List<BlockPos> candidates = new ArrayList<>(trees);
+        candidates.sort(Comparator.comparingDouble(position::distanceSq));
+        for (final BlockPos candidate : candidates)
+        {
+            if (!world.isBlockLoaded(candidate) || unreachable.containsKey(candidate))
+            {
+                continue;
+            }
+            if (Tree.checkTree(world, candidate, treesToCut))
+            {
+                return candidate;
+            }
+            if (!Tree.checkTree(world, candidate, Collections.emptyMap()))
+            {
+                trees.remove(candidate);
+            }
+        }
+
+        if (isComplete() && !unloadedColumns.isEmpty())
+        {
+            dirtyColumns.addAll(unloadedColumns);
+            unloadedColumns.clear();
+        }
+        return null;
+    }
+
+    /**
+     * Leave a tree out of the search for a while, when the lumberjack could not reach it.
+     *
+     * @param tree the lowest log of the tree.
+     */
+    public void markUnreachable(@NotNull final BlockPos tree)
+    {
+        unreachable.put(tree.toImmutable(), world.getTotalWorldTime() + UNREACHABLE_TIME);
+    }
+
+    /**
+     * Scan a changed column and check the trees next to it again.
+     *
+     * @param x the x.
+     * @param z the z.
+     */
+    private void rescanAround(final int x, final int z)
+    {
+        final Iterator<BlockPos> iterator = trees.iterator();
+        final List<BlockPos> nearby = new ArrayList<>();
+        while (iterator.hasNext())
+        {
+            final BlockPos tree = iterator.next();
+            if (Math.abs(tree.getX() - x) <= TREE_RADIUS && Math.abs(tree.getZ() - z) <= TREE_RADIUS)
+            {
+                iterator.remove();
+                nearby.add(tree);
+            }
+        }
+
+        for (final BlockPos tree : nearby)
+        {
+            scanColumn(tree.getX(), tree.getZ());
+        }
+        scanColumn(x, z);
+    }
+
+    /**
+     * Scan a column down from its top and remember the lowest logs of trees in it.
+     *
+     * @param x the x.
+     * @param z the z.
+     */
+    private void scanColumn(final int x, final int z)
+    {
+        final BlockPos top = new BlockPos(x, 0, z);
+        if (!world.isBlockLoaded(top))
+        {
+            unloadedColumns.add(ChunkPos.asLong(x, z));
+            return;
+        }
+
+        final int height = world.getHeight(top).getY();
+        final int bottom = Math.max(1, height - MAX_SCAN_DEPTH);
+        boolean aboveIsLog = false;
+        for (int y = height; y >= bottom; y--)
+        {
+            final BlockPos pos = new BlockPos(x, y, z);
+            final IBlockState state = world.getBlockState(pos);
+            final boolean isLog = state.getBlock().isWood(world, pos) || Compatibility.isSlimeBlock(state.getBlock());
+            if (!isLog && aboveIsLog && Tree.checkTree(world, pos.up(), Collections.emptyMap()))
+            {
+                trees.add(pos.up());
+            }
+            if (!isLog && state.getMaterial().isSolid() && state.getMaterial() != Material.LEAVES)
+            {
+                return;
+            }
+            aboveIsLog = isLog;
+        }
+    }
+
+    /**
+     * Check if a column is in the range of the registry.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return true if so.
+     */
+    private boolean contains(final int x, final int z)
+    {
+        return Math.abs(x - center.getX()) <= RANGE && Math.abs(z - center.getZ()) <= RANGE;
+    }
+}
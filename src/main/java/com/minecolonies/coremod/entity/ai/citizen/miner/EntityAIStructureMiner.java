@@ -3,12 +3,13 @@ package com.minecolonies.coremod.entity.ai.citizen.miner;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Vec2i;
 import com.minecolonies.coremod.colony.ColonyManager;
-import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.coremod.colony.buildings.BuildingMiner;
 import com.minecolonies.coremod.colony.jobs.JobMiner;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
 import com.minecolonies.coremod.entity.ai.util.AIState;
 import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.entity.ai.util.Structure;
+import com.minecolonies.coremod.util.StructureWrapper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockLadder;
 import net.minecraft.block.state.IBlockState;
@@ -580,25 +581,82 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
     {
         if (mineNode == null)
         {
-            loadStructure(Structures.SCHEMATICS_PREFIX + "/miner/minerMainShaft", getRotationFromVector(), structurePos, false);
+            loadMinerStructure(MinerTemplates.Type.MAIN_SHAFT, getRotationFromVector(), structurePos);
         }
         else
         {
             if (mineNode.getStyle() == Node.NodeType.CROSSROAD)
             {
-                loadStructure(Structures.SCHEMATICS_PREFIX + "/miner/minerX4", rotateTimes, structurePos, false);
+                loadMinerStructure(MinerTemplates.Type.CROSSROAD, rotateTimes, structurePos);
             }
             if (mineNode.getStyle() == Node.NodeType.BEND)
             {
-                loadStructure(Structures.SCHEMATICS_PREFIX + "/miner/minerX2Right", rotateTimes, structurePos, false);
+                loadMinerStructure(MinerTemplates.Type.BEND, rotateTimes, structurePos);
             }
             if (mineNode.getStyle() == Node.NodeType.TUNNEL)
             {
-                loadStructure(Structures.SCHEMATICS_PREFIX + "/miner/minerX2Top", rotateTimes, structurePos, false);
+                loadMinerStructure(MinerTemplates.Type.TUNNEL, rotateTimes, structurePos);
             }
         }
     }
 
+    /**
+     * Load one of the prepared templates of the mine.
+     *
+     * @param type         the template.
+     * @param rotateTimes  The amount of time to rotate the structure.
+     * @param structurePos The position of the structure.
+     */
+    private void loadMinerStructure(@NotNull final MinerTemplates.Type type, final int rotateTimes, final BlockPos structurePos)
+    {
+        try
+        {
+            final StructureWrapper wrapper = MinerTemplates.get(world, type, rotateTimes, structurePos);
+            if (wrapper != null)
+            {
+                loadStructure(wrapper, rotateTimes);
+                return;
+            }
+        }
+        catch (final IllegalStateException e)
+        {
+            Log.getLogger().warn(String.format("StructureProxy: (%s) does not exist", type.getName()), e);
+        }
+        job.setStructure(null);
+    }
+
+    /**
+     * Continue the structure of a node where it was before the last restart.
+     *
+     * @param mineNode the node.
+     * @param level    the level of the node.
+     * @return the state to continue with.
+     */
+    @NotNull
+    private AIState resumeNodeProgress(@NotNull final Node mineNode, @NotNull final Level level)
+    {
+        final Structure.Stage stage = level.getProgressStage(new Vec2i(mineNode.getX(), mineNode.getZ()));
+        final BlockPos progressPos = level.getProgressPosition();
+        if (stage == null || progressPos == null || getCurrentStructure() == null || job.getStructure() == null)
+        {
+            return CLEAR_STEP;
+        }
+
+        getCurrentStructure().setStage(stage);
+        job.getStructure().setLocalPosition(progressPos);
+        switch (stage)
+        {
+            case BUILD:
+                return BUILDING_STEP;
+            case SPAWN:
+                return SPAWN_STEP;
+            case DECORATE:
+                return DECORATION_STEP;
+            default:
+                return CLEAR_STEP;
+        }
+    }
+
     /**
      * Return number of rotation for our building, for the main shaft.
      *
@@ -629,9 +687,11 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
     {
         mineNode.setStatus(Node.NodeStatus.IN_PROGRESS);
         //Preload structures
+        AIState resumeState = CLEAR_STEP;
         if (job.getStructure() == null)
         {
             initStructure(mineNode, rotation, new BlockPos(mineNode.getX(), getOwnBuilding().getCurrentLevel().getDepth(), mineNode.getZ()));
+            resumeState = resumeNodeProgress(mineNode, getOwnBuilding().getCurrentLevel());
         }
 
         //Check for liquids
@@ -658,7 +718,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
 
         if (job.getStructure() != null)
         {
-            return CLEAR_STEP;
+            return resumeState;
         }
 
         return MINER_MINING_NODE;
@@ -725,6 +785,7 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         //If shaft isn't cleared we're in shaft clearing mode.
         if (minerBuilding.hasClearedShaft())
         {
+            minerBuilding.getCurrentLevel().clearProgress();
             minerBuilding.getCurrentLevel().closeNextNode(getRotation());
         }
         else
@@ -814,6 +875,23 @@ public class EntityAIStructureMiner extends AbstractEntityAIStructure<JobMiner>
         return false;
     }
 
+    /**
+     * Remember in the level how far the structure of the current node got.
+     */
+    @Override
+    protected void onStructureAdvanced()
+    {
+        final Level level = getOwnBuilding().getCurrentLevel();
+        final Structure structure = getCurrentStructure();
+        if (level == null || structure == null || job.getStructure() == null || !getOwnBuilding().hasClearedShaft())
+        {
+            return;
+        }
+
+        final BlockPos position = job.getStructure().getPosition();
+        level.setProgress(new Vec2i(position.getX(), position.getZ()), structure.getStage(), job.getStructure().getLocalPosition());
+    }
+
     @Override
     protected void onStartWithoutStructure()
     {
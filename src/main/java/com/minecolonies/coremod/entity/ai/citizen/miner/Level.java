@@ -1,12 +1,17 @@
 package com.minecolonies.coremod.entity.ai.citizen.miner;
 
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Vec2i;
 import com.minecolonies.coremod.colony.buildings.BuildingMiner;
+import com.minecolonies.coremod.entity.ai.util.Structure;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -27,6 +32,11 @@ public class Level
     private static final String TAG_LADDERX    = "LadderX";
     private static final String TAG_LADDERZ    = "LadderZ";
     private static final String TAG_OPEN_NODES = "OpenNodes";
+    private static final String TAG_PROGRESS   = "Progress";
+    private static final String TAG_NODEX      = "NodeX";
+    private static final String TAG_NODEZ      = "NodeZ";
+    private static final String TAG_STAGE      = "Stage";
+    private static final String TAG_POS        = "Pos";
 
     /**
      * Possible rotations.
@@ -69,6 +79,24 @@ public class Level
      */
     private final Node ladderNode;
 
+    /**
+     * The node whose structure is being worked on, null if none.
+     */
+    @Nullable
+    private Vec2i progressNode;
+
+    /**
+     * The stage of the structure of that node.
+     */
+    @Nullable
+    private Structure.Stage progressStage;
+
+    /**
+     * The local position reached in the structure of that node.
+     */
+    @Nullable
+    private BlockPos progressPos;
+
     /**
      * Create a new level model.
      *
@@ -158,6 +186,23 @@ public class Level
             @NotNull final Node node = Node.createFromNBT(openNodeTagList.getCompoundTagAt(i));
             this.openNodes.add(node);
         }
+
+        if (compound.hasKey(TAG_PROGRESS))
+        {
+            final NBTTagCompound progressCompound = compound.getCompoundTag(TAG_PROGRESS);
+            final int stage = progressCompound.getInteger(TAG_STAGE);
+            if (stage >= 0 && stage < Structure.Stage.values().length)
+            {
+                this.progressNode = new Vec2i(progressCompound.getInteger(TAG_NODEX), progressCompound.getInteger(TAG_NODEZ));
+                this.progressStage = Structure.Stage.values()[stage];
+                this.progressPos = BlockPosUtil.readFromNBT(progressCompound, TAG_POS);
+            }
+            else
+            {
+                //Without a known stage the node is started over from the beginning.
+                Log.getLogger().warn("Level: unknown structure stage " + stage + " of the node in progress, starting it over");
+            }
+        }
     }
 
     /**
@@ -287,6 +332,63 @@ public class Level
             openNodeTagList.appendTag(nodeCompound);
         }
         compound.setTag(TAG_OPEN_NODES, openNodeTagList);
+
+        if (progressNode != null && progressStage != null && progressPos != null)
+        {
+            final NBTTagCompound progressCompound = new NBTTagCompound();
+            progressCompound.setInteger(TAG_NODEX, progressNode.getX());
+            progressCompound.setInteger(TAG_NODEZ, progressNode.getZ());
+            progressCompound.setInteger(TAG_STAGE, progressStage.ordinal());
+            BlockPosUtil.writeToNBT(progressCompound, TAG_POS, progressPos);
+            compound.setTag(TAG_PROGRESS, progressCompound);
+        }
+    }
+
+    /**
+     * Remember how far the structure of a node got, so it can be resumed after a restart.
+     *
+     * @param node     the position of the node.
+     * @param stage    the stage of the structure.
+     * @param localPos the local position reached in the structure.
+     */
+    public void setProgress(@NotNull final Vec2i node, @NotNull final Structure.Stage stage, @NotNull final BlockPos localPos)
+    {
+        this.progressNode = node;
+        this.progressStage = stage;
+        this.progressPos = localPos;
+    }
+
+    /**
+     * Forget the progress of the node being worked on.
+     */
+    public void clearProgress()
+    {
+        this.progressNode = null;
+        this.progressStage = null;
+        this.progressPos = null;
+    }
+
+    /**
+     * Get the stage the structure of a node got to.
+     *
+     * @param node the position of the node.
+     * @return the stage, or null if there is no progress for that node.
+     */
+    @Nullable
+    public Structure.Stage getProgressStage(@NotNull final Vec2i node)
+    {
+        return node.equals(progressNode) ? progressStage : null;
+    }
+
+    /**
+     * Get the local position the structure of the node being worked on got to.
+     *
+     * @return the position, or null if there is no progress.
+     */
+    @Nullable
+    public BlockPos getProgressPosition()
+    {
+        return progressPos;
     }
 
     @NotNull
@@ -0,0 +1,120 @@
+package com.minecolonies.coremod.entity.ai.citizen.miner;
+
+import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.coremod.util.StructureWrapper;
+import com.minecolonies.structures.helpers.StructureProxy;
+import net.minecraft.util.Mirror;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The schematics of the mine, parsed and rotated once per server and shared by all miners.
+ * <p>
+ * A prepared template is never rotated again, every miner gets its own {@link StructureWrapper} around it
+ * to keep its own position and progress.
+ */
+public final class MinerTemplates
+{
+    /**
+     * Amount of rotations of a template.
+     */
+    private static final int ROTATIONS = 4;
+
+    /**
+     * Prepared templates, by type and rotation.
+     */
+    private static final Map<Type, StructureProxy[]> prepared = new EnumMap<>(Type.class);
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private MinerTemplates()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a structure around a prepared template, reading the schematic only the first time.
+     *
+     * @param world       the world to build in.
+     * @param type        the template.
+     * @param rotateTimes the amount of times it is rotated.
+     * @param position    the position to build at.
+     * @return the structure, or null if the schematic is missing.
+     */
+    @Nullable
+    public static StructureWrapper get(@NotNull final World world, @NotNull final Type type, final int rotateTimes, @NotNull final BlockPos position)
+    {
+        final int rotation = Math.floorMod(rotateTimes, ROTATIONS);
+        final StructureProxy[] rotations = prepared.computeIfAbsent(type, key -> new StructureProxy[ROTATIONS]);
+        if (rotations[rotation] == null)
+        {
+            final StructureProxy proxy = new StructureProxy(world, type.getName());
+            if (proxy.getStructure().isTemplateMissing())
+            {
+                return null;
+            }
+            proxy.rotateWithMirror(rotation, world, position, Mirror.NONE);
+
+            //Entities are placed relative to the position the template was rotated at, such templates can't be shared.
+            if (!proxy.getEntityInfos().isEmpty())
+            {
+                final StructureWrapper wrapper = new StructureWrapper(world, proxy, type.getName());
+                wrapper.setPosition(position);
+                return wrapper;
+            }
+            rotations[rotation] = proxy;
+        }
+
+        final StructureWrapper wrapper = new StructureWrapper(world, rotations[rotation], type.getName());
+        wrapper.setPosition(position);
+        return wrapper;
+    }
+
+    /**
+     * Forget the prepared templates, called when the server stops.
+     */
+    public static void clear()
+    {
+        prepared.clear();
+    }
+
+    /**
+     * The templates of the mine.
+     */
+    public enum Type
+    {
+        MAIN_SHAFT("minerMainShaft"),
+        CROSSROAD("minerX4"),
+        BEND("minerX2Right"),
+        TUNNEL("minerX2Top");
+
+        /**
+         * The schematic name of the template.
+         */
+        private final String name;
+
+        Type(@NotNull final String schematic)
+        {
+            this.name = Structures.SCHEMATICS_PREFIX + "/miner/" + schematic;
+        }
+
+        /**
+         * Get the schematic name of the template.
+         *
+         * @return the name.
+         */
+        @NotNull
+        public String getName()
+        {
+            return name;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.entity.pathfinding.GeneralEntityWalkToProxy;
 import com.minecolonies.coremod.entity.pathfinding.PathNavigate;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.entity.EntityCreature;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.ai.EntityAIBase;
@@ -18,11 +19,37 @@ import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Random;
 
+import static com.minecolonies.api.util.constant.Constants.HALF_BLOCK;
+
 /**
  * Barbarian Pathing Class
  */
 public class EntityAIWalkToRandomHuts extends EntityAIBase
 {
+    /**
+     * Distance to the hut below which the barbarian leaves the flow field and paths to the hut.
+     */
+    private static final int FINAL_APPROACH = 8;
+
+    /**
+     * Steps of the flow field to look ahead when moving.
+     */
+    private static final int LOOK_AHEAD = 2;
+
+    /**
+     * Ticks without getting closer after which the barbarian leaves the flow field.
+     */
+    private static final int MAX_STALLED_TICKS = 40;
+
+    /**
+     * Ticks the barbarian paths on its own after it left the flow field stalled.
+     */
+    private static final int STALLED_COOLDOWN = 200;
+
+    /**
+     * The navigator field of all living entities, looked up once.
+     */
+    private static Field navigatorField;
 
     protected final EntityCreature entity;
     protected final World          world;
@@ -37,7 +64,31 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
      * Walk to proxy.
      */
     private GeneralEntityWalkToProxy proxy;
-    private       Field        navigatorField;
+
+    /**
+     * If the barbarian currently follows the flow field of the raid.
+     */
+    private boolean followingField = false;
+
+    /**
+     * If the barbarian waits for the flow field of the raid to be computed.
+     */
+    private boolean waitingForField = false;
+
+    /**
+     * The closest distance to a hut reached on the flow field.
+     */
+    private int lastDistance = Integer.MAX_VALUE;
+
+    /**
+     * Ticks the barbarian did not get closer on the flow field.
+     */
+    private int stalledTicks = 0;
+
+    /**
+     * The tick until which the barbarian does not use the flow field.
+     */
+    private long fieldCooldown = 0;
 
     /**
      * Constructor for AI
@@ -60,32 +111,24 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
     }
 
     /**
-     * Updates the navigator field for the AI
+     * Installs the navigator of the AI on the entity, unless it already has it.
      */
-    private synchronized void updateNavigatorField()
+    private void updateNavigatorField()
     {
-        if (navigatorField == null)
+        if (entity.getNavigator() == newNavigator)
         {
-            final Field[] fields = EntityLiving.class.getDeclaredFields();
-            for (@NotNull final Field field : fields)
-            {
-                if (field.getType().equals(net.minecraft.pathfinding.PathNavigate.class))
-                {
-                    field.setAccessible(true);
-                    navigatorField = field;
-                    break;
-                }
-            }
+            return;
         }
 
-        if (navigatorField == null)
+        final Field field = getNavigatorField();
+        if (field == null)
         {
             throw new IllegalStateException("Navigator field should not be null, contact developers.");
         }
 
         try
         {
-            navigatorField.set(entity, this.newNavigator);
+            field.set(entity, this.newNavigator);
         }
         catch (final IllegalAccessException e)
         {
@@ -93,9 +136,38 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
         }
     }
 
+    /**
+     * Look up the navigator field of living entities, the first time only.
+     *
+     * @return the field, or null if not found.
+     */
+    @Nullable
+    private static synchronized Field getNavigatorField()
+    {
+        if (navigatorField == null)
+        {
+            final Field[] fields = EntityLiving.class.getDeclaredFields();
+            for (@NotNull final Field field : fields)
+            {
+                if (field.getType().equals(net.minecraft.pathfinding.PathNavigate.class))
+                {
+                    field.setAccessible(true);
+                    navigatorField = field;
+                    break;
+                }
+            }
+        }
+        return navigatorField;
+    }
+
     @Override
     public boolean shouldExecute()
     {
+        if (canFollowField() || isFieldPending())
+        {
+            return true;
+        }
+
         if (this.targetBlock == null)
         {
             this.targetBlock = getRandomBuilding();
@@ -109,17 +181,32 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
      *
      * @return Boolean value of whether or not to continue executing
      */
-    public boolean continueExecuting()
+    @Override
+    public boolean shouldContinueExecuting()
     {
-        return !this.entity.getNavigator().noPath() && this.entity.isEntityAlive();
+        return this.entity.isEntityAlive() && (followingField || waitingForField || !this.entity.getNavigator().noPath());
     }
 
     /**
      * Is executed when the ai Starts Executing
      */
+    @Override
     public void startExecuting()
     {
         updateNavigatorField();
+        if (canFollowField())
+        {
+            followField();
+            return;
+        }
+
+        if (isFieldPending())
+        {
+            //Don't search an own path, the field of the raid is ready soon.
+            waitingForField = true;
+            return;
+        }
+
         if (targetBlock != null)
         {
             if (this.isEntityAtSiteWithMove(targetBlock, 2))
@@ -133,6 +220,126 @@ public class EntityAIWalkToRandomHuts extends EntityAIBase
         }
     }
 
+    /**
+     * Walks down the flow field of the raid, until close to a hut.
+     * Switches to the field as soon as it is ready, when waiting for it or when walking an own path.
+     */
+    @Override
+    public void updateTask()
+    {
+        if (!followingField)
+        {
+            if (canFollowField())
+            {
+                entity.getNavigator().clearPath();
+                followField();
+            }
+            else if (waitingForField && !isFieldPending())
+            {
+                //The field failed or does not reach the barbarian.
+                leaveField(null);
+            }
+            return;
+        }
+
+        final RaidFlowField field = getFlowField();
+        final BlockPos position = entity.getPosition();
+        final int distance = field == null ? -1 : field.getDistance(position);
+        if (distance >= 0 && distance <= FINAL_APPROACH)
+        {
+            leaveField(field.getHut(position));
+            return;
+        }
+
+        if (distance >= 0 && distance < lastDistance)
+        {
+            lastDistance = distance;
+            stalledTicks = 0;
+        }
+        else if (++stalledTicks > MAX_STALLED_TICKS)
+        {
+            fieldCooldown = world.getTotalWorldTime() + STALLED_COOLDOWN;
+            leaveField(field == null ? null : field.getHut(position));
+            return;
+        }
+
+        final BlockPos next = field == null ? null : field.getNextStep(position, LOOK_AHEAD);
+        if (next != null)
+        {
+            entity.getMoveHelper().setMoveTo(next.getX() + HALF_BLOCK, next.getY(), next.getZ() + HALF_BLOCK, speed);
+        }
+    }
+
+    @Override
+    public void resetTask()
+    {
+        followingField = false;
+        waitingForField = false;
+    }
+
+    /**
+     * Start following the flow field of the raid.
+     */
+    private void followField()
+    {
+        followingField = true;
+        waitingForField = false;
+        lastDistance = Integer.MAX_VALUE;
+        stalledTicks = 0;
+    }
+
+    /**
+     * Stop following the flow field and path to a hut.
+     *
+     * @param hut the hut the field led to, or null to pick a random one.
+     */
+    private void leaveField(@Nullable final BlockPos hut)
+    {
+        followingField = false;
+        waitingForField = false;
+        targetBlock = hut == null ? getRandomBuilding() : hut;
+        if (targetBlock != null)
+        {
+            isEntityAtSiteWithMove(targetBlock, 2);
+        }
+    }
+
+    /**
+     * Check if the barbarian stands on the flow field of the raid, far enough from the huts to follow it.
+     *
+     * @return true if so.
+     */
+    private boolean canFollowField()
+    {
+        if (world.getTotalWorldTime() < fieldCooldown)
+        {
+            return false;
+        }
+        final RaidFlowField field = getFlowField();
+        return field != null && field.getDistance(entity.getPosition()) > FINAL_APPROACH;
+    }
+
+    /**
+     * Check if the flow field of the raid on the colony is still being computed.
+     *
+     * @return true if so.
+     */
+    private boolean isFieldPending()
+    {
+        return colony != null && world.getTotalWorldTime() >= fieldCooldown && colony.getBarbManager().isFlowFieldPending(world.getTotalWorldTime());
+    }
+
+    /**
+     * Get the flow field of the raid on the colony.
+     *
+     * @return the field, or null if it is not ready.
+     */
+    @Nullable
+    private RaidFlowField getFlowField()
+    {
+        return colony == null ? null : colony.getBarbManager().getFlowField(world.getTotalWorldTime());
+    }
+
     /**
      * returns whether the entity as at a site with a move, And moves it
      *
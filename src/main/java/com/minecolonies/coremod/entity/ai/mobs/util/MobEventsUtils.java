@@ -6,6 +6,7 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.math.BlockPos;
@@ -77,6 +78,8 @@ public final class MobEventsUtils
           colony.getMessageEntityPlayers(),
           "event.minecolonies.raidMessage");
 
+        colony.getBarbManager().setFlowField(RaidFlowField.compute(world, colony.getBuildingManager().getBuildings().keySet(), targetSpawnPoint));
+
         BarbarianSpawnUtils.spawn(BARBARIAN, numberOfBarbarians, targetSpawnPoint, world);
         BarbarianSpawnUtils.spawn(ARCHER, numberOfArchers, targetSpawnPoint, world);
         BarbarianSpawnUtils.spawn(CHIEF, numberOfChiefs, targetSpawnPoint, world);
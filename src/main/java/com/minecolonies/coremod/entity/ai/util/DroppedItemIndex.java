@@ -0,0 +1,318 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The dropped items of a world, in buckets per chunk column, for the citizens to pick up.
+ * <p>
+ * Items are added and removed when they join and leave the world. Items keep moving after they joined,
+ * so the buckets near a query are corrected then, and all of them once in a while.
+ * A citizen walking to an item claims it, the other citizens leave it to him.
+ */
+public final class DroppedItemIndex
+{
+    /**
+     * The index of each world.
+     */
+    private static final Map<World, DroppedItemIndex> indices = new WeakHashMap<>();
+
+    /**
+     * Ticks between two corrections of all buckets.
+     */
+    private static final int REBUCKET_INTERVAL = 100;
+
+    /**
+     * Shift from a block to its chunk column.
+     */
+    private static final int CHUNK_SHIFT = 4;
+
+    /**
+     * The items, by chunk column.
+     */
+    private final Map<Long, List<EntityItem>> buckets = new HashMap<>();
+
+    /**
+     * The chunk column each item is kept in, by entity id.
+     */
+    private final Map<Integer, Long> bucketOf = new HashMap<>();
+
+    /**
+     * The citizen claiming each item, by entity id of the item.
+     */
+    private final Map<Integer, Integer> claimedBy = new HashMap<>();
+
+    /**
+     * The item each citizen claimed, by entity id of the citizen.
+     */
+    private final Map<Integer, Integer> claims = new HashMap<>();
+
+    /**
+     * The tick all buckets were last corrected.
+     */
+    private long lastRebucket = 0;
+
+    /**
+     * Create an empty index.
+     */
+    DroppedItemIndex()
+    {
+        //Intentionally left empty.
+    }
+
+    /**
+     * Get the index of a world.
+     *
+     * @param world the world.
+     * @return the index, empty if no items joined yet.
+     */
+    @NotNull
+    public static DroppedItemIndex get(@NotNull final World world)
+    {
+        return indices.computeIfAbsent(world, key -> new DroppedItemIndex());
+    }
+
+    /**
+     * Drop the index of a world which unloads.
+     * The items keep their world loaded, so the weak key alone never lets the index go.
+     *
+     * @param world the world.
+     */
+    public static void onWorldUnload(@NotNull final World world)
+    {
+        indices.remove(world);
+    }
+
+    /**
+     * Add an entity which joined a world, if it is an item.
+     *
+     * @param world  the world.
+     * @param entity the entity.
+     */
+    public static void onEntityAdded(@NotNull final World world, @NotNull final Entity entity)
+    {
+        if (entity instanceof EntityItem)
+        {
+            get(world).add((EntityItem) entity);
+        }
+    }
+
+    /**
+     * Remove an entity which left a world, dropping its claims.
+     *
+     * @param world  the world.
+     * @param entity the entity.
+     */
+    public static void onEntityRemoved(@NotNull final World world, @NotNull final Entity entity)
+    {
+        final DroppedItemIndex index = indices.get(world);
+        if (index == null)
+        {
+            return;
+        }
+        if (entity instanceof EntityItem)
+        {
+            index.remove((EntityItem) entity);
+        }
+        else
+        {
+            index.release(entity.getEntityId());
+        }
+    }
+
+    /**
+     * Add an item.
+     *
+     * @param item the item.
+     */
+    void add(@NotNull final EntityItem item)
+    {
+        if (bucketOf.containsKey(item.getEntityId()))
+        {
+            remove(item);
+        }
+        final long bucket = getBucket(item);
+        buckets.computeIfAbsent(bucket, key -> new ArrayList<>()).add(item);
+        bucketOf.put(item.getEntityId(), bucket);
+    }
+
+    /**
+     * Remove an item and its claim.
+     *
+     * @param item the item.
+     */
+    void remove(@NotNull final EntityItem item)
+    {
+        final Long bucket = bucketOf.remove(item.getEntityId());
+        if (bucket != null)
+        {
+            final List<EntityItem> items = buckets.get(bucket);
+            if (items != null)
+            {
+                items.remove(item);
+                if (items.isEmpty())
+                {
+                    buckets.remove(bucket);
+                }
+            }
+        }
+
+        final Integer citizen = claimedBy.remove(item.getEntityId());
+        if (citizen != null)
+        {
+            claims.remove(citizen, item.getEntityId());
+        }
+    }
+
+    /**
+     * Get the items in an area which are not claimed by another citizen.
+     *
+     * @param area      the area.
+     * @param citizenId the entity id of the citizen asking.
+     * @param worldTime the current tick of the world.
+     * @return the items.
+     */
+    @NotNull
+    public List<EntityItem> getItems(@NotNull final AxisAlignedBB area, final int citizenId, final long worldTime)
+    {
+        if (worldTime - lastRebucket >= REBUCKET_INTERVAL)
+        {
+            lastRebucket = worldTime;
+            rebucket(new ArrayList<>(buckets.keySet()));
+        }
+
+        //Items may have moved a column since they were last put in their bucket.
+        final int minX = ((int) Math.floor(area.minX) >> CHUNK_SHIFT) - 1;
+        final int maxX = ((int) Math.floor(area.maxX) >> CHUNK_SHIFT) + 1;
+        final int minZ = ((int) Math.floor(area.minZ) >> CHUNK_SHIFT) - 1;
+        final int maxZ = ((int) Math.floor(area.maxZ) >> CHUNK_SHIFT) + 1;
+        final List<Long> nearby = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                nearby.add(ChunkPos.asLong(x, z));
+            }
+        }
+        rebucket(nearby);
+
+        final List<EntityItem> result = new ArrayList<>();
+        for (final long bucket : nearby)
+        {
+            final List<EntityItem> items = buckets.get(bucket);
+            if (items == null)
+            {
+                continue;
+            }
+            for (final EntityItem item : items)
+            {
+                if (!item.isDead && !isClaimedByOther(item, citizenId) && area.intersects(item.getEntityBoundingBox()))
+                {
+                    result.add(item);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check if an item is claimed by another citizen.
+     *
+     * @param item      the item.
+     * @param citizenId the entity id of the citizen asking.
+     * @return true if another citizen claimed it.
+     */
+    public boolean isClaimedByOther(@NotNull final EntityItem item, final int citizenId)
+    {
+        final Integer citizen = claimedBy.get(item.getEntityId());
+        return citizen != null && citizen != citizenId;
+    }
+
+    /**
+     * Claim an item for a citizen, releasing the previous claim of the citizen.
+     *
+     * @param citizenId the entity id of the citizen.
+     * @param item      the item.
+     */
+    public void claim(final int citizenId, @NotNull final EntityItem item)
+    {
+        release(citizenId);
+        claims.put(citizenId, item.getEntityId());
+        claimedBy.put(item.getEntityId(), citizenId);
+    }
+
+    /**
+     * Release the claim of a citizen.
+     *
+     * @param citizenId the entity id of the citizen.
+     */
+    public void release(final int citizenId)
+    {
+        final Integer item = claims.remove(citizenId);
+        if (item != null)
+        {
+            claimedBy.remove(item, citizenId);
+        }
+    }
+
+    /**
+     * Move the items of some buckets which left their chunk column, and drop the dead ones.
+     *
+     * @param keys the buckets.
+     */
+    private void rebucket(@NotNull final Collection<Long> keys)
+    {
+        final List<EntityItem> moved = new ArrayList<>();
+        for (final long key : keys)
+        {
+            final List<EntityItem> items = buckets.get(key);
+            if (items == null)
+            {
+                continue;
+            }
+            final Iterator<EntityItem> iterator = items.iterator();
+            while (iterator.hasNext())
+            {
+                final EntityItem item = iterator.next();
+                if (item.isDead)
+                {
+                    iterator.remove();
+                    bucketOf.remove(item.getEntityId());
+                }
+                else if (getBucket(item) != key)
+                {
+                    iterator.remove();
+                    moved.add(item);
+                }
+            }
+            if (items.isEmpty())
+            {
+                buckets.remove(key);
+            }
+        }
+
+        for (final EntityItem item : moved)
+        {
+            final long bucket = getBucket(item);
+            buckets.computeIfAbsent(bucket, key -> new ArrayList<>()).add(item);
+            bucketOf.put(item.getEntityId(), bucket);
+        }
+    }
+
+    /**
+     * Get the bucket an item belongs in now.
+     *
+     * @param item the item.
+     * @return the chunk column.
+     */
+    private static long getBucket(@NotNull final EntityItem item)
+    {
+        return ChunkPos.asLong(((int) Math.floor(item.posX)) >> CHUNK_SHIFT, ((int) Math.floor(item.posZ)) >> CHUNK_SHIFT);
+    }
+}
@@ -1,6 +1,5 @@
 package com.minecolonies.coremod.entity.ai.util;
 
-import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
@@ -25,8 +24,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.function.Supplier;
 
 /**
  * Represents a build task for the Structure AI.
@@ -146,7 +143,7 @@ public class Structure
             final Block structureBlock = structureBlockState.getBlock();
 
             //All worldBlocks are equal the substitution block
-            if (structureBlockEqualsWorldBlock(structureBlock, worldBlock, worldMetadata)
+            if (structureBlockEqualsWorldBlock(structureBlockState, worldBlock, worldMetadata)
                   || structureBlock == ModBlocks.blockWayPoint)
             {
                 return true;
@@ -176,9 +173,15 @@ public class Structure
         }
 
         private static boolean structureBlockEqualsWorldBlock(
-                                                               @NotNull final Block structureBlock,
+                                                               @NotNull final IBlockState structureBlockState,
                                                                @NotNull final Block worldBlock, @NotNull final IBlockState worldMetadata)
         {
+            if (!ColonyManager.getCompatabilityManager().isSubstitution(structureBlockState))
+            {
+                return false;
+            }
+
+            final Block structureBlock = structureBlockState.getBlock();
             return structureBlock == ModBlocks.blockSubstitution || (structureBlock == ModBlocks.blockSolidSubstitution
                     && worldMetadata.getMaterial().isSolid() && !(ColonyManager.getCompatabilityManager().isOre(worldMetadata))
                     && worldBlock != Blocks.AIR);
@@ -193,8 +196,13 @@ public class Structure
     /**
      * the targetWorld to build the structure in.
      */
-    private final World            targetWorld;
-    private       Stage            stage;
+    private final World              targetWorld;
+    private       Stage              stage;
+    /**
+     * The positions left to work on in each stage, created on first use.
+     */
+    @Nullable
+    private       StructureWorkQueue workQueue;
 
     /**
      * Create a new building task.
@@ -348,51 +356,11 @@ public class Structure
     @NotNull
     public Result advanceBlock()
     {
-        switch (this.stage)
-        {
-            case CLEAR:
-                return advanceBlocks(this.structure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                      || structureBlock.worldBlock == Blocks.AIR);
-            case BUILD:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                                         && structureBlock.block == Blocks.AIR
-                                                                                         && !structureBlock.metadata.getMaterial().isSolid());
-            case SPAWN:
-                return advanceBlocks(this.structure::decrementBlock, structureBlock ->
-                                                                       structureBlock.entity == null);
-            case DECORATE:
-                return advanceBlocks(this.structure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
-                                                                         || structureBlock.metadata.getMaterial().isSolid());
-            default:
-                return Result.NEW_BLOCK;
-        }
-    }
-
-    /**
-     * Advance many blocks until either moveOneBlock or checkIfApplies return false
-     * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
-     *
-     * @param moveOneBlock   this will be called to advance the structure one block.
-     * @param checkIfApplies this will be evaluated to check if we should skip a block.
-     * @return a Result enum specifying the result
-     */
-    @NotNull
-    private Result advanceBlocks(@NotNull final Supplier<Boolean> moveOneBlock, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
-    {
-        for (int i = 0; i < Configurations.gameplay.maxBlocksCheckedByBuilder; i++)
+        if (workQueue == null)
         {
-            if (!moveOneBlock.get())
-            {
-                return Result.AT_END;
-            }
-            if (!checkIfApplies.apply(getCurrentBlock()))
-            {
-                return Result.NEW_BLOCK;
-            }
+            workQueue = new StructureWorkQueue(this.structure, targetWorld);
         }
-        return Result.CONFIG_LIMIT;
+        return workQueue.advance(this.stage, this::getCurrentBlock);
     }
 
     /**
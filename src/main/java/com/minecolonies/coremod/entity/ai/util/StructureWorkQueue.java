@@ -0,0 +1,398 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.coremod.blocks.ModBlocks;
+import com.minecolonies.coremod.util.StructureWrapper;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Ordered queues of the positions a builder has to visit in each stage of a structure.
+ * <p>
+ * Positions are numbered in the order {@link StructureWrapper#incrementBlock()} visits them,
+ * so the queue of a stage is a bitset of the positions which can need work in that stage.
+ * Positions which can never need work, like substitution blocks, solid blocks while decorating
+ * or blocks without entities while spawning, are not in the queue at all.
+ * <p>
+ * Positions found to need no work after checking the world are remembered per stage,
+ * and forgotten again when the block or an entity at that position changes in the world.
+ * Positions where the structure or the world has an entity are never remembered, they are checked each time.
+ * Blocks can also change without the world reporting it, so everything remembered is forgotten once in a while.
+ */
+public class StructureWorkQueue
+{
+    /**
+     * Queues of the worlds which report their block updates, used to forget what was checked.
+     */
+    private static final Map<World, Set<StructureWorkQueue>> activeQueues = new WeakHashMap<>();
+
+    /**
+     * Ticks after which the positions known to need no work are checked again.
+     */
+    private static final int SKIP_LIFETIME = 20 * 60;
+
+    /**
+     * The structure to build.
+     */
+    private final StructureWrapper structure;
+
+    /**
+     * The world to build it in.
+     */
+    private final World world;
+
+    /**
+     * Positions which can need work, per stage.
+     */
+    private final Map<Structure.Stage, BitSet> candidates = new EnumMap<>(Structure.Stage.class);
+
+    /**
+     * Positions known to need no work, per stage.
+     */
+    private final Map<Structure.Stage, BitSet> skipped = new EnumMap<>(Structure.Stage.class);
+
+    /**
+     * The tick the remembered positions were last forgotten.
+     */
+    private long skippedSince = 0;
+
+    /**
+     * Positions where the structure has air which is not solid.
+     */
+    private BitSet nonSolidAir;
+
+    /**
+     * World position of the local origin of the structure.
+     */
+    @Nullable
+    private BlockPos origin;
+
+    private int width;
+    private int height;
+    private int length;
+
+    /**
+     * Create the queues for a structure, they are filled once they are first used.
+     *
+     * @param structure the structure.
+     * @param world     the world.
+     */
+    public StructureWorkQueue(@NotNull final StructureWrapper structure, @NotNull final World world)
+    {
+        this.structure = structure;
+        this.world = world;
+    }
+
+    /**
+     * Start reporting block updates of a world to the queues building in it.
+     * Queues in worlds which don't report their block updates check every position again each time.
+     *
+     * @param world the world.
+     */
+    public static void trackWorld(@NotNull final World world)
+    {
+        activeQueues.computeIfAbsent(world, key -> Collections.newSetFromMap(new WeakHashMap<>()));
+    }
+
+    /**
+     * Forget what was checked at a position, called when a block changes in the world.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     */
+    public static void onBlockUpdate(@NotNull final World world, @NotNull final BlockPos pos)
+    {
+        final Set<StructureWorkQueue> queues = activeQueues.get(world);
+        if (queues == null || queues.isEmpty())
+        {
+            return;
+        }
+
+        for (final StructureWorkQueue queue : queues)
+        {
+            final int index = queue.getIndex(pos);
+            if (index >= 0)
+            {
+                for (final BitSet bits : queue.skipped.values())
+                {
+                    bits.clear(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget what was checked at the position of an entity, called when an entity joins or leaves the world.
+     * Items and mobs are ignored, they are never part of a structure.
+     *
+     * @param world  the world.
+     * @param entity the entity.
+     */
+    public static void onEntityChanged(@NotNull final World world, @NotNull final Entity entity)
+    {
+        if (!(entity instanceof EntityItem) && !(entity instanceof EntityLiving))
+        {
+            onBlockUpdate(world, new BlockPos(entity));
+        }
+    }
+
+    /**
+     * Advance the structure to the next position which needs work in a stage.
+     *
+     * @param stage the stage.
+     * @param block supplies the current block of the structure, after it has been moved.
+     * @return a Result enum specifying the result.
+     */
+    @NotNull
+    public Structure.Result advance(@NotNull final Structure.Stage stage, @NotNull final Supplier<Structure.StructureBlock> block)
+    {
+        if (stage == Structure.Stage.COMPLETE)
+        {
+            return Structure.Result.NEW_BLOCK;
+        }
+        prepare();
+        if (world.getTotalWorldTime() - skippedSince > SKIP_LIFETIME)
+        {
+            skipped.clear();
+            skippedSince = world.getTotalWorldTime();
+        }
+
+        final boolean forward = stage == Structure.Stage.BUILD || stage == Structure.Stage.DECORATE;
+        final BitSet queue = candidates.computeIfAbsent(stage, this::fillQueue);
+        final BitSet skip = skipped.computeIfAbsent(stage, key -> new BitSet());
+        final boolean remember = activeQueues.containsKey(world);
+
+        final BlockPos current = structure.getLocalPosition();
+        int index = current.getY() < 0 ? (forward ? -1 : width * height * length) : toIndex(current.getX(), current.getY(), current.getZ());
+        for (int checked = 0; checked < Configurations.gameplay.maxBlocksCheckedByBuilder; checked++)
+        {
+            index = next(queue, skip, index, forward);
+            if (index < 0)
+            {
+                structure.reset();
+                return Structure.Result.AT_END;
+            }
+
+            structure.setLocalPosition(toPos(index));
+            if (stage == Structure.Stage.SPAWN)
+            {
+                return Structure.Result.NEW_BLOCK;
+            }
+
+            final Structure.StructureBlock structureBlock = block.get();
+            final boolean equal = structureBlock.doesStructureBlockEqualWorldBlock();
+            if (remember && structureBlock.entity == null && !structureBlock.hasWorldEntity)
+            {
+                rememberChecked(index, equal, structureBlock.worldBlock == Blocks.AIR);
+            }
+
+            if (!shouldSkip(stage, index, equal, structureBlock.worldBlock == Blocks.AIR))
+            {
+                return Structure.Result.NEW_BLOCK;
+            }
+        }
+        return Structure.Result.CONFIG_LIMIT;
+    }
+
+    /**
+     * Find the next position of a queue which is not known to be skipped.
+     *
+     * @param queue   the queue.
+     * @param skip    the positions known to be skipped.
+     * @param index   the current position.
+     * @param forward the direction.
+     * @return the next position or -1 at the end.
+     */
+    private static int next(@NotNull final BitSet queue, @NotNull final BitSet skip, final int index, final boolean forward)
+    {
+        int next = forward ? queue.nextSetBit(index + 1) : queue.previousSetBit(index - 1);
+        while (next >= 0 && skip.get(next))
+        {
+            next = forward ? queue.nextSetBit(skip.nextClearBit(next)) : queue.previousSetBit(skip.previousClearBit(next));
+        }
+        return next;
+    }
+
+    /**
+     * Check if a position needs no work in a stage, the same checks as the builder applied one block at a time.
+     *
+     * @param stage    the stage.
+     * @param index    the position.
+     * @param equal    if the structure block equals the world block.
+     * @param worldAir if the world block is air.
+     * @return true if it needs no work.
+     */
+    private boolean shouldSkip(@NotNull final Structure.Stage stage, final int index, final boolean equal, final boolean worldAir)
+    {
+        switch (stage)
+        {
+            case CLEAR:
+                return equal || worldAir;
+            case BUILD:
+                return equal && nonSolidAir.get(index);
+            case DECORATE:
+                return equal;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Remember for all stages if a checked position needs work.
+     *
+     * @param index    the position.
+     * @param equal    if the structure block equals the world block.
+     * @param worldAir if the world block is air.
+     */
+    private void rememberChecked(final int index, final boolean equal, final boolean worldAir)
+    {
+        for (final Structure.Stage stage : new Structure.Stage[] {Structure.Stage.CLEAR, Structure.Stage.BUILD, Structure.Stage.DECORATE})
+        {
+            if (shouldSkip(stage, index, equal, worldAir))
+            {
+                skipped.computeIfAbsent(stage, key -> new BitSet()).set(index);
+            }
+        }
+    }
+
+    /**
+     * Read the size and position of the structure, and start over if they changed.
+     */
+    private void prepare()
+    {
+        final BlockPos offsetPosition = structure.getOffsetPosition();
+        if (offsetPosition.equals(origin) && width == structure.getWidth() && height == structure.getHeight() && length == structure.getLength())
+        {
+            return;
+        }
+
+        origin = offsetPosition;
+        width = structure.getWidth();
+        height = structure.getHeight();
+        length = structure.getLength();
+        candidates.clear();
+        skipped.clear();
+
+        nonSolidAir = new BitSet(width * height * length);
+        for (int index = 0; index < width * height * length; index++)
+        {
+            final IBlockState state = getState(index);
+            if (state != null && state.getBlock() == Blocks.AIR && !state.getMaterial().isSolid())
+            {
+                nonSolidAir.set(index);
+            }
+        }
+
+        final Set<StructureWorkQueue> queues = activeQueues.get(world);
+        if (queues != null)
+        {
+            queues.add(this);
+        }
+    }
+
+    /**
+     * Collect the positions which can need work in a stage.
+     *
+     * @param stage the stage.
+     * @return the queue.
+     */
+    @NotNull
+    private BitSet fillQueue(@NotNull final Structure.Stage stage)
+    {
+        final BitSet queue = new BitSet(width * height * length);
+        for (int index = 0; index < width * height * length; index++)
+        {
+            final IBlockState state = getState(index);
+            if (state == null)
+            {
+                continue;
+            }
+
+            switch (stage)
+            {
+                case CLEAR:
+                    queue.set(index, state.getBlock() != ModBlocks.blockSubstitution && state.getBlock() != ModBlocks.blockWayPoint);
+                    break;
+                case DECORATE:
+                    queue.set(index, !state.getMaterial().isSolid() && state.getBlock() != ModBlocks.blockWayPoint);
+                    break;
+                case SPAWN:
+                    queue.set(index, structure.structure().getEntityinfo(toPos(index)) != null);
+                    break;
+                default:
+                    queue.set(index);
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * Get the structure block state at a position.
+     *
+     * @param index the position.
+     * @return the state or null.
+     */
+    @Nullable
+    private IBlockState getState(final int index)
+    {
+        return structure.structure().getBlockState(toPos(index));
+    }
+
+    /**
+     * Get the local position of an index.
+     *
+     * @param index the index.
+     * @return the local position.
+     */
+    @NotNull
+    private BlockPos toPos(final int index)
+    {
+        return new BlockPos(index % width, index / (width * length), (index / width) % length);
+    }
+
+    /**
+     * Get the index of a local position, in the order positions are visited.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the index.
+     */
+    private int toIndex(final int x, final int y, final int z)
+    {
+        return (y * length + z) * width + x;
+    }
+
+    /**
+     * Get the index of a world position.
+     *
+     * @param pos the world position.
+     * @return the index or -1 if it is outside of the structure.
+     */
+    private int getIndex(@NotNull final BlockPos pos)
+    {
+        if (origin == null)
+        {
+            return -1;
+        }
+
+        final int x = pos.getX() - origin.getX();
+        final int y = pos.getY() - origin.getY();
+        final int z = pos.getZ() - origin.getZ();
+        if (x < 0 || y < 0 || z < 0 || x >= width || y >= height || z >= length)
+        {
+            return -1;
+        }
+        return toIndex(x, y, z);
+    }
+}
@@ -4,8 +4,6 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.entity.EntityCitizen;
-import com.minecolonies.api.crafting.ItemStorage;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.*;
@@ -17,8 +15,6 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -396,37 +392,6 @@ public class PathNavigate extends PathNavigateGround
         super.clearPath();
     }
 
-    /**
-     * Used to find a tree.
-     *
-     * @param range      in the range.
-     * @param speed      walking speed.
-     * @param treesToCut the trees which should be cut.
-     * @return the result of the search.
-     */
-    public PathJobFindTree.TreePathResult moveToTree(final int range, final double speed, final Map<ItemStorage, Boolean> treesToCut)
-    {
-        @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
-        return (PathJobFindTree.TreePathResult) setPathJob(
-          new PathJobFindTree(CompatibilityUtils.getWorld(entity), start, ((EntityCitizen) entity).getWorkBuilding().getLocation(), range, treesToCut), null, speed);
-    }
-
-    /**
-     * Used to find a water.
-     *
-     * @param range in the range.
-     * @param speed walking speed.
-     * @param ponds a list of ponds.
-     * @return the result of the search.
-     */
-    @Nullable
-    public PathJobFindWater.WaterPathResult moveToWater(final int range, final double speed, final List<BlockPos> ponds)
-    {
-        @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
-        return (PathJobFindWater.WaterPathResult) setPathJob(
-          new PathJobFindWater(CompatibilityUtils.getWorld(ourEntity), start, ((EntityCitizen) ourEntity).getWorkBuilding().getLocation(), range, ponds), null, speed);
-    }
-
     /**
      * Used to move a living ourEntity with a speed.
      *
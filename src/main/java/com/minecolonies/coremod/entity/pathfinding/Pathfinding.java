@@ -47,6 +47,17 @@ public final class Pathfinding
         return executor.submit(job);
     }
 
+    /**
+     * Add a task to the queue of the pathfinding threads.
+     *
+     * @param task the task, which may only read the world through a cache.
+     * @return a Future completed with the task.
+     */
+    public static Future<?> submit(@NotNull final Runnable task)
+    {
+        return executor.submit(task);
+    }
+
     /**
      * Render debugging information for the pathfinding system.
      *
@@ -0,0 +1,482 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockFence;
+import net.minecraft.block.BlockFenceGate;
+import net.minecraft.block.BlockWall;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.ChunkCache;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Distance field of a raid, from all huts of the colony out to the spawn point of the horde.
+ * <p>
+ * The field is computed once per raid on the pathfinding thread, as a breadth first search from the huts over the
+ * columns of the area. Each column keeps the first level it was reached at, its distance to the closest hut and that hut.
+ * Barbarians walk down the gradient instead of each searching its own path, and only path the last blocks to the hut.
+ */
+public final class RaidFlowField
+{
+    /**
+     * Blocks around the huts and the spawn point included in the field.
+     */
+    private static final int MARGIN = 16;
+
+    /**
+     * Maximum size of a side of the field.
+     */
+    private static final int MAX_SIZE = 512;
+
+    /**
+     * Distance of a column which was not reached.
+     */
+    private static final int UNREACHED = -1;
+
+    /**
+     * Maximum height a barbarian drops down.
+     */
+    private static final int MAX_DROP = 3;
+
+    /**
+     * Height of the world.
+     */
+    private static final int WORLD_HEIGHT = 256;
+
+    /**
+     * Offsets to the neighbouring columns, the opposite of each direction is at index ^ 1.
+     */
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    /**
+     * Lowest x of the field.
+     */
+    private final int minX;
+
+    /**
+     * Lowest z of the field.
+     */
+    private final int minZ;
+
+    /**
+     * Size of the field along x.
+     */
+    private final int sizeX;
+
+    /**
+     * Size of the field along z.
+     */
+    private final int sizeZ;
+
+    /**
+     * The huts the field leads to.
+     */
+    private final List<BlockPos> huts;
+
+    /**
+     * Distance of each column to the closest hut.
+     */
+    private final int[] distance;
+
+    /**
+     * Level a barbarian stands at in each column.
+     */
+    private final short[] level;
+
+    /**
+     * Index of the closest hut of each column.
+     */
+    private final short[] hut;
+
+    /**
+     * Direction from each column to the next one towards its hut.
+     */
+    private final byte[] towards;
+
+    /**
+     * The tick the field was requested at.
+     */
+    private final long creationTime;
+
+    /**
+     * If the field was filled.
+     */
+    private volatile boolean ready = false;
+
+    /**
+     * If filling the field failed.
+     */
+    private volatile boolean failed = false;
+
+    /**
+     * Create an empty field.
+     *
+     * @param huts         the huts.
+     * @param minX         lowest x.
+     * @param minZ         lowest z.
+     * @param sizeX        size along x.
+     * @param sizeZ        size along z.
+     * @param creationTime the tick the field was requested at.
+     */
+    RaidFlowField(@NotNull final List<BlockPos> huts, final int minX, final int minZ, final int sizeX, final int sizeZ, final long creationTime)
+    {
+        this.huts = huts;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.creationTime = creationTime;
+        this.distance = new int[sizeX * sizeZ];
+        this.level = new short[sizeX * sizeZ];
+        this.hut = new short[sizeX * sizeZ];
+        this.towards = new byte[sizeX * sizeZ];
+        Arrays.fill(distance, UNREACHED);
+    }
+
+    /**
+     * Request the field of a raid. The blocks are captured now, the field is filled on the pathfinding thread.
+     *
+     * @param world the world.
+     * @param huts  the positions of the huts of the colony.
+     * @param spawn the spawn point of the horde.
+     * @return the field, not ready yet.
+     */
+    @NotNull
+    public static RaidFlowField compute(@NotNull final World world, @NotNull final Collection<BlockPos> huts, @NotNull final BlockPos spawn)
+    {
+        int minX = spawn.getX();
+        int minZ = spawn.getZ();
+        int maxX = spawn.getX();
+        int maxZ = spawn.getZ();
+        for (final BlockPos pos : huts)
+        {
+            minX = Math.min(minX, pos.getX());
+            minZ = Math.min(minZ, pos.getZ());
+            maxX = Math.max(maxX, pos.getX());
+            maxZ = Math.max(maxZ, pos.getZ());
+        }
+        final int startX = getWindowStart(minX - MARGIN, maxX + MARGIN, spawn.getX());
+        final int startZ = getWindowStart(minZ - MARGIN, maxZ + MARGIN, spawn.getZ());
+        final int sizeX = Math.min(maxX + MARGIN - startX + 1, MAX_SIZE);
+        final int sizeZ = Math.min(maxZ + MARGIN - startZ + 1, MAX_SIZE);
+
+        final RaidFlowField field = new RaidFlowField(new ArrayList<>(huts), startX, startZ, sizeX, sizeZ, world.getTotalWorldTime());
+        final ChunkCache cache = new ChunkCache(world, new BlockPos(startX, 0, startZ), new BlockPos(startX + sizeX, world.getHeight(), startZ + sizeZ), 0);
+        Pathfinding.submit(() ->
+        {
+            try
+            {
+                field.fill(cache);
+            }
+            catch (final RuntimeException e)
+            {
+                field.failed = true;
+                Log.getLogger().warn("RaidFlowField: could not compute the flow field of a raid", e);
+            }
+        });
+        return field;
+    }
+
+    /**
+     * Get the lowest coordinate of the field along an axis.
+     * When the area is larger than the field, the field is centred on the area but always keeps the spawn point.
+     *
+     * @param min   the lowest coordinate of the area.
+     * @param max   the highest coordinate of the area.
+     * @param spawn the coordinate of the spawn point.
+     * @return the lowest coordinate of the field.
+     */
+    static int getWindowStart(final int min, final int max, final int spawn)
+    {
+        if (max - min + 1 <= MAX_SIZE)
+        {
+            return min;
+        }
+        final int centred = (min + max) / 2 - MAX_SIZE / 2;
+        return Math.max(spawn + MARGIN - MAX_SIZE + 1, Math.min(centred, spawn - MARGIN));
+    }
+
+    /**
+     * Fill the field, searching from the huts outwards.
+     *
+     * @param world the blocks of the area.
+     */
+    void fill(@NotNull final IBlockAccess world)
+    {
+        final int[] queue = new int[sizeX * sizeZ];
+        int head = 0;
+        int tail = 0;
+
+        for (int index = 0; index < huts.size() && index < Short.MAX_VALUE; index++)
+        {
+            final BlockPos pos = huts.get(index);
+            for (final int[] direction : DIRECTIONS)
+            {
+                final int x = pos.getX() + direction[0];
+                final int z = pos.getZ() + direction[1];
+                final int column = getColumn(x, z);
+                if (column == UNREACHED || distance[column] != UNREACHED)
+                {
+                    continue;
+                }
+                for (final int y : new int[] {pos.getY(), pos.getY() + 1, pos.getY() - 1, pos.getY() - 2})
+                {
+                    if (canStand(world, x, y, z))
+                    {
+                        distance[column] = 0;
+                        level[column] = (short) y;
+                        hut[column] = (short) index;
+                        queue[tail++] = column;
+                        break;
+                    }
+                }
+            }
+        }
+
+        while (head < tail)
+        {
+            final int column = queue[head++];
+            final int x = minX + column % sizeX;
+            final int z = minZ + column / sizeX;
+            final int y = level[column];
+
+            for (int direction = 0; direction < DIRECTIONS.length; direction++)
+            {
+                final int nextX = x + DIRECTIONS[direction][0];
+                final int nextZ = z + DIRECTIONS[direction][1];
+                final int next = getColumn(nextX, nextZ);
+                if (next == UNREACHED || distance[next] != UNREACHED)
+                {
+                    continue;
+                }
+
+                final int nextLevel = findLevelTowards(world, x, y, z, nextX, nextZ);
+                if (nextLevel != UNREACHED)
+                {
+                    distance[next] = distance[column] + 1;
+                    level[next] = (short) nextLevel;
+                    hut[next] = hut[column];
+                    towards[next] = (byte) (direction ^ 1);
+                    queue[tail++] = next;
+                }
+            }
+        }
+        ready = true;
+    }
+
+    /**
+     * Find the level in a neighbouring column from which a barbarian can walk into a column of the field.
+     * The barbarian may step up one block, or drop down up to {@link #MAX_DROP} blocks.
+     *
+     * @param world the blocks.
+     * @param x     x of the column in the field.
+     * @param y     level of the column in the field.
+     * @param z     z of the column in the field.
+     * @param nextX x of the neighbouring column.
+     * @param nextZ z of the neighbouring column.
+     * @return the level, or -1 if none.
+     */
+    private static int findLevelTowards(@NotNull final IBlockAccess world, final int x, final int y, final int z, final int nextX, final int nextZ)
+    {
+        if (canStand(world, nextX, y, nextZ))
+        {
+            return y;
+        }
+        if (canStand(world, nextX, y - 1, nextZ) && isPassable(world, nextX, y + 1, nextZ))
+        {
+            return y - 1;
+        }
+        for (int drop = 1; drop <= MAX_DROP; drop++)
+        {
+            if (!isPassable(world, x, y + drop + 1, z))
+            {
+                return UNREACHED;
+            }
+            if (canStand(world, nextX, y + drop, nextZ))
+            {
+                return y + drop;
+            }
+        }
+        return UNREACHED;
+    }
+
+    /**
+     * Check if an entity two blocks high can stand at a position.
+     *
+     * @param world the blocks.
+     * @param x     the x.
+     * @param y     the y of the feet.
+     * @param z     the z.
+     * @return true if so.
+     */
+    private static boolean canStand(@NotNull final IBlockAccess world, final int x, final int y, final int z)
+    {
+        if (y <= 0 || y >= WORLD_HEIGHT - 1)
+        {
+            return false;
+        }
+        return isPassable(world, x, y, z) && isPassable(world, x, y + 1, z) && isWalkable(world.getBlockState(new BlockPos(x, y - 1, z)));
+    }
+
+    /**
+     * Check if a barbarian can move through a block. Barbarians don't open doors.
+     *
+     * @param world the blocks.
+     * @param x     the x.
+     * @param y     the y.
+     * @param z     the z.
+     * @return true if so.
+     */
+    private static boolean isPassable(@NotNull final IBlockAccess world, final int x, final int y, final int z)
+    {
+        final Material material = world.getBlockState(new BlockPos(x, y, z)).getMaterial();
+        return !material.blocksMovement() && !material.isLiquid();
+    }
+
+    /**
+     * Check if a block can be stood upon.
+     *
+     * @param state the block.
+     * @return true if so.
+     */
+    private static boolean isWalkable(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        return state.getMaterial().isSolid() && !(block instanceof BlockFence || block instanceof BlockFenceGate || block instanceof BlockWall);
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param x the x.
+     * @param z the z.
+     * @return the index, or -1 if outside of the field.
+     */
+    private int getColumn(final int x, final int z)
+    {
+        final int localX = x - minX;
+        final int localZ = z - minZ;
+        if (localX < 0 || localZ < 0 || localX >= sizeX || localZ >= sizeZ)
+        {
+            return UNREACHED;
+        }
+        return localZ * sizeX + localX;
+    }
+
+    /**
+     * Get the column an entity stands in, if it stands on the level of the field.
+     *
+     * @param feet the position of the feet.
+     * @return the column, or -1.
+     */
+    private int getColumnAt(@NotNull final BlockPos feet)
+    {
+        final int column = getColumn(feet.getX(), feet.getZ());
+        if (column == UNREACHED || distance[column] == UNREACHED || Math.abs(level[column] - feet.getY()) > 1)
+        {
+            return UNREACHED;
+        }
+        return column;
+    }
+
+    /**
+     * Check if the field was filled.
+     *
+     * @return true if so.
+     */
+    public boolean isReady()
+    {
+        return ready;
+    }
+
+    /**
+     * Check if filling the field failed, it will never be ready then.
+     *
+     * @return true if so.
+     */
+    public boolean isFailed()
+    {
+        return failed;
+    }
+
+    /**
+     * Get the tick the field was requested at.
+     *
+     * @return the tick.
+     */
+    public long getCreationTime()
+    {
+        return creationTime;
+    }
+
+    /**
+     * Get the distance to the closest hut.
+     *
+     * @param feet the position of the feet.
+     * @return the distance in blocks walked, or -1 if the position is not on the field.
+     */
+    public int getDistance(@NotNull final BlockPos feet)
+    {
+        if (!ready)
+        {
+            return UNREACHED;
+        }
+        final int column = getColumnAt(feet);
+        return column == UNREACHED ? UNREACHED : distance[column];
+    }
+
+    /**
+     * Get the closest hut.
+     *
+     * @param feet the position of the feet.
+     * @return the hut, or null if the position is not on the field.
+     */
+    @Nullable
+    public BlockPos getHut(@NotNull final BlockPos feet)
+    {
+        if (!ready)
+        {
+            return null;
+        }
+        final int column = getColumnAt(feet);
+        return column == UNREACHED ? null : huts.get(hut[column]);
+    }
+
+    /**
+     * Follow the gradient of the field for a few steps.
+     *
+     * @param feet  the position of the feet.
+     * @param steps the steps to look ahead.
+     * @return the position to move to, or null if the position is not on the field.
+     */
+    @Nullable
+    public BlockPos getNextStep(@NotNull final BlockPos feet, final int steps)
+    {
+        if (!ready)
+        {
+            return null;
+        }
+        int column = getColumnAt(feet);
+        if (column == UNREACHED)
+        {
+            return null;
+        }
+
+        for (int step = 0; step < steps && distance[column] > 0; step++)
+        {
+            final int[] direction = DIRECTIONS[towards[column]];
+            column = getColumn(minX + column % sizeX + direction[0], minZ + column / sizeX + direction[1]);
+        }
+        return new BlockPos(minX + column % sizeX, level[column], minZ + column / sizeX);
+    }
+}
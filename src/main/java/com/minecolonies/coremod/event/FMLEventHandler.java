@@ -4,6 +4,7 @@ import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.items.*;
+import com.minecolonies.coremod.network.SchematicTransferManager;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
 import com.minecolonies.coremod.sounds.ModSoundEvents;
@@ -25,7 +26,8 @@ public class FMLEventHandler
 {
     /**
      * Called when the server ticks.
-     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)}.
+     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)}
+     * and {@link SchematicTransferManager#onServerTick(TickEvent.ServerTickEvent)}.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent}.
      */
@@ -33,11 +35,13 @@ public class FMLEventHandler
     public void onServerTick(final TickEvent.ServerTickEvent event)
     {
         ColonyManager.onServerTick(event);
+        SchematicTransferManager.onServerTick(event);
     }
 
     /**
      * Called when the client ticks.
-     * Calls {@link ColonyManager#onClientTick(TickEvent.ClientTickEvent)}.
+     * Calls {@link ColonyManager#onClientTick(TickEvent.ClientTickEvent)}
+     * and {@link SchematicTransferManager#onClientTick(TickEvent.ClientTickEvent)}.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent}.
      */
@@ -45,6 +49,7 @@ public class FMLEventHandler
     public void onClientTick(final TickEvent.ClientTickEvent event)
     {
         ColonyManager.onClientTick(event);
+        SchematicTransferManager.onClientTick(event);
     }
 
     /**
@@ -76,6 +81,18 @@ public class FMLEventHandler
         }
     }
 
+    /**
+     * Called when a player logs out.
+     * Calls {@link SchematicTransferManager#onPlayerLoggedOut(java.util.UUID)}.
+     *
+     * @param event {@link net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent}
+     */
+    @SubscribeEvent
+    public void onPlayerLogout(@NotNull final PlayerEvent.PlayerLoggedOutEvent event)
+    {
+        SchematicTransferManager.onPlayerLoggedOut(event.player.getUniqueID());
+    }
+
     /**
      * Called when the config is changed, used to synch between file and game.
      *
@@ -0,0 +1,468 @@
+package com.minecolonies.coremod.network;
+
+import com.minecolonies.api.util.Log;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.network.FMLEmbeddedChannel;
+import net.minecraftforge.fml.common.network.FMLOutboundHandler;
+import net.minecraftforge.fml.common.network.NetworkRegistry;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.SimpleIndexedCodec;
+import net.minecraftforge.fml.relauncher.Side;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the messages and bytes sent over the MineColonies channel, per message class and per colony.
+ * <p>
+ * Two handlers are inserted around the codec of the channel: one sees the message object, the other the encoded packet.
+ * Both run on the same thread for a single message, so the size of the encoded packet can be attributed to the message.
+ * Because the size is taken from the encoded packet the counts stay accurate whatever the message does when encoding.
+ * A message sent to several players is encoded once, it is counted once per receiving player.
+ * <p>
+ * The counts are kept in one second buckets, summing them gives a rolling one minute window.
+ */
+public final class NetworkTelemetry
+{
+    /**
+     * Amount of one second buckets in the rolling window.
+     */
+    private static final int WINDOW_SECONDS = 60;
+
+    /**
+     * Milliseconds in a second.
+     */
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    /**
+     * Used when a message does not belong to a colony.
+     */
+    public static final int NO_COLONY = 0;
+
+    /**
+     * Names of the handlers in the channel pipeline.
+     */
+    private static final String PACKET_HANDLER_NAME  = "minecolonies:telemetry_packet";
+    private static final String MESSAGE_HANDLER_NAME = "minecolonies:telemetry_message";
+
+    /**
+     * Names of the fields messages use to store their colony.
+     */
+    private static final String[] COLONY_FIELD_NAMES = {"colonyId", "colonyID"};
+
+    /**
+     * Counters per direction and message class.
+     */
+    private static final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Counters per direction and colony.
+     */
+    private static final Map<String, Counter> colonyCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Cached colony field per message class.
+     */
+    private static final Map<Class<?>, Optional<Field>> colonyFields = new ConcurrentHashMap<>();
+
+    /**
+     * The message which is being encoded on this thread.
+     */
+    private static final ThreadLocal<IMessage> encodingMessage = new ThreadLocal<>();
+
+    /**
+     * The size of the packet which is being decoded on this thread.
+     */
+    private static final ThreadLocal<Integer> decodingSize = new ThreadLocal<>();
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private NetworkTelemetry()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Directions a message can travel.
+     */
+    public enum Direction
+    {
+        IN,
+        OUT
+    }
+
+    /**
+     * Install the counting handlers on both sides of a channel.
+     * Has to be called after all messages of the channel are registered.
+     *
+     * @param channelName the name of the channel.
+     */
+    public static void install(@NotNull final String channelName)
+    {
+        for (final Side side : Side.values())
+        {
+            final FMLEmbeddedChannel channel = NetworkRegistry.INSTANCE.getChannel(channelName, side);
+            if (channel == null)
+            {
+                continue;
+            }
+
+            final String codec = channel.findChannelHandlerNameForType(SimpleIndexedCodec.class);
+            channel.pipeline().addBefore(codec, PACKET_HANDLER_NAME, new PacketCounter());
+            channel.pipeline().addAfter(codec, MESSAGE_HANDLER_NAME, new MessageCounter());
+        }
+    }
+
+    /**
+     * Record a message.
+     *
+     * @param direction the direction it travelled.
+     * @param message   the message.
+     * @param bytes     the size of the encoded message.
+     */
+    public static void record(@NotNull final Direction direction, @NotNull final IMessage message, final int bytes)
+    {
+        record(direction, message, bytes, 1);
+    }
+
+    /**
+     * Record a message sent to several receivers.
+     *
+     * @param direction  the direction it travelled.
+     * @param message    the message.
+     * @param bytes      the size of the encoded message.
+     * @param recipients the amount of receivers.
+     */
+    public static void record(@NotNull final Direction direction, @NotNull final IMessage message, final int bytes, final int recipients)
+    {
+        if (recipients <= 0)
+        {
+            return;
+        }
+
+        final long second = System.currentTimeMillis() / MILLIS_PER_SECOND;
+        messageCounters.computeIfAbsent(direction + "," + message.getClass().getName(), key -> new Counter()).add(second, bytes, recipients);
+
+        final int colonyId = getColonyId(message);
+        if (colonyId != NO_COLONY)
+        {
+            colonyCounters.computeIfAbsent(direction + "," + colonyId, key -> new Counter()).add(second, bytes, recipients);
+        }
+    }
+
+    /**
+     * Get the counts of the last minute per direction and message class.
+     *
+     * @return map of "direction,class" to {count, bytes}, sorted by bytes descending.
+     */
+    @NotNull
+    public static Map<String, long[]> getMessageStats()
+    {
+        return snapshot(messageCounters);
+    }
+
+    /**
+     * Get the counts of the last minute per direction and colony.
+     *
+     * @return map of "direction,colony" to {count, bytes}, sorted by bytes descending.
+     */
+    @NotNull
+    public static Map<String, long[]> getColonyStats()
+    {
+        return snapshot(colonyCounters);
+    }
+
+    /**
+     * Write the counts of the last minute to a csv file.
+     *
+     * @param file the file to write to.
+     * @return true if it was written successfully.
+     */
+    public static boolean dumpToCSV(@NotNull final File file)
+    {
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs())
+        {
+            Log.getLogger().warn("NetworkTelemetry: could not create " + file.getParentFile());
+            return false;
+        }
+
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8"))
+        {
+            writer.println("scope,direction,key,messages,bytes");
+            for (final Map.Entry<String, long[]> entry : getMessageStats().entrySet())
+            {
+                writer.println("class," + entry.getKey() + "," + entry.getValue()[0] + "," + entry.getValue()[1]);
+            }
+            for (final Map.Entry<String, long[]> entry : getColonyStats().entrySet())
+            {
+                writer.println("colony," + entry.getKey() + "," + entry.getValue()[0] + "," + entry.getValue()[1]);
+            }
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("NetworkTelemetry: could not write " + file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sum the counters over the rolling window and sort them by bytes.
+     * Counters without messages in the window are dropped.
+     *
+     * @param counters the counters.
+     * @return the sorted sums.
+     */
+    @NotNull
+    private static Map<String, long[]> snapshot(@NotNull final Map<String, Counter> counters)
+    {
+        final long second = System.currentTimeMillis() / MILLIS_PER_SECOND;
+        final List<Map.Entry<String, long[]>> entries = new ArrayList<>();
+        for (final Map.Entry<String, Counter> entry : counters.entrySet())
+        {
+            final long[] sum = entry.getValue().sum(second);
+            if (sum[0] > 0)
+            {
+                entries.add(new AbstractMap.SimpleEntry<>(entry.getKey(), sum));
+            }
+            else
+            {
+                counters.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        entries.sort((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]));
+
+        final Map<String, long[]> result = new LinkedHashMap<>();
+        for (final Map.Entry<String, long[]> entry : entries)
+        {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Get the amount of players an outgoing packet is sent to, from the target set on the channel.
+     *
+     * @param channel the channel.
+     * @return the amount of receivers.
+     */
+    private static int getRecipients(@NotNull final Channel channel)
+    {
+        final FMLOutboundHandler.OutboundTarget target = channel.attr(FMLOutboundHandler.FML_MESSAGETARGET).get();
+        final MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (target == null || server == null)
+        {
+            return 1;
+        }
+
+        final Object args = channel.attr(FMLOutboundHandler.FML_MESSAGETARGETARGS).get();
+        switch (target)
+        {
+            case ALL:
+                return server.getPlayerList().getCurrentPlayerCount();
+            case DIMENSION:
+                return (int) server.getPlayerList().getPlayers().stream().filter(player -> args instanceof Integer && player.dimension == (Integer) args).count();
+            case ALLAROUNDPOINT:
+                if (!(args instanceof NetworkRegistry.TargetPoint))
+                {
+                    return 1;
+                }
+                final NetworkRegistry.TargetPoint point = (NetworkRegistry.TargetPoint) args;
+                return (int) server.getPlayerList().getPlayers().stream()
+                               .filter(player -> player.dimension == point.dimension
+                                                   && player.getDistanceSq(point.x, point.y, point.z) < point.range * point.range)
+                               .count();
+            default:
+                return 1;
+        }
+    }
+
+    /**
+     * Get the colony a message is about, from its colony id field.
+     *
+     * @param message the message.
+     * @return the colony id or {@link #NO_COLONY}.
+     */
+    private static int getColonyId(@NotNull final IMessage message)
+    {
+        final Optional<Field> field = colonyFields.computeIfAbsent(message.getClass(), NetworkTelemetry::findColonyField);
+        if (!field.isPresent())
+        {
+            return NO_COLONY;
+        }
+
+        try
+        {
+            return field.get().getInt(message);
+        }
+        catch (final IllegalAccessException e)
+        {
+            Log.getLogger().trace(e);
+            return NO_COLONY;
+        }
+    }
+
+    /**
+     * Find the int field holding the colony id of a message class.
+     *
+     * @param messageClass the class of the message.
+     * @return the accessible field, if any.
+     */
+    @NotNull
+    private static Optional<Field> findColonyField(@NotNull final Class<?> messageClass)
+    {
+        for (final String name : COLONY_FIELD_NAMES)
+        {
+            try
+            {
+                final Field field = messageClass.getDeclaredField(name);
+                if (field.getType() == int.class)
+                {
+                    field.setAccessible(true);
+                    return Optional.of(field);
+                }
+            }
+            catch (final NoSuchFieldException e)
+            {
+                //  Try the next name.
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Message and byte counts in one second buckets.
+     */
+    private static final class Counter
+    {
+        private final long[] seconds  = new long[WINDOW_SECONDS];
+        private final long[] messages = new long[WINDOW_SECONDS];
+        private final long[] bytes    = new long[WINDOW_SECONDS];
+
+        /**
+         * Add a message to the bucket of the current second.
+         *
+         * @param second     the current second.
+         * @param size       the size of the message.
+         * @param recipients the amount of receivers.
+         */
+        private synchronized void add(final long second, final int size, final int recipients)
+        {
+            final int bucket = (int) (second % WINDOW_SECONDS);
+            if (seconds[bucket] != second)
+            {
+                seconds[bucket] = second;
+                messages[bucket] = 0;
+                bytes[bucket] = 0;
+            }
+            messages[bucket] += recipients;
+            bytes[bucket] += (long) size * recipients;
+        }
+
+        /**
+         * Sum the buckets of the rolling window.
+         *
+         * @param second the current second.
+         * @return {messages, bytes}.
+         */
+        private synchronized long[] sum(final long second)
+        {
+            final long[] sum = new long[2];
+            for (int bucket = 0; bucket < WINDOW_SECONDS; bucket++)
+            {
+                if (second - seconds[bucket] < WINDOW_SECONDS)
+                {
+                    sum[0] += messages[bucket];
+                    sum[1] += bytes[bucket];
+                }
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Sits between the codec and the tail of the pipeline, sees the message objects.
+     */
+    @ChannelHandler.Sharable
+    private static final class MessageCounter extends ChannelDuplexHandler
+    {
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception
+        {
+            if (msg instanceof IMessage)
+            {
+                encodingMessage.set((IMessage) msg);
+            }
+            try
+            {
+                super.write(ctx, msg, promise);
+            }
+            finally
+            {
+                encodingMessage.remove();
+            }
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception
+        {
+            final Integer size = decodingSize.get();
+            if (msg instanceof IMessage && size != null)
+            {
+                record(Direction.IN, (IMessage) msg, size);
+            }
+            super.channelRead(ctx, msg);
+        }
+    }
+
+    /**
+     * Sits between the head of the pipeline and the codec, sees the encoded packets.
+     */
+    @ChannelHandler.Sharable
+    private static final class PacketCounter extends ChannelDuplexHandler
+    {
+        @Override
+        public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception
+        {
+            @Nullable final IMessage message = encodingMessage.get();
+            if (msg instanceof FMLProxyPacket && message != null)
+            {
+                record(Direction.OUT, message, ((FMLProxyPacket) msg).payload().readableBytes(), getRecipients(ctx.channel()));
+            }
+            super.write(ctx, msg, promise);
+        }
+
+        @Override
+        public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception
+        {
+            if (msg instanceof FMLProxyPacket)
+            {
+                decodingSize.set(((FMLProxyPacket) msg).payload().readableBytes());
+            }
+            try
+            {
+                super.channelRead(ctx, msg);
+            }
+            finally
+            {
+                decodingSize.remove();
+            }
+        }
+    }
+}
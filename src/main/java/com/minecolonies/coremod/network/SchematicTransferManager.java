@@ -0,0 +1,605 @@
+package com.minecolonies.coremod.network;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.SchematicChunkMessage;
+import com.minecolonies.coremod.network.messages.SchematicOfferMessage;
+import com.minecolonies.coremod.util.ClientStructureWrapper;
+import com.minecolonies.structures.helpers.Structure;
+import net.minecraft.client.Minecraft;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Streams schematics between client and server.
+ * <p>
+ * Schematics are compressed once, split into sequenced chunks and sent at a throttled rate per player and per tick.
+ * The client keeps the chunks received so far keyed by the md5 hash of the schematic,
+ * this allows a download interrupted by a disconnect to be resumed where it stopped.
+ * The server only accepts chunks of a schematic the player offered before, keeps them per player and md5 hash
+ * limited in size, and drops them once the player stopped sending for a while. A player offering the same schematic
+ * again, also after reconnecting, continues where the upload stopped.
+ */
+public final class SchematicTransferManager
+{
+    /**
+     * Maximum size of the payload of one chunk, stays below the size limit of a single packet.
+     */
+    public static final int CHUNK_SIZE = 30_000;
+
+    /**
+     * Maximum amount of chunks a single schematic can be split into.
+     */
+    public static final int MAX_CHUNKS = 512;
+
+    /**
+     * Maximum size of a compressed schematic which can be transferred.
+     */
+    public static final int MAX_TRANSFER_SIZE = CHUNK_SIZE * MAX_CHUNKS;
+
+    /**
+     * Value sent back to the uploader when the receiver already has the schematic.
+     */
+    public static final int ALREADY_CACHED = -1;
+
+    /**
+     * Value sent back to the uploader when the server can't take the schematic right now.
+     */
+    public static final int REJECTED = -2;
+
+    /**
+     * Maximum amount of bytes the server keeps for uploads of all players together.
+     */
+    private static final int MAX_INCOMING_BYTES = MAX_TRANSFER_SIZE * 4;
+
+    /**
+     * Ticks after which an upload the player stopped sending is dropped.
+     */
+    private static final int TRANSFER_TIMEOUT = 20 * 60 * 5;
+
+    /**
+     * Ticks between two checks for stopped uploads.
+     */
+    private static final int EXPIRY_INTERVAL = 20 * 30;
+
+    /**
+     * Maximum amount of unfinished uploads kept per player.
+     */
+    private static final int MAX_UPLOADS_PER_PLAYER = 2;
+
+    /**
+     * Transfers waiting to be sent from the server, per player.
+     */
+    private static final Map<UUID, Deque<OutgoingTransfer>> outgoingToClients = new HashMap<>();
+
+    /**
+     * Transfers waiting to be sent from the client to the server.
+     */
+    private static final Deque<OutgoingTransfer> outgoingToServer = new ArrayDeque<>();
+
+    /**
+     * Compressed schematics offered to the server, waiting for its answer.
+     */
+    private static final Map<String, byte[]> pendingUploads = new HashMap<>();
+
+    /**
+     * Partially received schematics on the client, by md5 hash.
+     */
+    private static final Map<String, IncomingTransfer> incomingFromServer = new HashMap<>();
+
+    /**
+     * Partially received schematics on the server, by player and md5 hash.
+     */
+    private static final Map<UUID, Map<String, IncomingTransfer>> incomingFromPlayers = new HashMap<>();
+
+    /**
+     * Bytes reserved for the uploads of all players.
+     */
+    private static int incomingBytes = 0;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private SchematicTransferManager()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Calculate the amount of chunks needed for a compressed schematic.
+     *
+     * @param compressedLength the length of the compressed schematic.
+     * @return the amount of chunks.
+     */
+    public static int getChunkCount(final int compressedLength)
+    {
+        return Math.max(1, (compressedLength + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    }
+
+    /**
+     * Queue a schematic to be sent to a player.
+     * If the same schematic is already queued for this player only the start index is updated.
+     *
+     * @param player     the player to send it to.
+     * @param md5        the md5 hash of the uncompressed schematic.
+     * @param compressed the compressed schematic.
+     * @param startChunk the first chunk to send, used to resume an interrupted transfer.
+     */
+    public static synchronized void queueToPlayer(@NotNull final EntityPlayerMP player, @NotNull final String md5, @NotNull final byte[] compressed, final int startChunk)
+    {
+        queue(outgoingToClients.computeIfAbsent(player.getUniqueID(), uuid -> new ArrayDeque<>()), md5, compressed, startChunk);
+    }
+
+    /**
+     * Offer a schematic to the server.
+     * The chunks are only sent once the server answered with the index to start from,
+     * nothing is sent if the server already has this schematic in its cache.
+     *
+     * @param bytes the uncompressed schematic.
+     */
+    @SideOnly(Side.CLIENT)
+    public static synchronized void offerToServer(@NotNull final byte[] bytes)
+    {
+        final String md5 = Structure.calculateMD5(bytes);
+        final byte[] compressed = Structure.compress(bytes);
+        if (md5 == null || compressed == null)
+        {
+            Log.getLogger().warn("SchematicTransferManager: could not prepare schematic for upload");
+            return;
+        }
+
+        if (compressed.length > MAX_TRANSFER_SIZE)
+        {
+            ClientStructureWrapper.sendMessageSchematicTooBig(MAX_TRANSFER_SIZE);
+            return;
+        }
+
+        pendingUploads.put(md5, compressed);
+        MineColonies.getNetwork().sendToServer(new SchematicOfferMessage(md5, getChunkCount(compressed.length)));
+    }
+
+    /**
+     * Handle the answer of the server to an offered schematic.
+     *
+     * @param md5        the md5 hash of the offered schematic.
+     * @param startChunk the first chunk the server needs, {@link #ALREADY_CACHED} or {@link #REJECTED}.
+     */
+    @SideOnly(Side.CLIENT)
+    public static synchronized void handleOfferAnswer(@NotNull final String md5, final int startChunk)
+    {
+        final byte[] compressed = pendingUploads.remove(md5);
+        if (compressed == null)
+        {
+            return;
+        }
+
+        if (startChunk == ALREADY_CACHED)
+        {
+            Log.getLogger().info("SchematicTransferManager: server already has schematic " + md5);
+            return;
+        }
+        if (startChunk == REJECTED)
+        {
+            Log.getLogger().info("SchematicTransferManager: server rejected schematic " + md5);
+            return;
+        }
+        queue(outgoingToServer, md5, compressed, startChunk);
+    }
+
+    /**
+     * Get the index of the first chunk which is still missing for a schematic downloaded from the server.
+     *
+     * @param md5 the md5 hash of the schematic.
+     * @return the first missing chunk, 0 if nothing has been received yet.
+     */
+    public static synchronized int getResumeIndex(@Nullable final String md5)
+    {
+        final IncomingTransfer transfer = md5 == null ? null : incomingFromServer.get(md5);
+        return transfer == null ? 0 : transfer.getFirstMissingChunk();
+    }
+
+    /**
+     * Accept a schematic offered by a player.
+     * An unfinished upload of the same schematic is continued, otherwise the oldest uploads of the player
+     * are dropped to stay within the limit per player.
+     *
+     * @param player the player offering it.
+     * @param md5    the md5 hash of the schematic.
+     * @param count  the amount of chunks the schematic will be sent in.
+     * @return the first chunk the server needs, or {@link #REJECTED}.
+     */
+    public static synchronized int acceptOffer(@NotNull final EntityPlayerMP player, @NotNull final String md5, final int count)
+    {
+        if (count <= 0 || count > MAX_CHUNKS)
+        {
+            return REJECTED;
+        }
+
+        final Map<String, IncomingTransfer> uploads = incomingFromPlayers.getOrDefault(player.getUniqueID(), Collections.emptyMap());
+        final IncomingTransfer current = uploads.get(md5);
+        if (current != null && current.chunks.length == count)
+        {
+            current.lastUpdate = getServerTick();
+            return current.getFirstMissingChunk();
+        }
+
+        removeUpload(player.getUniqueID(), md5);
+        while (uploads.size() >= MAX_UPLOADS_PER_PLAYER)
+        {
+            removeUpload(player.getUniqueID(), Collections.min(uploads.values(), Comparator.comparingInt(upload -> upload.lastUpdate)).md5);
+        }
+        if (incomingBytes + count * CHUNK_SIZE > MAX_INCOMING_BYTES)
+        {
+            Log.getLogger().info("SchematicTransferManager: too many uploads in progress, rejected schematic " + md5 + " of " + player.getName());
+            return REJECTED;
+        }
+
+        final IncomingTransfer transfer = new IncomingTransfer(md5, count);
+        transfer.lastUpdate = getServerTick();
+        incomingFromPlayers.computeIfAbsent(player.getUniqueID(), uuid -> new HashMap<>()).put(md5, transfer);
+        incomingBytes += count * CHUNK_SIZE;
+        return 0;
+    }
+
+    /**
+     * Store a chunk received from a player, only if it belongs to a schematic the player offered.
+     *
+     * @param player the player who sent it.
+     * @param md5    the md5 hash of the schematic.
+     * @param index  the index of the chunk.
+     * @param count  the total amount of chunks of the schematic.
+     * @param data   the payload of the chunk.
+     * @return the uncompressed schematic when it is complete and its md5 hash matches, otherwise null.
+     */
+    @Nullable
+    public static synchronized byte[] receiveFromPlayer(
+      @NotNull final EntityPlayerMP player,
+      @NotNull final String md5,
+      final int index,
+      final int count,
+      @NotNull final byte[] data)
+    {
+        final Map<String, IncomingTransfer> uploads = incomingFromPlayers.get(player.getUniqueID());
+        final IncomingTransfer transfer = uploads == null ? null : uploads.get(md5);
+        if (transfer == null || transfer.chunks.length != count || !isValidChunk(index, count, data))
+        {
+            Log.getLogger().warn("SchematicTransferManager: unexpected chunk " + index + "/" + count + " of schematic " + md5 + " from " + player.getName());
+            return null;
+        }
+
+        transfer.chunks[index] = data;
+        transfer.lastUpdate = getServerTick();
+        if (transfer.getFirstMissingChunk() < count)
+        {
+            return null;
+        }
+
+        removeUpload(player.getUniqueID(), md5);
+        return transfer.decode();
+    }
+
+    /**
+     * Store a chunk received from the server.
+     *
+     * @param md5   the md5 hash of the schematic.
+     * @param index the index of the chunk.
+     * @param count the total amount of chunks of the schematic.
+     * @param data  the payload of the chunk.
+     * @return the uncompressed schematic when it is complete and its md5 hash matches, otherwise null.
+     */
+    @Nullable
+    @SideOnly(Side.CLIENT)
+    public static synchronized byte[] receiveFromServer(@NotNull final String md5, final int index, final int count, @NotNull final byte[] data)
+    {
+        if (!isValidChunk(index, count, data))
+        {
+            Log.getLogger().warn("SchematicTransferManager: invalid chunk " + index + "/" + count + " for schematic " + md5);
+            return null;
+        }
+
+        IncomingTransfer transfer = incomingFromServer.get(md5);
+        if (transfer == null || transfer.chunks.length != count)
+        {
+            transfer = new IncomingTransfer(md5, count);
+            incomingFromServer.put(md5, transfer);
+        }
+        transfer.chunks[index] = data;
+
+        if (transfer.getFirstMissingChunk() < count)
+        {
+            return null;
+        }
+
+        incomingFromServer.remove(md5);
+        return transfer.decode();
+    }
+
+    /**
+     * Stop sending to a player, called when the player logs out.
+     * The uploads of the player are kept until they time out, so they continue when the player offers them again.
+     *
+     * @param uuid the id of the player.
+     */
+    public static synchronized void onPlayerLoggedOut(@NotNull final UUID uuid)
+    {
+        outgoingToClients.remove(uuid);
+    }
+
+    /**
+     * Send the queued chunks to the players, throttled per player.
+     *
+     * @param event the server tick event.
+     */
+    public static synchronized void onServerTick(@NotNull final TickEvent.ServerTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END)
+        {
+            return;
+        }
+
+        final int tick = getServerTick();
+        if (tick % EXPIRY_INTERVAL == 0)
+        {
+            expireUploads(tick);
+        }
+
+        if (outgoingToClients.isEmpty())
+        {
+            return;
+        }
+
+        final Iterator<Map.Entry<UUID, Deque<OutgoingTransfer>>> iterator = outgoingToClients.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<UUID, Deque<OutgoingTransfer>> entry = iterator.next();
+            final EntityPlayerMP player = FMLCommonHandler.instance().getMinecraftServerInstance().getPlayerList().getPlayerByUUID(entry.getKey());
+            if (player == null)
+            {
+                //  Player disconnected, the client will resume from what it received when it asks again.
+                iterator.remove();
+                continue;
+            }
+
+            for (int i = 0; i < Configurations.gameplay.schematicChunksPerTick && !entry.getValue().isEmpty(); i++)
+            {
+                MineColonies.getNetwork().sendTo(nextChunk(entry.getValue()), player);
+            }
+
+            if (entry.getValue().isEmpty())
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Send the queued chunks to the server, throttled per tick.
+     *
+     * @param event the client tick event.
+     */
+    @SideOnly(Side.CLIENT)
+    public static synchronized void onClientTick(@NotNull final TickEvent.ClientTickEvent event)
+    {
+        if (event.phase != TickEvent.Phase.END || outgoingToServer.isEmpty())
+        {
+            return;
+        }
+
+        if (Minecraft.getMinecraft().getConnection() == null)
+        {
+            //  Left the server, the server keeps what it received so far until the upload times out.
+            outgoingToServer.clear();
+            pendingUploads.clear();
+            return;
+        }
+
+        for (int i = 0; i < Configurations.gameplay.schematicChunksPerTick && !outgoingToServer.isEmpty(); i++)
+        {
+            MineColonies.getNetwork().sendToServer(nextChunk(outgoingToServer));
+        }
+    }
+
+    /**
+     * Drop the uploads the players stopped sending.
+     *
+     * @param tick the current tick of the server.
+     */
+    private static void expireUploads(final int tick)
+    {
+        for (final Map.Entry<UUID, Map<String, IncomingTransfer>> entry : new ArrayList<>(incomingFromPlayers.entrySet()))
+        {
+            for (final IncomingTransfer transfer : new ArrayList<>(entry.getValue().values()))
+            {
+                if (tick - transfer.lastUpdate > TRANSFER_TIMEOUT)
+                {
+                    Log.getLogger().info("SchematicTransferManager: dropped stopped upload of schematic " + transfer.md5);
+                    removeUpload(entry.getKey(), transfer.md5);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the current tick of the server.
+     *
+     * @return the tick.
+     */
+    private static int getServerTick()
+    {
+        return FMLCommonHandler.instance().getMinecraftServerInstance().getTickCounter();
+    }
+
+    /**
+     * Drop an upload of a player.
+     *
+     * @param uuid the id of the player.
+     * @param md5  the md5 hash of the schematic.
+     */
+    private static void removeUpload(@NotNull final UUID uuid, @NotNull final String md5)
+    {
+        final Map<String, IncomingTransfer> uploads = incomingFromPlayers.get(uuid);
+        final IncomingTransfer transfer = uploads == null ? null : uploads.remove(md5);
+        if (transfer != null)
+        {
+            incomingBytes -= transfer.chunks.length * CHUNK_SIZE;
+        }
+        if (uploads != null && uploads.isEmpty())
+        {
+            incomingFromPlayers.remove(uuid);
+        }
+    }
+
+    /**
+     * Check if a received chunk is within the limits of a transfer.
+     *
+     * @param index the index of the chunk.
+     * @param count the total amount of chunks.
+     * @param data  the payload of the chunk.
+     * @return true if so.
+     */
+    private static boolean isValidChunk(final int index, final int count, @NotNull final byte[] data)
+    {
+        return count > 0 && count <= MAX_CHUNKS && index >= 0 && index < count && data.length <= CHUNK_SIZE;
+    }
+
+    /**
+     * Add a transfer to a queue, or update the start index if the schematic is already queued.
+     *
+     * @param queue      the queue of the receiver.
+     * @param md5        the md5 hash of the schematic.
+     * @param compressed the compressed schematic.
+     * @param startChunk the first chunk to send.
+     */
+    private static void queue(@NotNull final Deque<OutgoingTransfer> queue, @NotNull final String md5, @NotNull final byte[] compressed, final int startChunk)
+    {
+        for (final OutgoingTransfer transfer : queue)
+        {
+            if (transfer.md5.equals(md5))
+            {
+                transfer.nextChunk = Math.min(transfer.nextChunk, startChunk);
+                return;
+            }
+        }
+        queue.add(new OutgoingTransfer(md5, compressed, startChunk));
+    }
+
+    /**
+     * Build the message for the next chunk of the first transfer of a queue.
+     *
+     * @param queue the queue to take the chunk from.
+     * @return the message to send.
+     */
+    @NotNull
+    private static SchematicChunkMessage nextChunk(@NotNull final Deque<OutgoingTransfer> queue)
+    {
+        final OutgoingTransfer transfer = queue.peek();
+        final int index = transfer.nextChunk++;
+        final int start = index * CHUNK_SIZE;
+        final byte[] data = Arrays.copyOfRange(transfer.compressed, start, Math.min(start + CHUNK_SIZE, transfer.compressed.length));
+        if (transfer.nextChunk >= transfer.chunkCount)
+        {
+            queue.poll();
+        }
+        return new SchematicChunkMessage(transfer.md5, index, transfer.chunkCount, data);
+    }
+
+    /**
+     * A schematic being sent.
+     */
+    private static final class OutgoingTransfer
+    {
+        private final String md5;
+        private final byte[] compressed;
+        private final int    chunkCount;
+        private       int    nextChunk;
+
+        private OutgoingTransfer(@NotNull final String md5, @NotNull final byte[] compressed, final int startChunk)
+        {
+            this.md5 = md5;
+            this.compressed = compressed;
+            this.chunkCount = getChunkCount(compressed.length);
+            this.nextChunk = Math.max(0, Math.min(startChunk, chunkCount - 1));
+        }
+    }
+
+    /**
+     * A schematic being received.
+     */
+    private static final class IncomingTransfer
+    {
+        private final String   md5;
+        private final byte[][] chunks;
+        private       int      lastUpdate;
+
+        private IncomingTransfer(@NotNull final String md5, final int count)
+        {
+            this.md5 = md5;
+            this.chunks = new byte[count][];
+        }
+
+        /**
+         * Uncompress the complete schematic and check its md5 hash.
+         *
+         * @return the schematic, or null if it does not match its md5 hash.
+         */
+        @Nullable
+        private byte[] decode()
+        {
+            final byte[] uncompressed = Structure.uncompress(assemble());
+            if (!md5.equals(Structure.calculateMD5(uncompressed)))
+            {
+                Log.getLogger().warn("SchematicTransferManager: md5 mismatch for received schematic " + md5);
+                return null;
+            }
+            return uncompressed;
+        }
+
+        /**
+         * Get the first chunk which has not been received yet.
+         *
+         * @return the index, or the amount of chunks if it is complete.
+         */
+        private int getFirstMissingChunk()
+        {
+            int index = 0;
+            while (index < chunks.length && chunks[index] != null)
+            {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * Concatenate all the chunks.
+         *
+         * @return the compressed schematic.
+         */
+        private byte[] assemble()
+        {
+            int length = 0;
+            for (final byte[] chunk : chunks)
+            {
+                length += chunk.length;
+            }
+
+            final byte[] compressed = new byte[length];
+            int offset = 0;
+            for (final byte[] chunk : chunks)
+            {
+                System.arraycopy(chunk, 0, compressed, offset, chunk.length);
+                offset += chunk.length;
+            }
+            return compressed;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Add, update or remove several {@link com.minecolonies.coremod.colony.WorkOrderView}s of a ColonyView at once.
+ * The data is serialized once, so the same message can be sent to every subscriber.
+ */
+public class ColonyViewWorkOrdersMessage implements IMessage, IMessageHandler<ColonyViewWorkOrdersMessage, IMessage>
+{
+    private int     colonyId;
+    private ByteBuf workOrdersBuffer;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewWorkOrdersMessage()
+    {
+        super();
+    }
+
+    /**
+     * Updates the {@link com.minecolonies.coremod.colony.WorkOrderView}s of the colony.
+     *
+     * @param colony     colony of the workOrders.
+     * @param workOrders workOrders of the colony to update the views of.
+     * @param removedIds ids of the workOrders to remove from the view.
+     */
+    public ColonyViewWorkOrdersMessage(@NotNull final Colony colony, @NotNull final Collection<AbstractWorkOrder> workOrders, @NotNull final Collection<Integer> removedIds)
+    {
+        this.colonyId = colony.getID();
+        this.workOrdersBuffer = Unpooled.buffer();
+
+        workOrdersBuffer.writeInt(workOrders.size());
+        for (final AbstractWorkOrder workOrder : workOrders)
+        {
+            workOrder.serializeViewNetworkData(workOrdersBuffer);
+        }
+
+        workOrdersBuffer.writeInt(removedIds.size());
+        for (final int id : removedIds)
+        {
+            workOrdersBuffer.writeInt(id);
+        }
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final ByteBuf newbuf = buf.retain();
+        colonyId = newbuf.readInt();
+        workOrdersBuffer = newbuf;
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeBytes(workOrdersBuffer, workOrdersBuffer.readerIndex(), workOrdersBuffer.readableBytes());
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull final ColonyViewWorkOrdersMessage message, final MessageContext ctx)
+    {
+        return ColonyManager.handleColonyViewWorkOrdersMessage(message.colonyId, message.workOrdersBuffer);
+    }
+}
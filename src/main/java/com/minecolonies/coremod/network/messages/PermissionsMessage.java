@@ -60,15 +60,17 @@ public class PermissionsMessage
 
         /**
          * Instantiate message.
+         * The message only depends on the rank, it can be sent to every subscriber of that rank.
          *
          * @param colony     with the colony.
          * @param viewerRank and viewer rank.
+         * @param full       true for all players, false for the changes since the last synchronization.
          */
-        public View(@NotNull final Colony colony, @NotNull final Rank viewerRank)
+        public View(@NotNull final Colony colony, @NotNull final Rank viewerRank, final boolean full)
         {
             this.colonyID = colony.getID();
             this.data = Unpooled.buffer();
-            colony.getPermissions().serializeViewNetworkData(this.data, viewerRank);
+            colony.getPermissions().serializeViewNetworkData(this.data, viewerRank, full);
         }
 
         @Override
@@ -90,7 +92,7 @@ public class PermissionsMessage
         public void toBytes(@NotNull final ByteBuf buf)
         {
             buf.writeInt(colonyID);
-            buf.writeBytes(data);
+            buf.writeBytes(data, data.readerIndex(), data.readableBytes());
         }
     }
 
@@ -0,0 +1,133 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.coremod.network.SchematicTransferManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One chunk of a schematic streamed by the {@link SchematicTransferManager}.
+ * Used in both directions.
+ */
+public class SchematicChunkMessage implements IMessage, IMessageHandler<SchematicChunkMessage, IMessage>
+{
+    private String md5;
+    private int    index;
+    private int    count;
+    private byte[] data;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SchematicChunkMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a schematic chunk message.
+     *
+     * @param md5   the md5 hash of the uncompressed schematic.
+     * @param index the index of this chunk.
+     * @param count the total amount of chunks.
+     * @param data  the part of the compressed schematic.
+     */
+    public SchematicChunkMessage(@NotNull final String md5, final int index, final int count, @NotNull final byte[] data)
+    {
+        super();
+        this.md5 = md5;
+        this.index = index;
+        this.count = count;
+        this.data = data;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        md5 = ByteBufUtils.readUTF8String(buf);
+        index = buf.readInt();
+        count = buf.readInt();
+        final int length = buf.readInt();
+        if (length < 0 || length > SchematicTransferManager.CHUNK_SIZE || length > buf.readableBytes())
+        {
+            //Rejected as invalid chunk once handled.
+            index = -1;
+            data = new byte[0];
+            return;
+        }
+        data = new byte[length];
+        buf.readBytes(data);
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        ByteBufUtils.writeUTF8String(buf, md5);
+        buf.writeInt(index);
+        buf.writeInt(count);
+        buf.writeInt(data.length);
+        buf.writeBytes(data);
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull final SchematicChunkMessage message, final MessageContext ctx)
+    {
+        if (ctx.side.isServer())
+        {
+            final EntityPlayerMP player = ctx.getServerHandler().player;
+            player.getServerWorld().addScheduledTask(() -> receiveOnServer(message, player));
+        }
+        else
+        {
+            final byte[] bytes = SchematicTransferManager.receiveFromServer(message.md5, message.index, message.count, message.data);
+            if (bytes != null)
+            {
+                Structures.handleSaveSchematicMessage(bytes);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Store a chunk received from a player.
+     *
+     * @param message the received message.
+     * @param player  the player who sent it.
+     */
+    private static void receiveOnServer(@NotNull final SchematicChunkMessage message, @NotNull final EntityPlayerMP player)
+    {
+        if (!MineColonies.isClient() && !Configurations.gameplay.allowPlayerSchematics)
+        {
+            Log.getLogger().info("SchematicChunkMessage: custom schematic is not allowed on this server.");
+            return;
+        }
+
+        final byte[] bytes = SchematicTransferManager.receiveFromPlayer(player, message.md5, message.index, message.count, message.data);
+        if (bytes == null)
+        {
+            if (message.index == message.count - 1)
+            {
+                player.sendMessage(new TextComponentString("Failed to send the Schematic!"));
+            }
+        }
+        else if (Structures.handleSaveSchematicMessage(bytes))
+        {
+            player.sendMessage(new TextComponentString("Schematic successfully sent!"));
+        }
+        else
+        {
+            player.sendMessage(new TextComponentString("Failed to send the Schematic!"));
+        }
+    }
+}
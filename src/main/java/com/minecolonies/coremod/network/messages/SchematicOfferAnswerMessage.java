@@ -0,0 +1,63 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.coremod.network.SchematicTransferManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Answer of the server to a {@link SchematicOfferMessage}.
+ */
+public class SchematicOfferAnswerMessage implements IMessage, IMessageHandler<SchematicOfferAnswerMessage, IMessage>
+{
+    private String md5;
+    private int    startChunk;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SchematicOfferAnswerMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a schematic offer answer message.
+     *
+     * @param md5        the md5 hash of the offered schematic.
+     * @param startChunk the first chunk the server needs, {@link SchematicTransferManager#ALREADY_CACHED}
+     *                   or {@link SchematicTransferManager#REJECTED}.
+     */
+    public SchematicOfferAnswerMessage(@NotNull final String md5, final int startChunk)
+    {
+        super();
+        this.md5 = md5;
+        this.startChunk = startChunk;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        md5 = ByteBufUtils.readUTF8String(buf);
+        startChunk = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        ByteBufUtils.writeUTF8String(buf, md5);
+        buf.writeInt(startChunk);
+    }
+
+    @Nullable
+    @Override
+    public IMessage onMessage(@NotNull final SchematicOfferAnswerMessage message, final MessageContext ctx)
+    {
+        SchematicTransferManager.handleOfferAnswer(message.md5, message.startChunk);
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.StructureName;
+import com.minecolonies.coremod.colony.Structures;
+import com.minecolonies.coremod.network.SchematicTransferManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Offer a schematic to the server before streaming it.
+ * The server answers with the chunk to start from, or tells the client that it already has it.
+ */
+public class SchematicOfferMessage extends AbstractMessage<SchematicOfferMessage, IMessage>
+{
+    private String md5;
+    private int    count;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public SchematicOfferMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates a schematic offer message.
+     *
+     * @param md5   the md5 hash of the schematic.
+     * @param count the amount of chunks the schematic will be sent in.
+     */
+    public SchematicOfferMessage(@NotNull final String md5, final int count)
+    {
+        super();
+        this.md5 = md5;
+        this.count = count;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        md5 = ByteBufUtils.readUTF8String(buf);
+        count = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        ByteBufUtils.writeUTF8String(buf, md5);
+        buf.writeInt(count);
+    }
+
+    @Override
+    public void messageOnServerThread(final SchematicOfferMessage message, final EntityPlayerMP player)
+    {
+        if (!MineColonies.isClient() && !Configurations.gameplay.allowPlayerSchematics)
+        {
+            Log.getLogger().info("SchematicOfferMessage: custom schematic is not allowed on this server.");
+            player.sendMessage(new TextComponentString("The server does not allow custom schematic!"));
+            return;
+        }
+
+        if (message.count <= 0 || message.count > SchematicTransferManager.MAX_CHUNKS)
+        {
+            Log.getLogger().warn("SchematicOfferMessage: player " + player.getName() + " offered a schematic of " + message.count + " chunks");
+            return;
+        }
+
+        final int startChunk;
+        if (Structures.hasMD5(new StructureName(Structures.SCHEMATICS_CACHE + Structures.SCHEMATICS_SEPARATOR + message.md5)))
+        {
+            startChunk = SchematicTransferManager.ALREADY_CACHED;
+        }
+        else
+        {
+            startChunk = SchematicTransferManager.acceptOffer(player, message.md5, message.count);
+        }
+        MineColonies.getNetwork().sendTo(new SchematicOfferAnswerMessage(message.md5, startChunk), player);
+    }
+}
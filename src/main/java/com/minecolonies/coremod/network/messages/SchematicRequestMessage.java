@@ -1,13 +1,14 @@
 package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.SchematicTransferManager;
 import com.minecolonies.structures.helpers.Structure;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.InputStream;
 
@@ -22,6 +23,16 @@ public class SchematicRequestMessage extends AbstractMessage<SchematicRequestMes
 
     private String filename;
 
+    /**
+     * The md5 hash the client expects, used to resume an interrupted transfer.
+     */
+    private String md5;
+
+    /**
+     * The first chunk the client is missing.
+     */
+    private int resumeChunk;
+
     /**
      * Empty constructor used when registering the message.
      */
@@ -35,23 +46,30 @@ public class SchematicRequestMessage extends AbstractMessage<SchematicRequestMes
      *
      * @param filename of the structure based on schematics folder
      *                 Ex: schematics/stone/Builder1.nbt
+     * @param md5      the md5 hash the client expects, or null if unknown.
      */
-    public SchematicRequestMessage(final String filename)
+    public SchematicRequestMessage(final String filename, @Nullable final String md5)
     {
         super();
         this.filename = filename;
+        this.md5 = md5 == null ? "" : md5;
+        this.resumeChunk = SchematicTransferManager.getResumeIndex(md5);
     }
 
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
         filename = ByteBufUtils.readUTF8String(buf);
+        md5 = ByteBufUtils.readUTF8String(buf);
+        resumeChunk = buf.readInt();
     }
 
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
         ByteBufUtils.writeUTF8String(buf, filename);
+        ByteBufUtils.writeUTF8String(buf, md5);
+        buf.writeInt(resumeChunk);
     }
 
     @Override
@@ -67,7 +85,16 @@ public class SchematicRequestMessage extends AbstractMessage<SchematicRequestMes
         {
             Log.getLogger().info("Request: player " + player.getName() + " is requesting schematic " + message.filename);
             final byte[] schematic = Structure.getStreamAsByteArray(stream);
-            MineColonies.getNetwork().sendTo(new SchematicSaveMessage(schematic), player);
+            final String schematicMD5 = Structure.calculateMD5(schematic);
+            final byte[] compressed = Structure.compress(schematic);
+            if (schematicMD5 == null || compressed == null)
+            {
+                Log.getLogger().error("SchematicRequestMessage: could not prepare \"" + message.filename + "\" for transfer");
+                return;
+            }
+
+            final int startChunk = schematicMD5.equals(message.md5) ? message.resumeChunk : 0;
+            SchematicTransferManager.queueToPlayer(player, schematicMD5, compressed, startChunk);
         }
     }
 }
@@ -6,6 +6,7 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.entity.ai.citizen.farmer.FieldModel;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
@@ -117,6 +118,12 @@ public class ScarecrowTileEntity extends TileEntityChest
      */
     private final IItemHandlerModifiable inventory = new ItemStackHandler(1);
 
+    /**
+     * The state of the blocks of the field, created when the farmer first works on it.
+     */
+    @Nullable
+    private FieldModel fieldModel;
+
     /**
      * Creates an instance of the tileEntity.
      */
@@ -173,9 +180,37 @@ public class ScarecrowTileEntity extends TileEntityChest
         this.lengthMinusX = searchNextBlock(0, position.west(), EnumFacing.WEST, world);
         this.widthPlusZ = searchNextBlock(0, position.south(), EnumFacing.SOUTH, world);
         this.widthMinusZ = searchNextBlock(0, position.north(), EnumFacing.NORTH, world);
+        releaseFieldModel();
         markDirty();
     }
 
+    /**
+     * Get the state of the blocks of the field.
+     *
+     * @return the model, following the block updates of the field.
+     */
+    @NotNull
+    public FieldModel getFieldModel()
+    {
+        if (fieldModel == null)
+        {
+            fieldModel = new FieldModel(getWorld(), this);
+        }
+        return fieldModel;
+    }
+
+    /**
+     * Drop the model of the field, when its size changes or the field is removed.
+     */
+    private void releaseFieldModel()
+    {
+        if (fieldModel != null)
+        {
+            fieldModel.release();
+            fieldModel = null;
+        }
+    }
+
     /**
      * Calculates the field size into a specific direction.
      *
@@ -487,6 +522,17 @@ public class ScarecrowTileEntity extends TileEntityChest
         }
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        releaseFieldModel();
+        if (colony != null && !getWorld().isRemote)
+        {
+            colony.getBuildingManager().markForValidation(pos);
+        }
+    }
+
     @Override
     public void readFromNBT(final NBTTagCompound compound)
     {
@@ -511,6 +557,7 @@ public class ScarecrowTileEntity extends TileEntityChest
         widthPlusZ = compound.getInteger(TAG_WIDTH_PLUS);
         lengthMinusX = compound.getInteger(TAG_LENGTH_MINUS);
         widthMinusZ = compound.getInteger(TAG_WIDTH_MINUS);
+        releaseFieldModel();
         ownerId = compound.getInteger(TAG_OWNER);
         name = compound.getString(TAG_NAME);
         setOwner(ownerId);
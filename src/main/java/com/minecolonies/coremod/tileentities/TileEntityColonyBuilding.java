@@ -246,6 +246,16 @@ public class TileEntityColonyBuilding extends TileEntityChest
         }
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        if (getWorld() != null && !getWorld().isRemote && getColony() != null)
+        {
+            getColony().getBuildingManager().markForValidation(getPosition());
+        }
+    }
+
     /**
      * Returns the building associated with the tile entity.
      *
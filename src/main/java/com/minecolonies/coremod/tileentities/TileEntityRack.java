@@ -24,6 +24,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -53,6 +54,21 @@ public class TileEntityRack extends TileEntity
      */
     private static final String TAG_MAIN = "main";
 
+    /**
+     * Tag used to store the changed slots in the update packet.
+     */
+    private static final String TAG_DELTA = "delta";
+
+    /**
+     * Tag used to store the slot index of a changed slot.
+     */
+    private static final String TAG_SLOT = "slot";
+
+    /**
+     * Tag used to mark an update packet as full snapshot.
+     */
+    private static final String TAG_FULL = "full";
+
     /**
      * Tag compound of forge.
      */
@@ -89,6 +105,14 @@ public class TileEntityRack extends TileEntity
      * 1 = 1*9 additional slots, and so on.
      */
     private int size = 0;
+    /**
+     * Slots which changed since the last update packet.
+     */
+    private final BitSet changedSlots = new BitSet();
+    /**
+     * Whether the next update packet has to contain the whole inventory.
+     */
+    private boolean fullSync = true;
     /**
      * The inventory of the tileEntity.
      */
@@ -97,6 +121,7 @@ public class TileEntityRack extends TileEntity
         @Override
         protected void onContentsChanged(final int slot)
         {
+            changedSlots.set(slot);
             updateItemStorage();
             super.onContentsChanged(slot);
         }
@@ -196,24 +221,37 @@ public class TileEntityRack extends TileEntity
     public void upgradeItemStorage()
     {
         ++size;
-        final IItemHandlerModifiable tempInventory = new ItemStackHandler(DEFAULT_SIZE + size * SLOT_PER_LINE)
+        resizeInventory(DEFAULT_SIZE + size * SLOT_PER_LINE);
+        final IBlockState state = world.getBlockState(pos);
+        world.notifyBlockUpdate(pos, state, state, 0x03);
+    }
+
+    /**
+     * Replace the inventory by one of a different size, keeping the content of the existing slots.
+     * The next update packet will contain the whole inventory.
+     *
+     * @param slots the new amount of slots.
+     */
+    private void resizeInventory(final int slots)
+    {
+        final IItemHandlerModifiable tempInventory = new ItemStackHandler(slots)
         {
             @Override
             protected void onContentsChanged(final int slot)
             {
+                changedSlots.set(slot);
                 updateItemStorage();
                 super.onContentsChanged(slot);
             }
         };
 
-        for (int slot = 0; slot < inventory.getSlots(); slot++)
+        for (int slot = 0; slot < Math.min(slots, inventory.getSlots()); slot++)
         {
             tempInventory.setStackInSlot(slot, inventory.getStackInSlot(slot));
         }
 
         inventory = tempInventory;
-        final IBlockState state = world.getBlockState(pos);
-        world.notifyBlockUpdate(pos, state, state, 0x03);
+        fullSync = true;
     }
 
     /* Get the amount of items matching a predicate in the inventory.
@@ -417,15 +455,7 @@ public class TileEntityRack extends TileEntity
             size = compound.getInteger(TAG_SIZE);
             if (size > 0)
             {
-                inventory = new ItemStackHandler(DEFAULT_SIZE + size * SLOT_PER_LINE)
-                {
-                    @Override
-                    protected void onContentsChanged(final int slot)
-                    {
-                        updateItemStorage();
-                        super.onContentsChanged(slot);
-                    }
-                };
+                resizeInventory(DEFAULT_SIZE + size * SLOT_PER_LINE);
             }
         }
 
@@ -479,30 +509,40 @@ public class TileEntityRack extends TileEntity
         return super.writeToNBT(compound);
     }
 
+    /**
+     * Writes only the slots which changed since the last packet, unless a full snapshot is required.
+     * The full snapshot on chunk load is handled by {@link #getUpdateTag()}.
+     */
     @Override
     public SPacketUpdateTileEntity getUpdatePacket()
     {
         final NBTTagCompound compound = new NBTTagCompound();
         compound.setInteger(TAG_SIZE, size);
         BlockPosUtil.writeToNBT(compound, TAG_NEIGHBOR, neighbor);
+        compound.setBoolean(TAG_MAIN, main);
+        compound.setBoolean(TAG_FULL, fullSync);
 
-        @NotNull final NBTTagList inventoryTagList = new NBTTagList();
-        for (int slot = 0; slot < inventory.getSlots(); slot++)
+        if (fullSync)
         {
-            @NotNull final NBTTagCompound inventoryCompound = new NBTTagCompound();
+            changedSlots.set(0, inventory.getSlots());
+        }
+
+        @NotNull final NBTTagList deltaTagList = new NBTTagList();
+        for (int slot = changedSlots.nextSetBit(0); slot >= 0 && slot < inventory.getSlots(); slot = changedSlots.nextSetBit(slot + 1))
+        {
+            @NotNull final NBTTagCompound slotCompound = new NBTTagCompound();
             final ItemStack stack = inventory.getStackInSlot(slot);
-            if (stack == ItemStack.EMPTY)
+            if (!ItemStackUtils.isEmpty(stack))
             {
-                new ItemStack(Blocks.AIR, 0).writeToNBT(inventoryCompound);
+                stack.writeToNBT(slotCompound);
             }
-            else
-            {
-                stack.writeToNBT(inventoryCompound);
-            }
-            inventoryTagList.appendTag(inventoryCompound);
+            slotCompound.setInteger(TAG_SLOT, slot);
+            deltaTagList.appendTag(slotCompound);
         }
-        compound.setTag(TAG_INVENTORY, inventoryTagList);
-        compound.setBoolean(TAG_MAIN, main);
+        compound.setTag(TAG_DELTA, deltaTagList);
+
+        changedSlots.clear();
+        fullSync = false;
         return new SPacketUpdateTileEntity(this.pos, 0, compound);
     }
 
@@ -518,39 +558,44 @@ public class TileEntityRack extends TileEntity
     {
         final NBTTagCompound compound = packet.getNbtCompound();
         size = compound.getInteger(TAG_SIZE);
-        if (compound.hasKey(TAG_SIZE))
+        final int slots = DEFAULT_SIZE + size * SLOT_PER_LINE;
+        if (slots != inventory.getSlots())
         {
-            size = compound.getInteger(TAG_SIZE);
-            if (size > 0)
-            {
-                inventory = new ItemStackHandler(DEFAULT_SIZE + size * SLOT_PER_LINE)
-                {
-                    @Override
-                    protected void onContentsChanged(final int slot)
-                    {
-                        updateItemStorage();
-                        super.onContentsChanged(slot);
-                    }
-                };
-            }
+            resizeInventory(slots);
         }
+
         neighbor = BlockPosUtil.readFromNBT(compound, TAG_NEIGHBOR);
         if (!neighbor.equals(BlockPos.ORIGIN))
         {
             single = false;
         }
-        final NBTTagList inventoryTagList = compound.getTagList(TAG_INVENTORY, TAG_COMPOUND);
-        for (int i = 0; i < inventoryTagList.tagCount(); ++i)
+
+        if (compound.getBoolean(TAG_FULL))
         {
-            final NBTTagCompound inventoryCompound = inventoryTagList.getCompoundTagAt(i);
-            final ItemStack stack = new ItemStack(inventoryCompound);
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                inventory.setStackInSlot(slot, ItemStackUtils.EMPTY);
+            }
+        }
+
+        final NBTTagList deltaTagList = compound.getTagList(TAG_DELTA, TAG_COMPOUND);
+        for (int i = 0; i < deltaTagList.tagCount(); ++i)
+        {
+            final NBTTagCompound slotCompound = deltaTagList.getCompoundTagAt(i);
+            final int slot = slotCompound.getInteger(TAG_SLOT);
+            if (slot < 0 || slot >= inventory.getSlots())
+            {
+                continue;
+            }
+
+            final ItemStack stack = new ItemStack(slotCompound);
             if (ItemStackUtils.getSize(stack) <= 0)
             {
-                inventory.setStackInSlot(i, ItemStackUtils.EMPTY);
+                inventory.setStackInSlot(slot, ItemStackUtils.EMPTY);
             }
             else
             {
-                inventory.setStackInSlot(i, stack);
+                inventory.setStackInSlot(slot, stack);
             }
         }
         main = compound.getBoolean(TAG_MAIN);
@@ -0,0 +1,177 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.coremod.blocks.BlockMinecoloniesRack;
+import com.minecolonies.coremod.blocks.BlockSolidSubstitution;
+import com.minecolonies.coremod.blocks.BlockWaypoint;
+import com.minecolonies.coremod.colony.ColonyManagerWorldAccess;
+import net.minecraft.block.*;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.network.play.server.SPacketChunkData;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes many blocks at once directly into the chunk sections of a server world.
+ * <p>
+ * No neighbour is notified and no light is updated while writing, only the colony hooks following block changes
+ * are told about each written block. When done, each affected chunk gets its sky light
+ * regenerated and its light checks queued, the light sources are checked, and the changed sections are sent to the
+ * players watching the chunk in one packet.
+ * <p>
+ * Only plain blocks can be written this way, blocks with tile entities or with a special placement handler
+ * have to be placed through the world. The same goes for replacing a block with a tile entity, so that its
+ * contents are handled by the block when it is broken.
+ */
+public class BulkBlockWriter
+{
+    /**
+     * The world to write in.
+     */
+    private final WorldServer world;
+
+    /**
+     * Bitmask of the changed sections, per chunk.
+     */
+    private final Map<ChunkPos, Integer> changedSections = new HashMap<>();
+
+    /**
+     * Positions where the light emitted changed.
+     */
+    private final List<BlockPos> lightChanges = new ArrayList<>();
+
+    /**
+     * Create a writer for a world.
+     *
+     * @param world the server world.
+     */
+    public BulkBlockWriter(@NotNull final WorldServer world)
+    {
+        this.world = world;
+    }
+
+    /**
+     * Check if a block can be written directly into the chunk.
+     *
+     * @param state the block to write.
+     * @return true if it has no tile entity and no special placement handler.
+     */
+    public static boolean canWriteDirectly(@NotNull final IBlockState state)
+    {
+        final Block block = state.getBlock();
+        return !block.hasTileEntity(state)
+                 && !(block instanceof BlockFire
+                        || block instanceof BlockDoor
+                        || block instanceof BlockBed
+                        || block instanceof BlockDoublePlant
+                        || block instanceof BlockFlowerPot
+                        || block instanceof BlockGrassPath
+                        || block instanceof BlockStairs
+                        || block instanceof BlockSolidSubstitution
+                        || block instanceof BlockWaypoint
+                        || block instanceof BlockChest
+                        || block instanceof BlockMinecoloniesRack);
+    }
+
+    /**
+     * Check if the block at a position can be replaced directly in the chunk.
+     *
+     * @param pos the position.
+     * @return true if the block there has no tile entity.
+     */
+    public boolean canReplaceDirectly(@NotNull final BlockPos pos)
+    {
+        final IBlockState oldState = world.getBlockState(pos);
+        return !oldState.getBlock().hasTileEntity(oldState);
+    }
+
+    /**
+     * Write a block, the block must be accepted by {@link #canWriteDirectly(IBlockState)}
+     * and the position by {@link #canReplaceDirectly(BlockPos)}, else nothing is written.
+     *
+     * @param pos   the position.
+     * @param state the block.
+     * @return true if the block changed.
+     */
+    public boolean write(@NotNull final BlockPos pos, @NotNull final IBlockState state)
+    {
+        if (world.isOutsideBuildHeight(pos))
+        {
+            return false;
+        }
+
+        final Chunk chunk = world.getChunkFromBlockCoords(pos);
+        final IBlockState oldState = chunk.getBlockState(pos);
+        if (oldState == state)
+        {
+            return false;
+        }
+
+        if (oldState.getBlock().hasTileEntity(oldState))
+        {
+            return false;
+        }
+
+        final int section = pos.getY() >> 4;
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[section];
+        if (storage == Chunk.NULL_BLOCK_STORAGE)
+        {
+            if (state.getBlock() == Blocks.AIR)
+            {
+                return false;
+            }
+            storage = new ExtendedBlockStorage(section << 4, world.provider.hasSkyLight());
+            chunk.getBlockStorageArray()[section] = storage;
+        }
+        storage.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, state);
+
+        if (oldState.getLightValue(world, pos) != state.getLightValue(world, pos))
+        {
+            lightChanges.add(pos.toImmutable());
+        }
+        changedSections.merge(chunk.getPos(), 1 << section, (a, b) -> a | b);
+        ColonyManagerWorldAccess.onBlockChanged(world, pos, oldState, state);
+        return true;
+    }
+
+    /**
+     * Relight the affected chunks and send them to the players.
+     */
+    public void flush()
+    {
+        for (final Map.Entry<ChunkPos, Integer> entry : changedSections.entrySet())
+        {
+            final Chunk chunk = world.getChunkFromChunkCoords(entry.getKey().x, entry.getKey().z);
+            chunk.generateSkylightMap();
+            chunk.resetRelightChecks();
+            chunk.markDirty();
+        }
+
+        for (final BlockPos pos : lightChanges)
+        {
+            world.checkLight(pos);
+        }
+
+        for (final Map.Entry<ChunkPos, Integer> entry : changedSections.entrySet())
+        {
+            final PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry(entry.getKey().x, entry.getKey().z);
+            if (watchers != null && watchers.isSentToPlayers())
+            {
+                watchers.sendPacket(new SPacketChunkData(world.getChunkFromChunkCoords(entry.getKey().x, entry.getKey().z), entry.getValue()));
+            }
+        }
+
+        changedSections.clear();
+        lightChanges.clear();
+    }
+}
@@ -26,6 +26,7 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -81,12 +82,13 @@ public final class StructureWrapper
 
     /**
      * Create a new StructureProxy.
+     * The structure may be shared with other wrappers as long as it is not rotated anymore.
      *
      * @param worldObj  the world to show it in
      * @param structure the structure it comes from
      * @param name      the name this structure has
      */
-    private StructureWrapper(final World worldObj, final StructureProxy structure, final String name)
+    public StructureWrapper(final World worldObj, final StructureProxy structure, final String name)
     {
         world = worldObj;
         this.structure = structure;
@@ -136,6 +138,9 @@ public final class StructureWrapper
 
     /**
      * Place a structure into the world.
+     * <p>
+     * On a server world the plain blocks are written directly into the chunks, see {@link BulkBlockWriter}.
+     * The other blocks go through the placement handlers, solid blocks first.
      *
      * @param pos      coordinates
      * @param complete paste it complete (with structure blocks) or without
@@ -145,8 +150,8 @@ public final class StructureWrapper
         setLocalPosition(pos);
 
         @NotNull final List<BlockPos> delayedBlocks = new ArrayList<>();
+        @Nullable final BulkBlockWriter writer = world instanceof WorldServer ? new BulkBlockWriter((WorldServer) world) : null;
 
-        //structure.getBlockInfo()[0].pos
         for (int j = 0; j < structure.getHeight(); j++)
         {
             for (int k = 0; k < structure.getLength(); k++)
@@ -155,6 +160,10 @@ public final class StructureWrapper
                 {
                     @NotNull final BlockPos localPos = new BlockPos(i, j, k);
                     final IBlockState localState = this.structure.getBlockState(localPos);
+                    if (localState == null)
+                    {
+                        continue;
+                    }
                     final Block localBlock = localState.getBlock();
 
                     final BlockPos worldPos = pos.add(localPos);
@@ -164,6 +173,13 @@ public final class StructureWrapper
                         continue;
                     }
 
+                    final NBTTagCompound tileEntityData = this.structure.getTileEntityData(localPos);
+                    if (writer != null && tileEntityData == null && BulkBlockWriter.canWriteDirectly(localState) && writer.canReplaceDirectly(worldPos))
+                    {
+                        writer.write(worldPos, localState);
+                        continue;
+                    }
+
                     if (localState.getMaterial().isSolid())
                     {
                         handleBlockPlacement(worldPos, localState, complete);
@@ -174,56 +190,56 @@ public final class StructureWrapper
                         continue;
                     }
 
-                    final NBTTagCompound tileEntityData = this.structure.getBlockInfo(localPos).tileentityData;
-                    if (tileEntityData != null)
-                    {
-                        final TileEntity entity = TileEntity.create(world, tileEntityData);
-                        world.setTileEntity(worldPos, entity);
-                        world.markBlockRangeForRenderUpdate(worldPos, worldPos);
-                    }
+                    placeTileEntity(worldPos, tileEntityData, writer == null);
                 }
             }
         }
 
+        if (writer != null)
+        {
+            writer.flush();
+        }
+
         for (@NotNull final BlockPos coords : delayedBlocks)
         {
             final IBlockState localState = this.structure.getBlockState(coords);
             final BlockPos newWorldPos = pos.add(coords);
 
             handleBlockPlacement(newWorldPos, localState, complete);
+            placeTileEntity(newWorldPos, this.structure.getTileEntityData(coords), writer == null);
+        }
 
-            final NBTTagCompound tileEntityData = this.structure.getBlockInfo(coords).tileentityData;
-            if (tileEntityData != null)
+        for (final Template.EntityInfo info : this.structure.getEntityInfos())
+        {
+            try
             {
-                final TileEntity entity = TileEntity.create(world, tileEntityData);
-                world.setTileEntity(newWorldPos, entity);
-                world.markBlockRangeForRenderUpdate(newWorldPos, newWorldPos);
+                final Entity entity = EntityList.createEntityFromNBT(info.entityData, world);
+                entity.setUniqueId(UUID.randomUUID());
+                world.spawnEntity(entity);
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().info("Couldn't restore entitiy", e);
             }
         }
+    }
 
-        for (int j = 0; j < structure.getHeight(); j++)
+    /**
+     * Create the tile entity of a placed block.
+     *
+     * @param worldPos       the position in the world.
+     * @param tileEntityData the data of the tile entity, null if it has none.
+     * @param renderUpdate   if the block has to be marked for a render update.
+     */
+    private void placeTileEntity(@NotNull final BlockPos worldPos, @Nullable final NBTTagCompound tileEntityData, final boolean renderUpdate)
+    {
+        if (tileEntityData != null)
         {
-            for (int k = 0; k < structure.getLength(); k++)
+            final TileEntity entity = TileEntity.create(world, tileEntityData);
+            world.setTileEntity(worldPos, entity);
+            if (renderUpdate)
             {
-                for (int i = 0; i < structure.getWidth(); i++)
-                {
-                    @NotNull final BlockPos localPos = new BlockPos(i, j, k);
-                    final Template.EntityInfo info = this.structure.getEntityinfo(localPos);
-
-                    if (info != null)
-                    {
-                        try
-                        {
-                            final Entity entity = EntityList.createEntityFromNBT(info.entityData, world);
-                            entity.setUniqueId(UUID.randomUUID());
-                            world.spawnEntity(entity);
-                        }
-                        catch (final RuntimeException e)
-                        {
-                            Log.getLogger().info("Couldn't restore entitiy", e);
-                        }
-                    }
-                }
+                world.markBlockRangeForRenderUpdate(worldPos, worldPos);
             }
         }
     }
@@ -379,7 +395,18 @@ public final class StructureWrapper
      */
     public boolean isStructureBlockEqualWorldBlock()
     {
-        final IBlockState structureBlockState = structure.getBlockState(this.getLocalPosition());
+        return isStructureBlockEqualWorldBlock(this.getLocalPosition());
+    }
+
+    /**
+     * Checks if the block in the world is the same as what is in the structure at a position.
+     *
+     * @param localPos the position in the structure.
+     * @return true if the structure block equals the world block.
+     */
+    public boolean isStructureBlockEqualWorldBlock(@NotNull final BlockPos localPos)
+    {
+        final IBlockState structureBlockState = structure.getBlockState(localPos);
         final Block structureBlock = structureBlockState.getBlock();
 
         //All worldBlocks are equal the substitution block
@@ -388,7 +415,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final BlockPos worldPos = this.getBlockPosition();
+        final BlockPos worldPos = localPos.add(getOffsetPosition());
 
         final IBlockState worldBlockState = world.getBlockState(worldPos);
 
@@ -416,7 +443,7 @@ public final class StructureWrapper
             return true;
         }
 
-        final Template.EntityInfo entityInfo = structure.getEntityinfo(this.getLocalPosition());
+        final Template.EntityInfo entityInfo = structure.getEntityinfo(localPos);
         if (entityInfo != null)
         {
             return false;
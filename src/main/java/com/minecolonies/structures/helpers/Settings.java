@@ -128,6 +128,10 @@ public final class Settings
         }
         else
         {
+            if (this.structure != null && this.structure != structure)
+            {
+                this.structure.deletePreview();
+            }
             this.structure = structure;
         }
     }
@@ -137,6 +141,10 @@ public final class Settings
      */
     public void reset()
     {
+        if (structure != null)
+        {
+            structure.deletePreview();
+        }
         structure = null;
         isPendingReset = false;
         offset.setPos(0, 0, 0);
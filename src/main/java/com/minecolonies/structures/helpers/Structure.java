@@ -11,6 +11,7 @@ import com.minecolonies.coremod.colony.StructureName;
 import com.minecolonies.coremod.colony.Structures;
 import com.minecolonies.structures.fake.FakeWorld;
 import com.minecolonies.structures.lib.ModelHolder;
+import com.minecolonies.structures.lib.PreviewMesh;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.Minecraft;
@@ -25,14 +26,10 @@ import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.*;
-import net.minecraft.util.datafix.DataFixer;
-import net.minecraft.util.datafix.DataFixesManager;
-import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
@@ -52,7 +49,9 @@ import java.io.*;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
@@ -89,19 +88,16 @@ public class Structure
     private static final int BUFFER_SIZE = 1024;
 
     /**
-     * Required Datafixer
+     * Baked preview being drawn.
      */
-    private final DataFixer fixer;
-
-    /**
-     * List of models.
-     */
-    private final List<ModelHolder> modelList = new ArrayList<>();
+    @Nullable
+    private PreviewMesh previewMesh;
 
     /**
-     * The last starting position.
+     * Baked preview for a new rotation, mirror or position, drawn once it is ready.
      */
-    private BlockPos lastStartingPos = BlockPos.ORIGIN;
+    @Nullable
+    private PreviewMesh pendingMesh;
 
     /**
      * Template of the structure.
@@ -126,7 +122,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
 
         InputStream inputStream = null;
         try
@@ -153,15 +148,14 @@ public class Structure
                 return;
             }
 
-            try
+            final TemplateCache.CachedTemplate cached = TemplateCache.load(inputStream);
+            if (cached == null)
             {
-                this.md5 = Structure.calculateMD5(Structure.getStream(correctStructureName));
-                this.template = readTemplateFromStream(inputStream, fixer);
-            }
-            catch (final IOException e)
-            {
-                Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName), e);
+                Log.getLogger().warn(String.format("Failed to load template %s", correctStructureName));
+                return;
             }
+            this.md5 = cached.getMD5();
+            this.template = cached.getTemplate();
         }
         finally
         {
@@ -239,23 +233,6 @@ public class Structure
         return calculateMD5(getStreamAsByteArray(stream));
     }
 
-    /**
-     * Reads a template from an inputstream.
-     */
-    private static Template readTemplateFromStream(final InputStream stream, final DataFixer fixer) throws IOException
-    {
-        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(stream);
-
-        if (!nbttagcompound.hasKey("DataVersion", 99))
-        {
-            nbttagcompound.setInteger("DataVersion", 500);
-        }
-
-        final Template template = new Template();
-        template.read(fixer.process(FixTypes.STRUCTURE, nbttagcompound));
-        return template;
-    }
-
     /**
      * get a input stream for a schematic within a specif folder.
      *
@@ -408,7 +385,6 @@ public class Structure
             this.settings = settings;
             this.mc = Minecraft.getMinecraft();
         }
-        this.fixer = DataFixesManager.createFixer();
     }
 
     public static byte[] compress(final byte[] data)
@@ -456,6 +432,17 @@ public class Structure
         return this.template;
     }
 
+    /**
+     * Get the md5 hash of the schematic of this structure.
+     *
+     * @return the md5 hash or null if it could not be loaded.
+     */
+    @Nullable
+    public String getMD5()
+    {
+        return md5;
+    }
+
     /**
      * Compare the md5 from the structure with an other md5 hash.
      *
@@ -539,73 +526,127 @@ public class Structure
      */
     public void renderStructure(@NotNull final BlockPos startingPos, @NotNull final World clientWorld, @NotNull final EntityPlayer player, final float partialTicks)
     {
-        final Entity[] entityList = this.getEntityInfoWithSettings(clientWorld, startingPos, this.settings);
+        final String key = md5 + ":" + settings.getRotation() + ":" + settings.getMirror() + ":" + startingPos.toLong();
+        if ((pendingMesh == null || !pendingMesh.getKey().equals(key)) && (previewMesh == null || !previewMesh.getKey().equals(key)))
+        {
+            if (pendingMesh != null)
+            {
+                pendingMesh.delete();
+            }
+            pendingMesh = createPreviewMesh(key, startingPos, clientWorld);
+        }
+
+        if (pendingMesh != null && pendingMesh.isReady())
+        {
+            if (previewMesh != null)
+            {
+                previewMesh.delete();
+            }
+            previewMesh = pendingMesh;
+            pendingMesh = null;
+        }
 
-        if (!lastStartingPos.equals(startingPos))
+        if (previewMesh != null)
         {
-            modelList.clear();
+            previewMesh.render(player, partialTicks);
         }
+    }
 
-        if (modelList.isEmpty())
+    /**
+     * Free the baked previews of the structure, on the render thread.
+     */
+    public void deletePreview()
+    {
+        if (previewMesh != null)
         {
-            lastStartingPos = startingPos;
-            final Template.BlockInfo[] blockList = this.getBlockInfoWithSettings(this.settings);
+            previewMesh.delete();
+            previewMesh = null;
+        }
+        if (pendingMesh != null)
+        {
+            pendingMesh.delete();
+            pendingMesh = null;
+        }
+    }
 
-            final FakeWorld fakeWorld = new FakeWorld(null, clientWorld.getSaveHandler(), clientWorld.getWorldInfo(), clientWorld.provider, clientWorld.profiler, true, null, true);
+    /**
+     * Collect the models, tile entities and entities of the structure and start baking its preview.
+     *
+     * @param key         what the preview is for.
+     * @param startingPos the start pos to render.
+     * @param clientWorld the world of the client.
+     * @return the preview, baking.
+     */
+    private PreviewMesh createPreviewMesh(@NotNull final String key, @NotNull final BlockPos startingPos, @NotNull final World clientWorld)
+    {
+        final Template.BlockInfo[] blockList = this.getBlockInfoWithSettings(this.settings);
+        final FakeWorld fakeWorld = new FakeWorld(null, clientWorld.getSaveHandler(), clientWorld.getWorldInfo(), clientWorld.provider, clientWorld.profiler, true, null, true);
 
-            for (final Template.BlockInfo aBlockList : blockList)
+        for (final Template.BlockInfo aBlockList : blockList)
+        {
+            final IBlockState iblockstate = aBlockList.blockState;
+            fakeWorld.setBlockState(aBlockList.pos, iblockstate);
+            final Block block = iblockstate.getBlock();
+            TileEntity tileentity = null;
+            if (block.hasTileEntity(aBlockList.blockState) && aBlockList.tileentityData != null)
             {
-                final IBlockState iblockstate = aBlockList.blockState;
-                fakeWorld.setBlockState(aBlockList.pos, iblockstate);
-                final Block block = iblockstate.getBlock();
-                TileEntity tileentity = null;
-                if (block.hasTileEntity(aBlockList.blockState) && aBlockList.tileentityData != null)
-                {
-                    tileentity = block.createTileEntity(clientWorld, iblockstate);
-                    tileentity.readFromNBT(aBlockList.tileentityData);
-                }
-                fakeWorld.setTileEntity(aBlockList.pos, tileentity);
+                tileentity = block.createTileEntity(clientWorld, iblockstate);
+                tileentity.readFromNBT(aBlockList.tileentityData);
             }
+            fakeWorld.setTileEntity(aBlockList.pos, tileentity);
+        }
 
-            for (final Template.BlockInfo aBlockList : blockList)
-            {
-                IBlockState iblockstate = aBlockList.blockState;
-                Block block = iblockstate.getBlock();
-                iblockstate = aBlockList.blockState.getBlock().getActualState(aBlockList.blockState, fakeWorld, aBlockList.pos);
+        final List<ModelHolder> holders = new ArrayList<>();
+        final Set<BlockPos> occupied = new HashSet<>();
+        final List<TileEntity> tileEntities = new ArrayList<>();
+        for (final Template.BlockInfo aBlockList : blockList)
+        {
+            IBlockState iblockstate = aBlockList.blockState;
+            Block block = iblockstate.getBlock();
+            iblockstate = aBlockList.blockState.getBlock().getActualState(aBlockList.blockState, fakeWorld, aBlockList.pos);
 
-                if (block == ModBlocks.blockSubstitution)
-                {
-                    continue;
-                }
+            if (block == ModBlocks.blockSubstitution)
+            {
+                continue;
+            }
 
-                if (block == ModBlocks.blockSolidSubstitution)
-                {
-                    iblockstate = BlockUtils.getSubstitutionBlockAtWorld(clientWorld, startingPos);
-                    block = iblockstate.getBlock();
-                }
+            if (block == ModBlocks.blockSolidSubstitution)
+            {
+                iblockstate = BlockUtils.getSubstitutionBlockAtWorld(clientWorld, startingPos);
+                block = iblockstate.getBlock();
+            }
 
-                final BlockPos blockpos = aBlockList.pos.add(startingPos);
-                final IBlockState iBlockExtendedState = block.getExtendedState(iblockstate, clientWorld, blockpos);
-                final IBakedModel ibakedmodel = Minecraft.getMinecraft().getBlockRendererDispatcher().getModelForState(iblockstate);
+            final BlockPos blockpos = aBlockList.pos.add(startingPos);
+            final IBlockState iBlockExtendedState = block.getExtendedState(iblockstate, clientWorld, blockpos);
+            final IBakedModel ibakedmodel = Minecraft.getMinecraft().getBlockRendererDispatcher().getModelForState(iblockstate);
+            final TileEntity te = fakeWorld.getTileEntity(aBlockList.pos);
 
-                final ModelHolder models = new ModelHolder(blockpos, iblockstate, iBlockExtendedState, fakeWorld.getTileEntity(aBlockList.pos), ibakedmodel);
-                modelList.add(models);
+            holders.add(new ModelHolder(blockpos, iblockstate, iBlockExtendedState, te, ibakedmodel));
+            if (!clientWorld.isAirBlock(blockpos))
+            {
+                occupied.add(blockpos);
             }
-        }
 
-        for (final ModelHolder models : modelList)
-        {
-            getQuads(models, models.quads);
-            this.renderGhost(clientWorld, models, player, partialTicks, true);
+            //Only blocks without a model render their tile entity, each one in its own fake world.
+            if (te != null && iblockstate.getRenderType() != EnumBlockRenderType.MODEL)
+            {
+                te.setPos(blockpos);
+                te.setWorld(new FakeWorld(iblockstate, clientWorld.getSaveHandler(), clientWorld.getWorldInfo(), clientWorld.provider, clientWorld.profiler, true, te, true));
+                tileEntities.add(te);
+            }
         }
 
-        for (final Entity anEntityList : entityList)
+        final List<Entity> entities = new ArrayList<>();
+        for (final Entity entity : this.getEntityInfoWithSettings(clientWorld, startingPos, this.settings))
         {
-            if (anEntityList != null)
+            if (entity != null)
             {
-                Minecraft.getMinecraft().getRenderManager().renderEntityStatic(anEntityList, 0.0F, true);
+                entities.add(entity);
             }
         }
+
+        return new PreviewMesh(key, startingPos, holders, occupied, entities, tileEntities,
+          (state, pos, tintIndex) -> Minecraft.getMinecraft().getBlockColors().colorMultiplier(state, clientWorld, pos, tintIndex));
     }
 
     /**
@@ -3,6 +3,7 @@ package com.minecolonies.structures.helpers;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.blocks.AbstractBlockHut;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Mirror;
 import net.minecraft.util.Rotation;
 import net.minecraft.util.math.BlockPos;
@@ -12,20 +13,56 @@ import net.minecraft.world.gen.structure.template.Template;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Proxy class translating the structures method to something we can use.
+ * <p>
+ * The blocks are stored as indexes into a palette of block states, packed in a long array with as few bits as the palette needs.
+ * Tile entity data and entities are stored sparsely, by index. Rotation and mirroring are not applied to the storage,
+ * positions are transformed back to the unrotated structure when they are looked up.
  */
 public class StructureProxy
 {
-    private final Structure                 structure;
-    private       Template.EntityInfo[][][] entities;
-    private       Template.BlockInfo[][][]  blocks;
-    private       int                       width;
-    private       int                       height;
-    private       int                       length;
-    private       BlockPos                  offset;
+    /**
+     * Palette index of positions without a block.
+     */
+    private static final int NO_BLOCK = 0;
+
+    /**
+     * Bits in a long.
+     */
+    private static final int BITS_PER_LONG = 64;
+
+    private final Structure                         structure;
+    private final List<IBlockState>                 palette        = new ArrayList<>();
+    private final Map<Integer, NBTTagCompound>      tileEntityData = new HashMap<>();
+    private       Map<Integer, Template.EntityInfo> entities       = new HashMap<>();
+    private       IBlockState[]                     transformedPalette;
+    private       long[]                            packedBlocks;
+    private       int                               bitsPerEntry;
+    private       int                               entriesPerLong;
+    private       int                               baseWidth;
+    private       int                               baseHeight;
+    private       int                               baseLength;
+    private       int                               minBlockX;
+    private       int                               maxBlockX;
+    private       int                               minBlockZ;
+    private       int                               maxBlockZ;
+    @Nullable
+    private       BlockPos                          hutPos;
+    private       Rotation                          rotation       = Rotation.NONE;
+    private       Mirror                            mirror         = Mirror.NONE;
+    private       BlockPos                          min            = BlockPos.ORIGIN;
+    private       int                               width;
+    private       int                               height;
+    private       int                               length;
+    private       BlockPos                          offset;
 
     /**
      * @param worldObj the world.
@@ -44,26 +81,57 @@ public class StructureProxy
         this.width = size.getX();
         this.height = size.getY();
         this.length = size.getZ();
+        this.baseWidth = width;
+        this.baseHeight = height;
+        this.baseLength = length;
+
+        final Template.BlockInfo[] blockInfos = structure.getBlockInfo();
+        final Map<IBlockState, Integer> paletteIndexes = new HashMap<>();
+        palette.add(null);
+        for (final Template.BlockInfo info : blockInfos)
+        {
+            if (!paletteIndexes.containsKey(info.blockState))
+            {
+                paletteIndexes.put(info.blockState, palette.size());
+                palette.add(info.blockState);
+            }
+        }
 
-        this.blocks = new Template.BlockInfo[width][height][length];
-        this.entities = new Template.EntityInfo[width][height][length];
+        bitsPerEntry = Math.max(1, Integer.SIZE - Integer.numberOfLeadingZeros(palette.size() - 1));
+        entriesPerLong = BITS_PER_LONG / bitsPerEntry;
+        packedBlocks = new long[(width * height * length + entriesPerLong - 1) / entriesPerLong];
+        minBlockX = width;
+        minBlockZ = length;
+        maxBlockX = 0;
+        maxBlockZ = 0;
 
-        for (final Template.BlockInfo info : structure.getBlockInfo())
+        for (final Template.BlockInfo info : blockInfos)
         {
             final BlockPos tempPos = info.pos;
-            blocks[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
-            entities[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = null;
+            final int index = getIndex(tempPos.getX(), tempPos.getY(), tempPos.getZ());
+            setPaletteIndex(index, paletteIndexes.get(info.blockState));
+            if (info.tileentityData != null)
+            {
+                tileEntityData.put(index, info.tileentityData);
+            }
+
+            minBlockX = Math.min(minBlockX, tempPos.getX());
+            maxBlockX = Math.max(maxBlockX, tempPos.getX());
+            minBlockZ = Math.min(minBlockZ, tempPos.getZ());
+            maxBlockZ = Math.max(maxBlockZ, tempPos.getZ());
 
             if (info.blockState.getBlock() instanceof AbstractBlockHut)
             {
-                offset = info.pos;
+                hutPos = info.pos;
             }
         }
+        offset = hutPos;
+        transformedPalette = palette.toArray(new IBlockState[palette.size()]);
 
         for (final Template.EntityInfo info : structure.getTileEntities())
         {
             final BlockPos tempPos = info.blockPos;
-            entities[tempPos.getX()][tempPos.getY()][tempPos.getZ()] = info;
+            entities.put(getIndex(tempPos.getX(), tempPos.getY(), tempPos.getZ()), info);
         }
     }
 
@@ -125,22 +193,47 @@ public class StructureProxy
      * Getter of the IBlockState at a certain position.
      *
      * @param pos the position.
-     * @return the blockState.
+     * @return the blockState, or null if the structure has no block there.
      */
+    @Nullable
     public IBlockState getBlockState(@NotNull final BlockPos pos)
     {
-        return blocks[pos.getX()][pos.getY()][pos.getZ()].blockState;
+        final int index = getBaseIndex(pos);
+        if (index < 0)
+        {
+            return null;
+        }
+        return transformedPalette[getPaletteIndex(index)];
     }
 
     /**
      * Getter of the BlockInfo at a certain position.
      *
      * @param pos the position.
-     * @return the blockState.
+     * @return the blockInfo, or null if the structure has no block there.
      */
+    @Nullable
     public Template.BlockInfo getBlockInfo(@NotNull final BlockPos pos)
     {
-        return blocks[pos.getX()][pos.getY()][pos.getZ()];
+        final int index = getBaseIndex(pos);
+        if (index < 0 || getPaletteIndex(index) == NO_BLOCK)
+        {
+            return null;
+        }
+        return new Template.BlockInfo(pos.subtract(min), transformedPalette[getPaletteIndex(index)], tileEntityData.get(index));
+    }
+
+    /**
+     * Getter of the tile entity data at a certain position.
+     *
+     * @param pos the position.
+     * @return the tile entity data, or null if there is none.
+     */
+    @Nullable
+    public NBTTagCompound getTileEntityData(@NotNull final BlockPos pos)
+    {
+        final int index = getBaseIndex(pos);
+        return index < 0 ? null : tileEntityData.get(index);
     }
 
     /**
@@ -162,11 +255,22 @@ public class StructureProxy
     @Nullable
     public Template.EntityInfo getEntityinfo(@NotNull final BlockPos pos)
     {
-        if (entities[pos.getX()][pos.getY()].length == 0)
+        if (entities.isEmpty() || !isInside(pos))
         {
             return null;
         }
-        return entities[pos.getX()][pos.getY()][pos.getZ()];
+        return entities.get((pos.getY() * length + pos.getZ()) * width + pos.getX());
+    }
+
+    /**
+     * Get all the entities of the structure, with their rotated and mirrored data.
+     *
+     * @return the entities, in no particular order.
+     */
+    @NotNull
+    public Collection<Template.EntityInfo> getEntityInfos()
+    {
+        return Collections.unmodifiableCollection(entities.values());
     }
 
     /**
@@ -231,61 +335,41 @@ public class StructureProxy
         this.width = size.getX();
         this.height = size.getY();
         this.length = size.getZ();
+        this.rotation = rotation;
+        this.mirror = mirror;
 
-        this.blocks = new Template.BlockInfo[width][height][length];
-        this.entities = new Template.EntityInfo[width][height][length];
+        final PlacementSettings settings = new PlacementSettings().setRotation(rotation).setMirror(mirror);
 
+        //The smallest transformed coordinates are reached at the corners of the area covered by blocks.
         int minX = 0;
-        int minY = 0;
         int minZ = 0;
-
-        for (final Template.BlockInfo info : structure.getBlockInfoWithSettings(new PlacementSettings().setRotation(rotation).setMirror(mirror)))
+        for (final BlockPos corner : new BlockPos[] {new BlockPos(minBlockX, 0, minBlockZ), new BlockPos(minBlockX, 0, maxBlockZ),
+          new BlockPos(maxBlockX, 0, minBlockZ), new BlockPos(maxBlockX, 0, maxBlockZ)})
         {
-            final BlockPos tempPos = info.pos;
-            final int x = tempPos.getX();
-            final int y = tempPos.getY();
-            final int z = tempPos.getZ();
-            if (x < minX)
-            {
-                minX = x;
-            }
-
-            if (y < minY)
-            {
-                minY = y;
-            }
-
-            if (z < minZ)
-            {
-                minZ = z;
-            }
+            final BlockPos tempPos = Template.transformedBlockPos(settings, corner);
+            minX = Math.min(minX, tempPos.getX());
+            minZ = Math.min(minZ, tempPos.getZ());
         }
 
         minX = Math.abs(minX);
-        minY = Math.abs(minY);
         minZ = Math.abs(minZ);
-        boolean foundHut = false;
-        final PlacementSettings settings = new PlacementSettings().setRotation(rotation).setMirror(mirror);
+        final int minY = 0;
+        this.min = new BlockPos(minX, minY, minZ);
 
-        for (final Template.BlockInfo info : structure.getBlockInfoWithSettings(settings))
+        for (int i = 1; i < palette.size(); i++)
         {
-            final BlockPos tempPos = info.pos;
-            final int x = tempPos.getX() + minX;
-            final int y = tempPos.getY() + minY;
-            final int z = tempPos.getZ() + minZ;
-
-            this.blocks[x][y][z] = info;
-            this.entities[x][y][z] = null;
+            transformedPalette[i] = palette.get(i).withMirror(mirror).withRotation(rotation);
+        }
 
-            if (info.blockState.getBlock() instanceof AbstractBlockHut)
-            {
-                foundHut = true;
-                offset = info.pos.add(minX, minY, minZ);
-            }
+        final boolean foundHut = hutPos != null;
+        if (foundHut)
+        {
+            offset = Template.transformedBlockPos(settings, hutPos).add(minX, minY, minZ);
         }
 
         updateOffSetIfDecoration(foundHut, size, times, minX, minY, minZ);
 
+        final Map<Integer, Template.EntityInfo> transformedEntities = new HashMap<>();
         for (final Template.EntityInfo info : structure.getTileEntities())
         {
             final Template.EntityInfo newInfo = structure.transformEntityInfoWithSettings(info, world, rotatePos.subtract(offset).add(new BlockPos(minX, minY, minZ)), settings);
@@ -294,8 +378,12 @@ public class StructureProxy
             final int x = tempPos.getX() + minX;
             final int y = tempPos.getY() + minY;
             final int z = tempPos.getZ() + minZ;
-            this.entities[x][y][z] = newInfo;
+            if (newInfo != null)
+            {
+                transformedEntities.put((y * length + z) * width + x, newInfo);
+            }
         }
+        this.entities = transformedEntities;
     }
 
     /**
@@ -324,4 +412,108 @@ public class StructureProxy
             offset = new BlockPos(tempSize.getX() / 2, 0, tempSize.getZ() / 2).add(minX, minY, minZ);
         }
     }
+
+    /**
+     * Check if a position is inside the transformed structure.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isInside(@NotNull final BlockPos pos)
+    {
+        return pos.getX() >= 0 && pos.getY() >= 0 && pos.getZ() >= 0 && pos.getX() < width && pos.getY() < height && pos.getZ() < length;
+    }
+
+    /**
+     * Get the storage index of a position in the transformed structure.
+     * The rotation is undone first, then the mirror, which is the reverse of {@link Template#transformedBlockPos(PlacementSettings, BlockPos)}.
+     *
+     * @param pos the position.
+     * @return the index or -1 if it is outside the structure.
+     */
+    private int getBaseIndex(@NotNull final BlockPos pos)
+    {
+        if (packedBlocks == null)
+        {
+            return -1;
+        }
+
+        final int rotatedX = pos.getX() - min.getX();
+        final int y = pos.getY() - min.getY();
+        final int rotatedZ = pos.getZ() - min.getZ();
+
+        int x;
+        int z;
+        switch (rotation)
+        {
+            case CLOCKWISE_90:
+                x = rotatedZ;
+                z = -rotatedX;
+                break;
+            case COUNTERCLOCKWISE_90:
+                x = -rotatedZ;
+                z = rotatedX;
+                break;
+            case CLOCKWISE_180:
+                x = -rotatedX;
+                z = -rotatedZ;
+                break;
+            default:
+                x = rotatedX;
+                z = rotatedZ;
+        }
+
+        if (mirror == Mirror.LEFT_RIGHT)
+        {
+            z = -z;
+        }
+        else if (mirror == Mirror.FRONT_BACK)
+        {
+            x = -x;
+        }
+
+        if (x < 0 || y < 0 || z < 0 || x >= baseWidth || y >= baseHeight || z >= baseLength)
+        {
+            return -1;
+        }
+        return getIndex(x, y, z);
+    }
+
+    /**
+     * Get the storage index of a position in the unrotated structure.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return the index.
+     */
+    private int getIndex(final int x, final int y, final int z)
+    {
+        return (y * baseLength + z) * baseWidth + x;
+    }
+
+    /**
+     * Read a palette index from the packed storage.
+     *
+     * @param index the storage index.
+     * @return the palette index.
+     */
+    private int getPaletteIndex(final int index)
+    {
+        final int shift = (index % entriesPerLong) * bitsPerEntry;
+        return (int) ((packedBlocks[index / entriesPerLong] >>> shift) & ((1L << bitsPerEntry) - 1));
+    }
+
+    /**
+     * Write a palette index to the packed storage.
+     *
+     * @param index        the storage index.
+     * @param paletteIndex the palette index.
+     */
+    private void setPaletteIndex(final int index, final int paletteIndex)
+    {
+        final int shift = (index % entriesPerLong) * bitsPerEntry;
+        final long mask = ((1L << bitsPerEntry) - 1) << shift;
+        packedBlocks[index / entriesPerLong] = (packedBlocks[index / entriesPerLong] & ~mask) | ((long) paletteIndex << shift);
+    }
 }
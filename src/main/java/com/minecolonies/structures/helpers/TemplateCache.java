@@ -0,0 +1,251 @@
+package com.minecolonies.structures.helpers;
+
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.DataFixesManager;
+import net.minecraft.util.datafix.FixTypes;
+import net.minecraft.world.gen.structure.template.Template;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process wide cache of parsed templates, keyed by the md5 hash of the schematic.
+ * <p>
+ * A schematic is read once, its hash is calculated on the bytes read and the template is only parsed
+ * when no template with the same hash is cached. The cache is bounded by an estimate of the memory used
+ * by the templates, the least recently used templates are evicted first.
+ * <p>
+ * Cached templates are shared between structures and must not be modified.
+ */
+public final class TemplateCache
+{
+    /**
+     * Estimated memory used by one block of a template.
+     */
+    private static final long BYTES_PER_BLOCK = 64L;
+
+    /**
+     * Estimated memory used by one entity of a template.
+     */
+    private static final long BYTES_PER_ENTITY = 512L;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    /**
+     * Data version of schematics saved without one.
+     */
+    private static final int DEFAULT_DATA_VERSION = 500;
+
+    /**
+     * NBT type id of numbers.
+     */
+    private static final int NBT_NUMBER_TYPE = 99;
+
+    /**
+     * The cached templates in access order, the eldest is the least recently used.
+     */
+    private static final Map<String, CachedTemplate> templates = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Estimated memory used by all the cached templates.
+     */
+    private static long cachedBytes = 0;
+
+    /**
+     * Data fixer shared by all the templates, creating one is expensive.
+     */
+    private static DataFixer fixer;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private TemplateCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the template of a schematic, parsing it if needed.
+     *
+     * @param stream the stream of the schematic, it is read completely but not closed.
+     * @return the md5 hash and template, or null if it could not be read.
+     */
+    @Nullable
+    public static CachedTemplate load(@Nullable final InputStream stream)
+    {
+        if (stream == null)
+        {
+            return null;
+        }
+
+        final byte[] bytes = Structure.getStreamAsByteArray(stream);
+        final String md5 = Structure.calculateMD5(bytes);
+        if (bytes.length == 0 || md5 == null)
+        {
+            return null;
+        }
+
+        synchronized (TemplateCache.class)
+        {
+            final CachedTemplate cached = templates.get(md5);
+            if (cached != null)
+            {
+                return cached;
+            }
+        }
+
+        try
+        {
+            final CachedTemplate parsed = new CachedTemplate(md5, parse(new ByteArrayInputStream(bytes)));
+            put(parsed);
+            return parsed;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("TemplateCache: failed to parse schematic " + md5, e);
+            return null;
+        }
+    }
+
+    /**
+     * Remove a template from the cache.
+     *
+     * @param md5 the md5 hash of the schematic.
+     */
+    public static synchronized void invalidate(@Nullable final String md5)
+    {
+        if (md5 == null)
+        {
+            return;
+        }
+
+        final CachedTemplate removed = templates.remove(md5);
+        if (removed != null)
+        {
+            cachedBytes -= removed.size;
+        }
+    }
+
+    /**
+     * Remove all templates from the cache.
+     */
+    public static synchronized void clear()
+    {
+        templates.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Get the shared data fixer.
+     *
+     * @return the data fixer.
+     */
+    @NotNull
+    public static synchronized DataFixer getFixer()
+    {
+        if (fixer == null)
+        {
+            fixer = DataFixesManager.createFixer();
+        }
+        return fixer;
+    }
+
+    /**
+     * Add a template and evict the least recently used ones until the cache fits its limit again.
+     *
+     * @param template the template to add.
+     */
+    private static synchronized void put(@NotNull final CachedTemplate template)
+    {
+        final CachedTemplate previous = templates.put(template.md5, template);
+        if (previous != null)
+        {
+            cachedBytes -= previous.size;
+        }
+        cachedBytes += template.size;
+
+        final long maxBytes = Configurations.gameplay.templateCacheSize * BYTES_PER_MEGABYTE;
+        final Iterator<CachedTemplate> iterator = templates.values().iterator();
+        while (cachedBytes > maxBytes && iterator.hasNext())
+        {
+            cachedBytes -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Parse a template from the gzipped nbt of a schematic.
+     *
+     * @param stream the stream of the schematic.
+     * @return the template.
+     * @throws IOException if the schematic could not be read.
+     */
+    @NotNull
+    private static Template parse(@NotNull final InputStream stream) throws IOException
+    {
+        final NBTTagCompound nbttagcompound = CompressedStreamTools.readCompressed(stream);
+
+        if (!nbttagcompound.hasKey("DataVersion", NBT_NUMBER_TYPE))
+        {
+            nbttagcompound.setInteger("DataVersion", DEFAULT_DATA_VERSION);
+        }
+
+        final Template template = new Template();
+        template.read(getFixer().process(FixTypes.STRUCTURE, nbttagcompound));
+        return template;
+    }
+
+    /**
+     * A parsed template and the md5 hash of its schematic.
+     */
+    public static final class CachedTemplate
+    {
+        private final String   md5;
+        private final Template template;
+        private final long     size;
+
+        private CachedTemplate(@NotNull final String md5, @NotNull final Template template)
+        {
+            this.md5 = md5;
+            this.template = template;
+            this.size = template.blocks.size() * BYTES_PER_BLOCK + template.entities.size() * BYTES_PER_ENTITY;
+        }
+
+        /**
+         * Get the md5 hash of the schematic.
+         *
+         * @return the md5 hash.
+         */
+        @NotNull
+        public String getMD5()
+        {
+            return md5;
+        }
+
+        /**
+         * Get the shared template, must not be modified.
+         *
+         * @return the template.
+         */
+        @NotNull
+        public Template getTemplate()
+        {
+            return template;
+        }
+    }
+}
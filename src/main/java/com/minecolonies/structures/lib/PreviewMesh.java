@@ -0,0 +1,428 @@
+package com.minecolonies.structures.lib;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GLAllocation;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.RenderHelper;
+import net.minecraft.client.renderer.WorldVertexBufferUploader;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.TextureMap;
+import net.minecraft.client.renderer.tileentity.TileEntityRendererDispatcher;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockRenderLayer;
+import net.minecraft.util.EnumBlockRenderType;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.client.ForgeHooksClient;
+import net.minecraftforge.client.MinecraftForgeClient;
+import net.minecraftforge.client.model.pipeline.LightUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.opengl.GL11;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The ghost preview of a structure, baked once into a vertex buffer per render layer.
+ * <p>
+ * The quads of all the blocks are written on a background thread in coordinates relative to the origin of the structure.
+ * Once baked the buffers are compiled into display lists on the render thread, so drawing a frame is one translate and
+ * one call per layer. Entities and tile entities are created once and reused for every frame.
+ */
+public class PreviewMesh
+{
+    /**
+     * Scale of blocks drawn over a block which exists in the world, to avoid z-fighting.
+     */
+    private static final float SCALE = 1.001F;
+
+    /**
+     * Initial size of the buffers, in ints.
+     */
+    private static final int BUFFER_SIZE = 0x4000;
+
+    /**
+     * Thread baking the meshes.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies preview baker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * What the mesh was baked for.
+     */
+    private final String key;
+
+    /**
+     * World position of the origin of the structure.
+     */
+    private final BlockPos origin;
+
+    /**
+     * Entities of the structure, at their world positions.
+     */
+    private final List<Entity> entities;
+
+    /**
+     * Tile entities of the structure without a block model, each in its own fake world.
+     */
+    private final List<TileEntity> tileEntities;
+
+    /**
+     * Buffers being baked, per layer.
+     */
+    private final CompletableFuture<Map<BlockRenderLayer, BufferBuilder>> baking;
+
+    /**
+     * Compiled display lists, per layer.
+     */
+    private final Map<BlockRenderLayer, Integer> displayLists = new EnumMap<>(BlockRenderLayer.class);
+
+    /**
+     * If the baked buffers were compiled.
+     */
+    private boolean compiled = false;
+
+    /**
+     * Start baking the mesh of a structure.
+     *
+     * @param key          what the mesh is baked for, the structure, rotation, mirror and position.
+     * @param origin       world position of the origin of the structure.
+     * @param holders      the models of the blocks, at their world positions.
+     * @param occupied     world positions where the world has a block already.
+     * @param entities     the entities, at their world positions.
+     * @param tileEntities the tile entities without a block model, ready to render.
+     * @param tint         colors of tinted quads.
+     */
+    public PreviewMesh(
+      @NotNull final String key,
+      @NotNull final BlockPos origin,
+      @NotNull final List<ModelHolder> holders,
+      @NotNull final Set<BlockPos> occupied,
+      @NotNull final List<Entity> entities,
+      @NotNull final List<TileEntity> tileEntities,
+      @NotNull final QuadTint tint)
+    {
+        this.key = key;
+        this.origin = origin;
+        this.entities = entities;
+        this.tileEntities = tileEntities;
+        this.baking = CompletableFuture.supplyAsync(() -> bake(holders, occupied, origin, tint), executor);
+    }
+
+    /**
+     * Get what the mesh was baked for.
+     *
+     * @return the key.
+     */
+    @NotNull
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+     * Check if the mesh can be drawn.
+     *
+     * @return true once the blocks are baked.
+     */
+    public boolean isReady()
+    {
+        return compiled || (baking.isDone() && !baking.isCompletedExceptionally());
+    }
+
+    /**
+     * Bake the quads of the models into one buffer per layer.
+     *
+     * @param holders  the models.
+     * @param occupied world positions where the world has a block already.
+     * @param origin   the position the buffers are relative to.
+     * @param tint     colors of tinted quads.
+     * @return the finished buffers of the layers which have quads.
+     */
+    @NotNull
+    private static Map<BlockRenderLayer, BufferBuilder> bake(
+      @NotNull final List<ModelHolder> holders,
+      @NotNull final Set<BlockPos> occupied,
+      @NotNull final BlockPos origin,
+      @NotNull final QuadTint tint)
+    {
+        final Map<BlockRenderLayer, BufferBuilder> buffers = new EnumMap<>(BlockRenderLayer.class);
+        final BlockRenderLayer originalLayer = MinecraftForgeClient.getRenderLayer();
+        try
+        {
+            for (final ModelHolder holder : holders)
+            {
+                if (holder.actualState.getRenderType() != EnumBlockRenderType.MODEL)
+                {
+                    continue;
+                }
+
+                final BlockPos localPos = holder.pos.subtract(origin);
+                final boolean scaled = occupied.contains(holder.pos);
+                for (final BlockRenderLayer layer : BlockRenderLayer.values())
+                {
+                    if (!holder.actualState.getBlock().canRenderInLayer(holder.actualState, layer))
+                    {
+                        continue;
+                    }
+
+                    ForgeHooksClient.setRenderLayer(layer);
+                    final BufferBuilder buffer = buffers.computeIfAbsent(layer, PreviewMesh::newBuffer);
+                    for (final EnumFacing facing : EnumFacing.values())
+                    {
+                        addQuads(buffer, holder, localPos, scaled, holder.model.getQuads(holder.extendedState, facing, 0), tint);
+                    }
+                    addQuads(buffer, holder, localPos, scaled, holder.model.getQuads(holder.extendedState, null, 0), tint);
+                }
+            }
+        }
+        catch (final RuntimeException e)
+        {
+            Log.getLogger().warn("PreviewMesh: could not bake the preview of a structure", e);
+        }
+        finally
+        {
+            ForgeHooksClient.setRenderLayer(originalLayer);
+        }
+
+        for (final BufferBuilder buffer : buffers.values())
+        {
+            buffer.finishDrawing();
+        }
+        return buffers;
+    }
+
+    /**
+     * Create a buffer to bake block quads into.
+     *
+     * @param layer the layer of the buffer.
+     * @return the buffer, started.
+     */
+    @NotNull
+    static BufferBuilder newBuffer(@Nullable final BlockRenderLayer layer)
+    {
+        final BufferBuilder buffer = new BufferBuilder(BUFFER_SIZE);
+        buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.BLOCK);
+        return buffer;
+    }
+
+    /**
+     * Add the quads of a block to a buffer.
+     *
+     * @param buffer   the buffer.
+     * @param holder   the model of the block.
+     * @param localPos the position of the block relative to the origin of the buffer.
+     * @param scaled   if the world has a block at this position already.
+     * @param quads    the quads.
+     * @param tint     colors of tinted quads.
+     */
+    private static void addQuads(
+      @NotNull final BufferBuilder buffer,
+      @NotNull final ModelHolder holder,
+      @NotNull final BlockPos localPos,
+      final boolean scaled,
+      @NotNull final List<BakedQuad> quads,
+      @NotNull final QuadTint tint)
+    {
+        for (final BakedQuad quad : quads)
+        {
+            final int color = quad.hasTintIndex() ? tint.getColor(holder.actualState, holder.pos, quad.getTintIndex()) : -1;
+            addQuad(buffer, quad, localPos, scaled, color);
+        }
+    }
+
+    /**
+     * Add one quad to a buffer.
+     *
+     * @param buffer   the buffer, started with the block format.
+     * @param quad     the quad.
+     * @param localPos the position of the block relative to the origin of the buffer.
+     * @param scaled   if the quad has to be scaled up around the block, because a block exists there in the world.
+     * @param color    the rgb tint of the quad, -1 for none.
+     */
+    static void addQuad(@NotNull final BufferBuilder buffer, @NotNull final BakedQuad quad, @NotNull final BlockPos localPos, final boolean scaled, final int color)
+    {
+        if (!quad.getFormat().equals(DefaultVertexFormats.BLOCK))
+        {
+            LightUtil.renderQuadColor(buffer, quad, color == -1 ? -1 : (0xFF << 24) | color);
+            buffer.putPosition(localPos.getX(), localPos.getY(), localPos.getZ());
+            return;
+        }
+
+        final int[] data = quad.getVertexData();
+        if (scaled)
+        {
+            final int[] scaledData = data.clone();
+            final int stride = DefaultVertexFormats.BLOCK.getIntegerSize();
+            for (int vertex = 0; vertex < 4; vertex++)
+            {
+                for (int axis = 0; axis < 3; axis++)
+                {
+                    final int index = vertex * stride + axis;
+                    scaledData[index] = Float.floatToRawIntBits(Float.intBitsToFloat(data[index]) * SCALE);
+                }
+            }
+            buffer.addVertexData(scaledData);
+        }
+        else
+        {
+            buffer.addVertexData(data);
+        }
+
+        if (color != -1)
+        {
+            final float red = (color >> 16 & 0xFF) / 255F;
+            final float green = (color >> 8 & 0xFF) / 255F;
+            final float blue = (color & 0xFF) / 255F;
+            for (int vertex = 4; vertex > 0; vertex--)
+            {
+                buffer.putColorMultiplier(red, green, blue, vertex);
+            }
+        }
+        buffer.putPosition(localPos.getX(), localPos.getY(), localPos.getZ());
+    }
+
+    /**
+     * Draw the mesh, nothing is drawn until the blocks are baked.
+     *
+     * @param player       the player looking at it.
+     * @param partialTicks the partial ticks.
+     */
+    public void render(@NotNull final EntityPlayer player, final float partialTicks)
+    {
+        if (!isReady())
+        {
+            return;
+        }
+        compile();
+
+        final Minecraft mc = Minecraft.getMinecraft();
+        final double dx = player.lastTickPosX + (player.posX - player.lastTickPosX) * partialTicks;
+        final double dy = player.lastTickPosY + (player.posY - player.lastTickPosY) * partialTicks;
+        final double dz = player.lastTickPosZ + (player.posZ - player.lastTickPosZ) * partialTicks;
+
+        mc.getTextureManager().bindTexture(TextureMap.LOCATION_BLOCKS_TEXTURE);
+        GlStateManager.pushMatrix();
+        GlStateManager.translate(origin.getX() - dx, origin.getY() - dy, origin.getZ() - dz);
+        RenderHelper.disableStandardItemLighting();
+        GlStateManager.color(1F, 1F, 1F, 1F);
+        GlStateManager.enableBlend();
+        GlStateManager.enableTexture2D();
+        GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+
+        for (final Map.Entry<BlockRenderLayer, Integer> list : displayLists.entrySet())
+        {
+            if (list.getKey() == BlockRenderLayer.CUTOUT)
+            {
+                mc.getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).setBlurMipmap(false, false);
+            }
+
+            GlStateManager.colorMask(false, false, false, false);
+            GlStateManager.callList(list.getValue());
+            GlStateManager.colorMask(true, true, true, true);
+            GlStateManager.depthFunc(GL11.GL_LEQUAL);
+            GlStateManager.callList(list.getValue());
+
+            if (list.getKey() == BlockRenderLayer.CUTOUT)
+            {
+                mc.getTextureManager().getTexture(TextureMap.LOCATION_BLOCKS_TEXTURE).restoreLastBlurMipmap();
+            }
+        }
+
+        GlStateManager.disableBlend();
+        GlStateManager.popMatrix();
+
+        if (!tileEntities.isEmpty())
+        {
+            final TileEntityRendererDispatcher terd = TileEntityRendererDispatcher.instance;
+            terd.renderEngine = mc.renderEngine;
+            terd.preDrawBatch();
+            for (final TileEntity te : tileEntities)
+            {
+                if (te.shouldRenderInPass(0))
+                {
+                    GlStateManager.pushMatrix();
+                    GlStateManager.color(1F, 1F, 1F, 1F);
+                    terd.render(te, partialTicks, -1);
+                    GlStateManager.popMatrix();
+                }
+            }
+            terd.drawBatch(0);
+        }
+
+        for (final Entity entity : entities)
+        {
+            mc.getRenderManager().renderEntityStatic(entity, 0.0F, true);
+        }
+    }
+
+    /**
+     * Compile the baked buffers into display lists, on the render thread.
+     */
+    private void compile()
+    {
+        if (compiled)
+        {
+            return;
+        }
+        compiled = true;
+
+        final WorldVertexBufferUploader uploader = new WorldVertexBufferUploader();
+        for (final Map.Entry<BlockRenderLayer, BufferBuilder> buffer : baking.join().entrySet())
+        {
+            if (buffer.getValue().getVertexCount() == 0)
+            {
+                continue;
+            }
+
+            final int list = GLAllocation.generateDisplayLists(1);
+            GlStateManager.glNewList(list, GL11.GL_COMPILE);
+            uploader.draw(buffer.getValue());
+            GlStateManager.glEndList();
+            displayLists.put(buffer.getKey(), list);
+        }
+    }
+
+    /**
+     * Free the display lists, the mesh can't be drawn anymore afterwards.
+     */
+    public void delete()
+    {
+        for (final int list : displayLists.values())
+        {
+            GLAllocation.deleteDisplayLists(list);
+        }
+        displayLists.clear();
+        baking.cancel(false);
+    }
+
+    /**
+     * Colors of the tinted quads of a block.
+     */
+    @FunctionalInterface
+    public interface QuadTint
+    {
+        /**
+         * Get the color of a tinted quad.
+         *
+         * @param state     the block.
+         * @param pos       the world position of the block.
+         * @param tintIndex the tint index of the quad.
+         * @return the rgb color.
+         */
+        int getColor(@NotNull IBlockState state, @NotNull BlockPos pos, int tintIndex);
+    }
+}
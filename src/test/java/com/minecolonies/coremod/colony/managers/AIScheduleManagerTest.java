@@ -0,0 +1,101 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.configuration.Configurations;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the sharing of the time budget between the ais of a colony.
+ */
+public class AIScheduleManagerTest
+{
+    private static final int BUDGET = 1000;
+
+    private int              oldBudget;
+    private AIScheduleManager scheduler;
+
+    @Before
+    public void setUp()
+    {
+        oldBudget = Configurations.gameplay.colonyAITickBudgetNanos;
+        Configurations.gameplay.colonyAITickBudgetNanos = BUDGET;
+        scheduler = new AIScheduleManager();
+    }
+
+    @After
+    public void tearDown()
+    {
+        Configurations.gameplay.colonyAITickBudgetNanos = oldBudget;
+    }
+
+    @Test
+    public void testCitizensOverBudgetWait()
+    {
+        assertTrue(scheduler.tryStart(1, 0, false));
+        scheduler.finish(BUDGET);
+
+        assertFalse(scheduler.tryStart(2, 0, false));
+        assertFalse(scheduler.tryStart(3, 0, false));
+        assertEquals(2, scheduler.getWaitingCount());
+        assertEquals(2, scheduler.getSkippedUpdates());
+    }
+
+    @Test
+    public void testWaitingCitizensRunFirstOnNextTick()
+    {
+        assertTrue(scheduler.tryStart(1, 0, false));
+        scheduler.finish(BUDGET);
+        assertFalse(scheduler.tryStart(2, 0, false));
+
+        //Citizen 1 is ticked first by the world, but the cost of citizen 2 is reserved.
+        assertFalse(scheduler.tryStart(1, 1, false));
+        assertTrue(scheduler.tryStart(2, 1, false));
+        scheduler.finish(BUDGET);
+
+        assertTrue(scheduler.tryStart(1, 2, false));
+        assertEquals(0, scheduler.getWaitingCount());
+    }
+
+    @Test
+    public void testCriticalCitizensAlwaysRun()
+    {
+        assertTrue(scheduler.tryStart(1, 0, false));
+        scheduler.finish(BUDGET * 2);
+
+        assertTrue(scheduler.tryStart(2, 0, true));
+        assertEquals(0, scheduler.getSkippedUpdates());
+    }
+
+    @Test
+    public void testTicksBehindCountsFromFirstRefusal()
+    {
+        assertTrue(scheduler.tryStart(1, 0, false));
+        scheduler.finish(BUDGET * 5);
+        assertFalse(scheduler.tryStart(2, 0, false));
+
+        for (int tick = 1; tick <= 3; tick++)
+        {
+            assertTrue(scheduler.tryStart(3, tick, true));
+            scheduler.finish(BUDGET * 5);
+            assertFalse(scheduler.tryStart(2, tick, false));
+        }
+
+        assertEquals(3, scheduler.getTicksBehind());
+    }
+
+    @Test
+    public void testCitizensWhichStopAskingAreForgotten()
+    {
+        assertTrue(scheduler.tryStart(1, 0, false));
+        scheduler.finish(BUDGET);
+        assertFalse(scheduler.tryStart(2, 0, false));
+
+        assertTrue(scheduler.tryStart(1, 2, false));
+        assertEquals(0, scheduler.getWaitingCount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.minecolonies.coremod.entity;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the decisions of the citizen tick scheduler.
+ */
+public class CitizenTickSchedulerTest
+{
+    private static final int INTERVAL = 10;
+
+    @Test
+    public void testCitizenWorkingNearPlayerRunsAtFullRate()
+    {
+        assertFalse(CitizenTickScheduler.isReducedRate(true, EntityCitizen.Status.WORKING));
+        assertFalse(CitizenTickScheduler.isReducedRate(true, EntityCitizen.Status.GETTING_ITEMS));
+    }
+
+    @Test
+    public void testCitizenFarOrAsleepRunsAtReducedRate()
+    {
+        assertTrue(CitizenTickScheduler.isReducedRate(false, EntityCitizen.Status.WORKING));
+        assertTrue(CitizenTickScheduler.isReducedRate(true, EntityCitizen.Status.SLEEPING));
+        assertTrue(CitizenTickScheduler.isReducedRate(true, EntityCitizen.Status.IDLE));
+    }
+
+    @Test
+    public void testReducedRateRunsOncePerInterval()
+    {
+        int runs = 0;
+        for (int tick = 0; tick < INTERVAL * 5; tick++)
+        {
+            if (CitizenTickScheduler.shouldRunReduced(tick, INTERVAL))
+            {
+                runs++;
+            }
+        }
+        assertEquals(5, runs);
+    }
+
+    @Test
+    public void testIntervalOfOneRunsEveryTick()
+    {
+        for (int tick = 0; tick < INTERVAL; tick++)
+        {
+            assertTrue(CitizenTickScheduler.shouldRunReduced(tick, 1));
+        }
+    }
+}
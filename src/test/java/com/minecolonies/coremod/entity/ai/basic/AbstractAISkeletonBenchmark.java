@@ -0,0 +1,212 @@
+package com.minecolonies.coremod.entity.ai.basic;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.util.AIState;
+import com.minecolonies.coremod.entity.ai.util.AITarget;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Microbenchmark of the target dispatch of the ai skeleton, not part of the unit tests.
+ * <p>
+ * One skeleton with 40 targets cycles through four states like a worker does. The state indexed dispatch of
+ * {@link AbstractAISkeleton} is timed against the linear scan over all targets it replaced.
+ * Run the main method by hand, ideally with a fixed heap and nothing else running.
+ */
+public final class AbstractAISkeletonBenchmark
+{
+    /**
+     * Amount of targets of the benchmark skeleton.
+     */
+    private static final int BENCHMARK_TARGETS = 40;
+
+    /**
+     * Amount of global pre-checks, like the inventory and tool checks.
+     */
+    private static final int GLOBAL_TARGETS = 4;
+
+    /**
+     * Ticks to warm up before measuring.
+     */
+    private static final int WARMUP_TICKS = 200_000;
+
+    /**
+     * Ticks measured.
+     */
+    private static final int MEASURED_TICKS = 1_000_000;
+
+    /**
+     * Rounds of each dispatch, the first ones are usually slower.
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * The states the benchmark workers cycle through.
+     */
+    private static final AIState[] CYCLE = {AIState.INIT, AIState.IDLE, AIState.START_WORKING, AIState.PREPARING};
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private AbstractAISkeletonBenchmark()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Run the benchmark and print the time per tick of both dispatches.
+     *
+     * @param args ignored.
+     */
+    public static void main(final String[] args)
+    {
+        final AbstractJob job = mock(AbstractJob.class);
+        final CitizenData citizenData = mock(CitizenData.class);
+        when(job.getCitizen()).thenReturn(citizenData);
+        when(citizenData.getCitizenEntity()).thenReturn(mock(EntityCitizen.class));
+
+        final AtomicInteger skeletonTicks = new AtomicInteger();
+        final TestSkeleton skeleton = new TestSkeleton(job);
+        skeleton.register(createTargets(skeletonTicks));
+
+        final AtomicInteger linearTicks = new AtomicInteger();
+        final LinearDispatch linear = new LinearDispatch(createTargets(linearTicks));
+
+        for (int round = 1; round <= ROUNDS; round++)
+        {
+            final double linearNanos = measure(linear::updateTask, linearTicks);
+            final double indexedNanos = measure(skeleton::updateTask, skeletonTicks);
+            System.out.println(String.format("Round %d: linear scan %.1f ns/tick, state dispatch %.1f ns/tick, speedup %.2fx",
+              round, linearNanos, indexedNanos, linearNanos / indexedNanos));
+        }
+    }
+
+    /**
+     * Warm up and time a dispatch.
+     *
+     * @param tick  runs one tick of the dispatch.
+     * @param ticks counts the ticks where a state target ran.
+     * @return the nanoseconds per tick.
+     */
+    private static double measure(@NotNull final Runnable tick, @NotNull final AtomicInteger ticks)
+    {
+        for (int i = 0; i < WARMUP_TICKS; i++)
+        {
+            tick.run();
+        }
+        ticks.set(0);
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_TICKS; i++)
+        {
+            tick.run();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        if (ticks.get() != MEASURED_TICKS)
+        {
+            throw new IllegalStateException("Expected " + MEASURED_TICKS + " state transitions but got " + ticks.get());
+        }
+        return (double) elapsed / MEASURED_TICKS;
+    }
+
+    /**
+     * Create the targets of a benchmark worker.
+     *
+     * @param ticks counts the ticks where a state target ran.
+     * @return the targets in registration order.
+     */
+    @NotNull
+    private static AITarget[] createTargets(@NotNull final AtomicInteger ticks)
+    {
+        final List<AITarget> targets = new ArrayList<>();
+        for (int i = 0; i < GLOBAL_TARGETS; i++)
+        {
+            targets.add(new AITarget(() -> ticks.get() < 0, () -> null));
+        }
+        //Targets bound to states the worker never enters.
+        final int unused = AIState.values().length - CYCLE.length - GLOBAL_TARGETS;
+        for (int i = 0; i < BENCHMARK_TARGETS - GLOBAL_TARGETS - CYCLE.length; i++)
+        {
+            targets.add(new AITarget(AIState.values()[CYCLE.length + GLOBAL_TARGETS + i % unused], () -> true, () -> null));
+        }
+        for (int i = 0; i < CYCLE.length; i++)
+        {
+            final AIState next = CYCLE[(i + 1) % CYCLE.length];
+            targets.add(new AITarget(CYCLE[i], () ->
+            {
+                ticks.incrementAndGet();
+                return next;
+            }));
+        }
+        return targets.toArray(new AITarget[targets.size()]);
+    }
+
+    /**
+     * The dispatch the skeleton used before the targets were indexed by state:
+     * every tick streams over all targets and checks the state of each one.
+     */
+    private static class LinearDispatch
+    {
+        private final List<AITarget> targetList = new ArrayList<>();
+        private       AIState        state      = AIState.INIT;
+
+        LinearDispatch(@NotNull final AITarget[] targets)
+        {
+            for (final AITarget target : targets)
+            {
+                targetList.add(target);
+            }
+        }
+
+        void updateTask()
+        {
+            targetList.stream().anyMatch(this::checkOnTarget);
+        }
+
+        private boolean checkOnTarget(@NotNull final AITarget target)
+        {
+            if (state != target.getState() && target.getState() != null)
+            {
+                return false;
+            }
+            if (!target.test())
+            {
+                return false;
+            }
+            final AIState newState = target.apply();
+            if (newState != null)
+            {
+                state = newState;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Skeleton which exposes the registration of targets.
+     */
+    private static class TestSkeleton extends AbstractAISkeleton<AbstractJob>
+    {
+        TestSkeleton(@NotNull final AbstractJob job)
+        {
+            super(job);
+        }
+
+        void register(final AITarget... targets)
+        {
+            registerTargets(targets);
+        }
+    }
+}
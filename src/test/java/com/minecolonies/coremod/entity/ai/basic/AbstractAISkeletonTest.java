@@ -0,0 +1,108 @@
+package com.minecolonies.coremod.entity.ai.basic;
+
+import com.minecolonies.coremod.colony.CitizenData;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.entity.EntityCitizen;
+import com.minecolonies.coremod.entity.ai.util.AIState;
+import com.minecolonies.coremod.entity.ai.util.AITarget;
+import com.minecolonies.coremod.test.AbstractMockStaticsTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the dispatch of the targets of the ai skeleton, see {@link AbstractAISkeletonBenchmark} for its timing.
+ */
+public class AbstractAISkeletonTest extends AbstractMockStaticsTest
+{
+    @Mock
+    private AbstractJob   job;
+    @Mock
+    private CitizenData   citizenData;
+    @Mock
+    private EntityCitizen citizen;
+
+    @Before
+    public void setup()
+    {
+        when(job.getCitizen()).thenReturn(citizenData);
+        when(citizenData.getCitizenEntity()).thenReturn(citizen);
+    }
+
+    @Test
+    public void testTargetsAreCheckedInRegistrationOrder()
+    {
+        final List<String> checked = new ArrayList<>();
+        final TestSkeleton skeleton = new TestSkeleton(job);
+        skeleton.register(
+          new AITarget(() -> checked.add("always1") && false, () -> null),
+          new AITarget(AIState.INIT, () -> checked.add("init") && false, () -> null),
+          new AITarget(AIState.IDLE, () -> checked.add("idle") && false, () -> null),
+          new AITarget(() -> checked.add("always2") && false, () -> null),
+          new AITarget(AIState.INIT, () -> AIState.IDLE));
+
+        skeleton.updateTask();
+
+        assertEquals(AIState.IDLE, skeleton.getState());
+        assertEquals(3, checked.size());
+        assertEquals("always1", checked.get(0));
+        assertEquals("init", checked.get(1));
+        assertEquals("always2", checked.get(2));
+    }
+
+    @Test
+    public void testTargetsOfOtherStatesAreNotChecked()
+    {
+        final AtomicInteger otherChecks = new AtomicInteger();
+        final TestSkeleton skeleton = new TestSkeleton(job);
+        for (final AIState state : AIState.values())
+        {
+            if (state != AIState.INIT)
+            {
+                skeleton.register(new AITarget(state, () -> otherChecks.incrementAndGet() < 0, () -> null));
+            }
+        }
+        skeleton.register(new AITarget(AIState.INIT, () -> AIState.INIT));
+
+        skeleton.updateTask();
+
+        assertEquals(0, otherChecks.get());
+        assertEquals(AIState.INIT, skeleton.getState());
+    }
+
+    @Test
+    public void testTargetsRegisteredLaterAreDispatched()
+    {
+        final TestSkeleton skeleton = new TestSkeleton(job);
+        skeleton.register(new AITarget(() -> false, () -> null));
+        skeleton.register(new AITarget(AIState.INIT, () -> AIState.IDLE));
+
+        skeleton.updateTask();
+
+        assertEquals(AIState.IDLE, skeleton.getState());
+    }
+
+    /**
+     * Skeleton which exposes the registration of targets.
+     */
+    private static class TestSkeleton extends AbstractAISkeleton<AbstractJob>
+    {
+        TestSkeleton(@NotNull final AbstractJob job)
+        {
+            super(job);
+        }
+
+        void register(final AITarget... targets)
+        {
+            registerTargets(targets);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.minecolonies.coremod.entity.ai.citizen.fisherman;
+
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the pond index on a flat world with dug out ponds.
+ */
+public class PondIndexTest
+{
+    private static final int      GROUND = 62;
+    private static final BlockPos HUT    = new BlockPos(16, GROUND + 1, 16);
+
+    private final Set<BlockPos> water = new HashSet<>();
+    private IBlockAccess world;
+
+    @Before
+    public void setUp()
+    {
+        final IBlockState air = mock(IBlockState.class);
+        when(air.getMaterial()).thenReturn(Material.AIR);
+        final IBlockState rock = mock(IBlockState.class);
+        when(rock.getMaterial()).thenReturn(Material.ROCK);
+        final IBlockState liquid = mock(IBlockState.class);
+        when(liquid.getMaterial()).thenReturn(Material.WATER);
+
+        world = mock(IBlockAccess.class);
+        when(world.getBlockState(any(BlockPos.class))).thenAnswer(invocation ->
+        {
+            final BlockPos pos = invocation.getArgument(0);
+            if (water.contains(pos))
+            {
+                return liquid;
+            }
+            return pos.getY() <= GROUND ? rock : air;
+        });
+    }
+
+    private void digPond(final int x, final int z, final int width, final int depth)
+    {
+        for (int dx = 0; dx < width; dx++)
+        {
+            for (int dz = 0; dz < width; dz++)
+            {
+                for (int dy = 0; dy < depth; dy++)
+                {
+                    water.add(new BlockPos(x + dx, GROUND - dy, z + dz));
+                }
+            }
+        }
+    }
+
+    private PondIndex fill()
+    {
+        final PondIndex index = new PondIndex(HUT, 16, GROUND - 8, GROUND + 8, 0);
+        index.fill(world);
+        return index;
+    }
+
+    @Test
+    public void testPondIsLabelledWithSizeAndDepth()
+    {
+        digPond(4, 4, 8, 3);
+
+        final PondIndex index = fill();
+        final List<PondIndex.WaterBody> bodies = index.getBodies();
+
+        assertTrue(index.isReady());
+        assertEquals(1, bodies.size());
+        assertEquals(64, bodies.get(0).getSize());
+        assertEquals(3, bodies.get(0).getAverageDepth(), 0.001);
+    }
+
+    @Test
+    public void testSpotsStandOnTheShoreNextToTheWater()
+    {
+        digPond(4, 4, 8, 3);
+
+        final List<PondIndex.FishingSpot> spots = fill().getBodies().get(0).getSpots();
+
+        assertFalse(spots.isEmpty());
+        for (final PondIndex.FishingSpot spot : spots)
+        {
+            assertFalse(water.contains(spot.getStand()));
+            assertEquals(GROUND + 1, spot.getStand().getY());
+            assertTrue(water.contains(spot.getWater()));
+            assertEquals(1, Math.abs(spot.getStand().getX() - spot.getWater().getX()) + Math.abs(spot.getStand().getZ() - spot.getWater().getZ()));
+        }
+    }
+
+    @Test
+    public void testPuddlesAreIgnoredAndDeeperPondsScoreHigher()
+    {
+        digPond(2, 2, 3, 1);
+        digPond(8, 8, 5, 1);
+        digPond(20, 20, 5, 4);
+
+        final List<PondIndex.WaterBody> bodies = fill().getBodies();
+
+        assertEquals(2, bodies.size());
+        assertEquals(new BlockPos(20, GROUND, 20), bodies.get(0).getAnchor());
+        assertEquals(new BlockPos(8, GROUND, 8), bodies.get(1).getAnchor());
+    }
+}
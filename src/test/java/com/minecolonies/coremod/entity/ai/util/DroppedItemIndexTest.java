@@ -0,0 +1,97 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.math.AxisAlignedBB;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the buckets and claims of the dropped item index.
+ */
+public class DroppedItemIndexTest
+{
+    private static final int CITIZEN = 1;
+    private static final int OTHER   = 2;
+
+    private DroppedItemIndex index;
+    private int nextId = 100;
+
+    @Before
+    public void setUp()
+    {
+        index = new DroppedItemIndex();
+    }
+
+    private EntityItem item(final double x, final double z)
+    {
+        final EntityItem item = mock(EntityItem.class);
+        final int id = nextId++;
+        when(item.getEntityId()).thenReturn(id);
+        moveTo(item, x, z);
+        return item;
+    }
+
+    private static void moveTo(final EntityItem item, final double x, final double z)
+    {
+        item.posX = x;
+        item.posY = 64;
+        item.posZ = z;
+        when(item.getEntityBoundingBox()).thenReturn(new AxisAlignedBB(x - 0.125, 64, z - 0.125, x + 0.125, 64.25, z + 0.125));
+    }
+
+    private static AxisAlignedBB around(final double x, final double z)
+    {
+        return new AxisAlignedBB(x - 2, 63, z - 2, x + 2, 66, z + 2);
+    }
+
+    @Test
+    public void testOnlyItemsInTheAreaAreReturned()
+    {
+        final EntityItem near = item(5, 5);
+        index.add(near);
+        index.add(item(40, 40));
+
+        assertEquals(1, index.getItems(around(5, 5), CITIZEN, 0).size());
+        assertEquals(near, index.getItems(around(5, 5), CITIZEN, 0).get(0));
+    }
+
+    @Test
+    public void testRemovedItemsAreGone()
+    {
+        final EntityItem near = item(5, 5);
+        index.add(near);
+        index.remove(near);
+
+        assertTrue(index.getItems(around(5, 5), CITIZEN, 0).isEmpty());
+    }
+
+    @Test
+    public void testItemsClaimedByOthersAreSkipped()
+    {
+        final EntityItem near = item(5, 5);
+        index.add(near);
+        index.claim(OTHER, near);
+
+        assertTrue(index.getItems(around(5, 5), CITIZEN, 0).isEmpty());
+        assertEquals(1, index.getItems(around(5, 5), OTHER, 0).size());
+
+        index.release(OTHER);
+        assertEquals(1, index.getItems(around(5, 5), CITIZEN, 0).size());
+    }
+
+    @Test
+    public void testItemsMovingFarAreFoundAfterTheyAreRebucketed()
+    {
+        final EntityItem moving = item(5, 5);
+        index.add(moving);
+        moveTo(moving, 100, 100);
+
+        assertEquals(1, index.getItems(around(100, 100), CITIZEN, 100).size());
+        assertTrue(index.getItems(around(5, 5), CITIZEN, 100).isEmpty());
+    }
+}
@@ -0,0 +1,138 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the raid flow field on a small flat world.
+ */
+public class RaidFlowFieldTest
+{
+    private static final int      GROUND = 63;
+    private static final int      SIZE   = 32;
+    private static final BlockPos HUT    = new BlockPos(16, GROUND + 1, 16);
+
+    private final Set<BlockPos> solid = new HashSet<>();
+    private IBlockAccess world;
+
+    @Before
+    public void setUp()
+    {
+        final IBlockState air = mock(IBlockState.class);
+        when(air.getMaterial()).thenReturn(Material.AIR);
+        final IBlockState rock = mock(IBlockState.class);
+        when(rock.getMaterial()).thenReturn(Material.ROCK);
+
+        solid.add(HUT);
+        world = mock(IBlockAccess.class);
+        when(world.getBlockState(any(BlockPos.class))).thenAnswer(invocation ->
+        {
+            final BlockPos pos = invocation.getArgument(0);
+            return pos.getY() <= GROUND || solid.contains(pos) ? rock : air;
+        });
+    }
+
+    private RaidFlowField fill()
+    {
+        final RaidFlowField field = new RaidFlowField(Collections.singletonList(HUT), 0, 0, SIZE, SIZE, 0);
+        field.fill(world);
+        return field;
+    }
+
+    @Test
+    public void testDistanceOnFlatGroundIsWalkingDistance()
+    {
+        final RaidFlowField field = fill();
+
+        assertTrue(field.isReady());
+        assertEquals(0, field.getDistance(new BlockPos(17, GROUND + 1, 16)));
+        assertEquals(9, field.getDistance(new BlockPos(26, GROUND + 1, 16)));
+        assertEquals(HUT, field.getHut(new BlockPos(2, GROUND + 1, 2)));
+    }
+
+    @Test
+    public void testPositionsOffTheFieldHaveNoDistance()
+    {
+        final RaidFlowField field = fill();
+
+        assertEquals(-1, field.getDistance(new BlockPos(40, GROUND + 1, 16)));
+        assertEquals(-1, field.getDistance(new BlockPos(20, GROUND + 5, 16)));
+        assertNull(field.getNextStep(new BlockPos(40, GROUND + 1, 16), 1));
+    }
+
+    @Test
+    public void testStepsLeadTowardsTheHut()
+    {
+        final RaidFlowField field = fill();
+
+        BlockPos position = new BlockPos(28, GROUND + 1, 4);
+        int distance = field.getDistance(position);
+        while (distance > 0)
+        {
+            position = field.getNextStep(position, 1);
+            assertNotNull(position);
+            assertEquals(distance - 1, field.getDistance(position));
+            distance--;
+        }
+        assertEquals(1, position.distanceSq(HUT));
+    }
+
+    @Test
+    public void testWallsAreWalkedAround()
+    {
+        for (int z = 0; z < SIZE - 1; z++)
+        {
+            solid.add(new BlockPos(20, GROUND + 1, z));
+            solid.add(new BlockPos(20, GROUND + 2, z));
+        }
+        final RaidFlowField field = fill();
+
+        //Around the end of the wall at z = 31 instead of straight through it.
+        assertEquals(15 + 5 + 15, field.getDistance(new BlockPos(22, GROUND + 1, 16)));
+    }
+
+    @Test
+    public void testSingleStepsAreClimbed()
+    {
+        for (int z = 0; z < SIZE; z++)
+        {
+            solid.add(new BlockPos(20, GROUND + 1, z));
+        }
+        final RaidFlowField field = fill();
+
+        assertEquals(3, field.getDistance(new BlockPos(20, GROUND + 2, 16)));
+        assertEquals(5, field.getDistance(new BlockPos(22, GROUND + 1, 16)));
+    }
+
+    @Test
+    public void testSmallAreaIsNotMoved()
+    {
+        assertEquals(-16, RaidFlowField.getWindowStart(-16, 100, 84));
+    }
+
+    @Test
+    public void testLargeAreaKeepsTheSpawn()
+    {
+        final int spawn = 1984;
+        final int start = RaidFlowField.getWindowStart(-16, 2000, spawn);
+
+        assertTrue(start <= spawn - 16);
+        assertTrue(start + 512 - 1 >= spawn + 16);
+    }
+}
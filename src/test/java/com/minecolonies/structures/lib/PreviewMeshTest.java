@@ -0,0 +1,84 @@
+package com.minecolonies.structures.lib;
+
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.IntBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Tests the baking of quads into a buffer, without any rendering.
+ */
+public class PreviewMeshTest
+{
+    private static final float DELTA = 0.0001F;
+
+    /**
+     * Ints per vertex of the block format.
+     */
+    private static final int STRIDE = DefaultVertexFormats.BLOCK.getIntegerSize();
+
+    private BufferBuilder buffer;
+    private BakedQuad     quad;
+
+    @Before
+    public void setUp()
+    {
+        buffer = PreviewMesh.newBuffer(null);
+
+        final int[] data = new int[STRIDE * 4];
+        final float[][] corners = {{0, 0, 0}, {0, 1, 0}, {1, 1, 0}, {1, 0, 0}};
+        for (int vertex = 0; vertex < 4; vertex++)
+        {
+            data[vertex * STRIDE] = Float.floatToRawIntBits(corners[vertex][0]);
+            data[vertex * STRIDE + 1] = Float.floatToRawIntBits(corners[vertex][1]);
+            data[vertex * STRIDE + 2] = Float.floatToRawIntBits(corners[vertex][2]);
+            data[vertex * STRIDE + 3] = -1;
+        }
+        quad = new BakedQuad(data, 0, EnumFacing.NORTH, null, false, DefaultVertexFormats.BLOCK);
+    }
+
+    @Test
+    public void testQuadIsTranslatedToTheBlock()
+    {
+        PreviewMesh.addQuad(buffer, quad, new BlockPos(2, 3, 4), false, -1);
+        buffer.finishDrawing();
+
+        assertEquals(4, buffer.getVertexCount());
+        final IntBuffer ints = buffer.getByteBuffer().asIntBuffer();
+        assertEquals(3F, Float.intBitsToFloat(ints.get(2 * STRIDE)), DELTA);
+        assertEquals(4F, Float.intBitsToFloat(ints.get(2 * STRIDE + 1)), DELTA);
+        assertEquals(4F, Float.intBitsToFloat(ints.get(2 * STRIDE + 2)), DELTA);
+    }
+
+    @Test
+    public void testQuadOverExistingBlockIsScaled()
+    {
+        PreviewMesh.addQuad(buffer, quad, new BlockPos(2, 3, 4), true, -1);
+        buffer.finishDrawing();
+
+        final IntBuffer ints = buffer.getByteBuffer().asIntBuffer();
+        assertEquals(3.001F, Float.intBitsToFloat(ints.get(2 * STRIDE)), DELTA);
+        assertEquals(2F, Float.intBitsToFloat(ints.get(0)), DELTA);
+    }
+
+    @Test
+    public void testTintedQuadChangesColor()
+    {
+        PreviewMesh.addQuad(buffer, quad, BlockPos.ORIGIN, false, 0x00FF00);
+        buffer.finishDrawing();
+
+        final IntBuffer ints = buffer.getByteBuffer().asIntBuffer();
+        for (int vertex = 0; vertex < 4; vertex++)
+        {
+            assertNotEquals(-1, ints.get(vertex * STRIDE + 3));
+        }
+    }
+}